@@ -0,0 +1,237 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.processor;
+
+import com.github.vladislavsevruk.converter.annotation.ConversionMapping;
+import com.github.vladislavsevruk.converter.converter.storage.GeneratedConverterProvider;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates converters for mapping declarations annotated by <code>ConversionMapping</code>. For every abstract method
+ * of declaration converter from parameter type to return type is generated. Generated converters call getters and
+ * setters directly and pick type converters using <code>TypeConverterPicker</code> only for properties that require
+ * conversion. Converters of every declaration are created by generated <code>GeneratedConverterProvider</code> that is
+ * registered as service so converters are added to <code>TypeConverterStorageImpl</code> automatically. Custom getter
+ * setter mappings aren't taken into account by generated converters.
+ *
+ * @see ConversionMapping
+ * @see GeneratedConverterProvider
+ */
+@SupportedAnnotationTypes("com.github.vladislavsevruk.converter.annotation.ConversionMapping")
+public final class ConversionMappingProcessor extends AbstractProcessor {
+
+    static final String PROVIDERS_RESOURCE = "META-INF/services/" + GeneratedConverterProvider.class.getName();
+    private final Set<String> providerNames = new LinkedHashSet<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(ConversionMapping.class)) {
+            if (isDeclaration(element)) {
+                processDeclaration((TypeElement) element);
+            } else {
+                error(element, "Mapping declaration should be interface or abstract class.");
+            }
+        }
+        if (roundEnv.processingOver() && !providerNames.isEmpty()) {
+            writeProvidersResource();
+        }
+        return true;
+    }
+
+    private String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private String getBaseName(TypeElement declaration) {
+        StringBuilder baseName = new StringBuilder(declaration.getSimpleName());
+        Element enclosingElement = declaration.getEnclosingElement();
+        while (enclosingElement.getKind().isClass() || enclosingElement.getKind().isInterface()) {
+            baseName.insert(0, enclosingElement.getSimpleName() + "_");
+            enclosingElement = enclosingElement.getEnclosingElement();
+        }
+        return baseName.toString();
+    }
+
+    private boolean hasPublicNoArgsConstructor(TypeElement typeElement) {
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(typeElement.getEnclosedElements())) {
+            if (constructor.getModifiers().contains(Modifier.PUBLIC) && constructor.getParameters().isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isDeclaration(Element element) {
+        return element.getKind() == ElementKind.INTERFACE || (element.getKind() == ElementKind.CLASS && element
+                .getModifiers().contains(Modifier.ABSTRACT));
+    }
+
+    private boolean isValidAcceptor(TypeMirror type) {
+        if (!isValidDonor(type)) {
+            return false;
+        }
+        TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+        return typeElement.getKind() == ElementKind.CLASS && !typeElement.getModifiers().contains(Modifier.ABSTRACT)
+                && hasPublicNoArgsConstructor(typeElement);
+    }
+
+    private boolean isValidDonor(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED && ((DeclaredType) type).getTypeArguments().isEmpty()
+                && ((DeclaredType) type).asElement().getModifiers().contains(Modifier.PUBLIC);
+    }
+
+    private void processDeclaration(TypeElement declaration) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(declaration).getQualifiedName()
+                .toString();
+        String baseName = getBaseName(declaration);
+        PropertyMatcher propertyMatcher = new PropertyMatcher(processingEnv);
+        ConverterSourceWriter sourceWriter = new ConverterSourceWriter(processingEnv.getTypeUtils());
+        List<String> converterNames = new ArrayList<>();
+        Set<String> usedNames = new HashSet<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(declaration.getEnclosedElements())) {
+            if (!method.getModifiers().contains(Modifier.ABSTRACT)) {
+                continue;
+            }
+            if (method.getParameters().size() != 1) {
+                error(method, "Mapping method should have single parameter.");
+                continue;
+            }
+            TypeMirror donorType = method.getParameters().get(0).asType();
+            TypeMirror acceptorType = method.getReturnType();
+            if (!isValidDonor(donorType)) {
+                error(method, "Mapping method parameter should be public non-parameterized class.");
+                continue;
+            }
+            if (!isValidAcceptor(acceptorType)) {
+                error(method, "Mapping method should return public non-parameterized class with public constructor "
+                        + "without arguments.");
+                continue;
+            }
+            String converterName = baseName + "_" + capitalize(method.getSimpleName().toString()) + "Converter";
+            for (int i = 1; !usedNames.add(converterName); ++i) {
+                converterName = baseName + "_" + capitalize(method.getSimpleName().toString()) + i + "Converter";
+            }
+            List<PropertyMapping> mappings = propertyMatcher
+                    .match((DeclaredType) donorType, (DeclaredType) acceptorType);
+            writeSource(packageName, converterName, sourceWriter
+                    .writeConverter(packageName, converterName, (DeclaredType) donorType, (DeclaredType) acceptorType,
+                            mappings), declaration);
+            converterNames.add(converterName);
+        }
+        if (!converterNames.isEmpty()) {
+            String providerName = baseName + "_ConverterProvider";
+            writeSource(packageName, providerName, sourceWriter.writeProvider(packageName, providerName,
+                    converterNames), declaration);
+            providerNames.add(packageName.isEmpty() ? providerName : packageName + "." + providerName);
+        }
+    }
+
+    private Set<String> readExistingProviders(Filer filer) {
+        Set<String> existingProviders = new LinkedHashSet<>();
+        try {
+            FileObject resource = filer.getResource(StandardLocation.CLASS_OUTPUT, "", PROVIDERS_RESOURCE);
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(resource.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.trim().isEmpty()) {
+                        existingProviders.add(line.trim());
+                    }
+                }
+            }
+        } catch (IOException ioEx) {
+            // resource doesn't exist yet
+        }
+        return existingProviders;
+    }
+
+    private void writeProvidersResource() {
+        Filer filer = processingEnv.getFiler();
+        Set<String> allProviders = readExistingProviders(filer);
+        allProviders.addAll(providerNames);
+        try {
+            FileObject resource = filer.createResource(StandardLocation.CLASS_OUTPUT, "", PROVIDERS_RESOURCE);
+            try (Writer writer = resource.openWriter()) {
+                for (String provider : allProviders) {
+                    writer.write(provider);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException ioEx) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write " + PROVIDERS_RESOURCE + ": " + ioEx.getMessage());
+        }
+    }
+
+    private void writeSource(String packageName, String className, String source, TypeElement declaration) {
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, declaration).openWriter()) {
+            writer.write(source);
+        } catch (IOException ioEx) {
+            error(declaration, "Failed to write " + qualifiedName + ": " + ioEx.getMessage());
+        }
+    }
+}
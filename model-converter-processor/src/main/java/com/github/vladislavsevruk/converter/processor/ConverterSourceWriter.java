@@ -0,0 +1,210 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.processor;
+
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import java.util.List;
+
+/**
+ * Writes source code of converters and converter providers generated for mapping declarations.
+ */
+final class ConverterSourceWriter {
+
+    private static final String HEADER = "// Generated by ConversionMappingProcessor. Do not edit.\n";
+    private static final String INDENT = "    ";
+    private static final String TYPE_META = "com.github.vladislavsevruk.resolver.type.TypeMeta";
+    private final Types types;
+
+    ConverterSourceWriter(Types types) {
+        this.types = types;
+    }
+
+    /**
+     * Writes source code of converter from donor type to acceptor type.
+     *
+     * @param packageName  name of package for generated converter.
+     * @param className    simple name of generated converter.
+     * @param donorType    donor <code>DeclaredType</code>.
+     * @param acceptorType acceptor <code>DeclaredType</code>.
+     * @param mappings     <code>List</code> of matched properties.
+     * @return converter source code.
+     */
+    String writeConverter(String packageName, String className, DeclaredType donorType, DeclaredType acceptorType,
+            List<PropertyMapping> mappings) {
+        String donorName = donorType.toString();
+        String acceptorName = acceptorType.toString();
+        StringBuilder source = new StringBuilder(HEADER);
+        appendPackage(source, packageName);
+        source.append("public final class ").append(className)
+                .append(" extends com.github.vladislavsevruk.converter.converter.simple.AbstractClassConverter<")
+                .append(donorName).append(", ").append(acceptorName).append("> {\n\n");
+        for (int i = 0; i < mappings.size(); ++i) {
+            if (!mappings.get(i).isDirect()) {
+                source.append(INDENT).append("private static final ").append(TYPE_META).append("<?> ")
+                        .append(typeMetaName(i)).append(" = ")
+                        .append(typeMetaExpression(mappings.get(i).getSetterType())).append(";\n");
+            }
+        }
+        source.append(INDENT).append("private final com.github.vladislavsevruk.converter.context.ConversionContext ")
+                .append("conversionContext;\n\n");
+        source.append(INDENT).append("public ").append(className)
+                .append("(com.github.vladislavsevruk.converter.context.ConversionContext conversionContext) {\n");
+        source.append(INDENT).append(INDENT).append("this.conversionContext = conversionContext;\n");
+        source.append(INDENT).append("}\n\n");
+        appendTypeCheck(source, "checkFromType", "fromType", donorName);
+        appendTypeCheck(source, "checkToType", "toType", acceptorName);
+        source.append(INDENT).append("@Override\n");
+        source.append(INDENT).append("@SuppressWarnings(\"unchecked\")\n");
+        source.append(INDENT).append("protected ").append(acceptorName).append(" convertNonNullObject(")
+                .append(donorName).append(" from) {\n");
+        source.append(INDENT).append(INDENT).append(acceptorName).append(" to = new ").append(acceptorName)
+                .append("();\n");
+        for (int i = 0; i < mappings.size(); ++i) {
+            appendProperty(source, mappings.get(i), i);
+        }
+        source.append(INDENT).append(INDENT).append("return to;\n");
+        source.append(INDENT).append("}\n\n");
+        appendTypeGetter(source, "getFromType", donorName);
+        source.append('\n');
+        appendTypeGetter(source, "getToType", acceptorName);
+        return source.append("}\n").toString();
+    }
+
+    /**
+     * Writes source code of converter provider that creates received converters.
+     *
+     * @param packageName    name of package for generated provider.
+     * @param className      simple name of generated provider.
+     * @param converterNames <code>List</code> of simple names of generated converters from the same package.
+     * @return converter provider source code.
+     */
+    String writeProvider(String packageName, String className, List<String> converterNames) {
+        String converterType = "com.github.vladislavsevruk.converter.converter.simple.ClassTypeConverter<?>";
+        StringBuilder source = new StringBuilder(HEADER);
+        appendPackage(source, packageName);
+        source.append("public final class ").append(className).append(" implements ")
+                .append("com.github.vladislavsevruk.converter.converter.storage.GeneratedConverterProvider {\n\n");
+        source.append(INDENT).append("@Override\n");
+        source.append(INDENT).append("public java.util.List<").append(converterType).append("> getConverters(")
+                .append("com.github.vladislavsevruk.converter.context.ConversionContext conversionContext) {\n");
+        source.append(INDENT).append(INDENT).append("java.util.List<").append(converterType)
+                .append("> converters = new java.util.ArrayList<>();\n");
+        for (String converterName : converterNames) {
+            source.append(INDENT).append(INDENT).append("converters.add(new ").append(converterName)
+                    .append("(conversionContext));\n");
+        }
+        source.append(INDENT).append(INDENT).append("return converters;\n");
+        source.append(INDENT).append("}\n");
+        return source.append("}\n").toString();
+    }
+
+    private void appendConvertedValueSetter(StringBuilder source, String indent, PropertyMapping mapping,
+            String setterName) {
+        TypeMirror setterType = mapping.getSetterType();
+        String setterTypeName = boxedName(setterType);
+        if (!setterType.getKind().isPrimitive()) {
+            source.append(indent).append("to.").append(setterName).append("((").append(setterTypeName)
+                    .append(") converter.convert(value));\n");
+            return;
+        }
+        // converters return null for values they failed to convert so primitive setters are skipped like at runtime
+        source.append(indent).append(setterTypeName).append(" convertedValue = (").append(setterTypeName)
+                .append(") converter.convert(value);\n");
+        source.append(indent).append("if (convertedValue != null) {\n");
+        source.append(indent).append(INDENT).append("to.").append(setterName).append("(convertedValue);\n");
+        source.append(indent).append("}\n");
+    }
+
+    private void appendPackage(StringBuilder source, String packageName) {
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+    }
+
+    private void appendProperty(StringBuilder source, PropertyMapping mapping, int index) {
+        String indent = INDENT + INDENT;
+        String getterCall = "from." + mapping.getGetter().getSimpleName() + "()";
+        String setterName = mapping.getSetter().getSimpleName().toString();
+        TypeMirror getterType = mapping.getGetterType();
+        if (mapping.isDirect() && getterType.getKind().isPrimitive()) {
+            source.append(indent).append("to.").append(setterName).append('(').append(getterCall).append(");\n");
+            return;
+        }
+        source.append(indent).append("{\n");
+        String valueType = mapping.isDirect() ? getterType.toString() : "java.lang.Object";
+        source.append(indent).append(INDENT).append(valueType).append(" value = ").append(getterCall).append(";\n");
+        source.append(indent).append(INDENT).append("if (value != null) {\n");
+        if (mapping.isDirect()) {
+            source.append(indent).append(INDENT).append(INDENT).append("to.").append(setterName)
+                    .append("(value);\n");
+        } else {
+            source.append(indent).append(INDENT).append(INDENT)
+                    .append("com.github.vladislavsevruk.converter.converter.simple.ClassTypeConverter<?> converter = ")
+                    .append("conversionContext.getTypeConverterPicker().pickConverter(value.getClass(), ")
+                    .append(typeMetaName(index)).append(");\n");
+            source.append(indent).append(INDENT).append(INDENT).append("if (converter != null) {\n");
+            appendConvertedValueSetter(source, indent + INDENT + INDENT + INDENT, mapping, setterName);
+            source.append(indent).append(INDENT).append(INDENT).append("}\n");
+        }
+        source.append(indent).append(INDENT).append("}\n");
+        source.append(indent).append("}\n");
+    }
+
+    private void appendTypeCheck(StringBuilder source, String methodName, String parameterName, String typeName) {
+        source.append(INDENT).append("@Override\n");
+        source.append(INDENT).append("protected boolean ").append(methodName).append("(java.lang.Class<?> ")
+                .append(parameterName).append(") {\n");
+        source.append(INDENT).append(INDENT).append("return ").append(typeName).append(".class == ")
+                .append(parameterName).append(";\n");
+        source.append(INDENT).append("}\n\n");
+    }
+
+    private void appendTypeGetter(StringBuilder source, String methodName, String typeName) {
+        source.append(INDENT).append("@Override\n");
+        source.append(INDENT).append("protected java.lang.Class<?> ").append(methodName).append("() {\n");
+        source.append(INDENT).append(INDENT).append("return ").append(typeName).append(".class;\n");
+        source.append(INDENT).append("}\n");
+    }
+
+    private String boxedName(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return types.boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        }
+        return type.toString();
+    }
+
+    private String typeMetaExpression(TypeMirror type) {
+        if (PropertyMatcher.nonParameterized(type)) {
+            return "new " + TYPE_META + "<>(" + boxedName(type) + ".class)";
+        }
+        return "new com.github.vladislavsevruk.resolver.type.TypeProvider<" + type + ">() {}.getTypeMeta()";
+    }
+
+    private String typeMetaName(int index) {
+        return "TYPE_META_" + index;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.processor;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * Represents matched pair of donor getter and acceptor setter with resolved types.
+ */
+final class PropertyMapping {
+
+    private final boolean direct;
+    private final ExecutableElement getter;
+    private final TypeMirror getterType;
+    private final ExecutableElement setter;
+    private final TypeMirror setterType;
+
+    PropertyMapping(ExecutableElement getter, TypeMirror getterType, ExecutableElement setter,
+            TypeMirror setterType, boolean direct) {
+        this.getter = getter;
+        this.getterType = getterType;
+        this.setter = setter;
+        this.setterType = setterType;
+        this.direct = direct;
+    }
+
+    /**
+     * Returns donor getter.
+     */
+    ExecutableElement getGetter() {
+        return getter;
+    }
+
+    /**
+     * Returns return type of donor getter resolved for donor type.
+     */
+    TypeMirror getGetterType() {
+        return getterType;
+    }
+
+    /**
+     * Returns acceptor setter.
+     */
+    ExecutableElement getSetter() {
+        return setter;
+    }
+
+    /**
+     * Returns parameter type of acceptor setter resolved for acceptor type.
+     */
+    TypeMirror getSetterType() {
+        return setterType;
+    }
+
+    /**
+     * Checks if getter value can be passed to setter without conversion.
+     *
+     * @return <code>true</code> if value can be passed directly, <code>false</code> if converter should be picked.
+     */
+    boolean isDirect() {
+        return direct;
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Matches getters of donor type with setters of acceptor type using the same rules as
+ * <code>GetterSetterMapperImpl</code>: names should be equal in classic or fluent style, setter with the same parameter
+ * type is preferred over setter with assignable parameter type which is preferred over setter that requires
+ * conversion. As types are resolved at compile time declared getter return type is used instead of actual value type.
+ */
+final class PropertyMatcher {
+
+    private static final String GETTER_PREFIX = "get";
+    private static final String SETTER_PREFIX = "set";
+    private final Elements elements;
+    private final List<ExecutableElement> objectMethods;
+    private final Types types;
+
+    PropertyMatcher(ProcessingEnvironment processingEnvironment) {
+        this.elements = processingEnvironment.getElementUtils();
+        this.types = processingEnvironment.getTypeUtils();
+        this.objectMethods = ElementFilter
+                .methodsIn(elements.getTypeElement(Object.class.getName()).getEnclosedElements());
+    }
+
+    /**
+     * Checks if received type has no generic parameters so value can be assigned without conversion of inner types.
+     *
+     * @param type <code>TypeMirror</code> to check.
+     * @return <code>true</code> if type is primitive or declared type without type arguments, <code>false</code>
+     * otherwise.
+     */
+    static boolean nonParameterized(TypeMirror type) {
+        return type.getKind().isPrimitive() || (type.getKind() == TypeKind.DECLARED && ((DeclaredType) type)
+                .getTypeArguments().isEmpty());
+    }
+
+    private static boolean isNamesMatch(String donorMethodName, String acceptorMethodName) {
+        if (donorMethodName.equals(acceptorMethodName)) {
+            return true;
+        }
+        String donorMethodNameWithoutPrefix = removePrefix(donorMethodName, GETTER_PREFIX);
+        String acceptorMethodNameWithoutPrefix = removePrefix(acceptorMethodName, SETTER_PREFIX);
+        return donorMethodNameWithoutPrefix.equals(acceptorMethodName) || donorMethodName
+                .equals(acceptorMethodNameWithoutPrefix) || donorMethodNameWithoutPrefix
+                .equals(acceptorMethodNameWithoutPrefix);
+    }
+
+    private static String removePrefix(String methodName, String prefix) {
+        int prefixLength = prefix.length();
+        if (!methodName.startsWith(prefix) || methodName.length() == prefixLength) {
+            return methodName;
+        }
+        return methodName.substring(prefixLength, prefixLength + 1).toLowerCase() + methodName
+                .substring(prefixLength + 1);
+    }
+
+    /**
+     * Matches getters of donor type with setters of acceptor type.
+     *
+     * @param donorType    donor <code>DeclaredType</code>.
+     * @param acceptorType acceptor <code>DeclaredType</code>.
+     * @return <code>List</code> of matched properties.
+     */
+    List<PropertyMapping> match(DeclaredType donorType, DeclaredType acceptorType) {
+        List<ExecutableElement> setters = collectMethods(acceptorType, 1);
+        List<PropertyMapping> mappings = new ArrayList<>();
+        for (ExecutableElement getter : collectMethods(donorType, 0)) {
+            TypeMirror getterType = ((ExecutableType) types.asMemberOf(donorType, getter)).getReturnType();
+            if (getterType.getKind() == TypeKind.VOID || !isExpressible(getterType)) {
+                continue;
+            }
+            PropertyMapping mapping = matchSetter(getter, getterType, acceptorType, setters);
+            if (mapping != null) {
+                mappings.add(mapping);
+            }
+        }
+        return mappings;
+    }
+
+    private List<ExecutableElement> collectMethods(DeclaredType type, int parametersNumber) {
+        List<ExecutableElement> methods = new ArrayList<>();
+        TypeElement typeElement = (TypeElement) type.asElement();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(typeElement))) {
+            if (method.getModifiers().contains(Modifier.PUBLIC) && !method.getModifiers().contains(Modifier.STATIC)
+                    && method.getParameters().size() == parametersNumber && !isObjectMethod(method)) {
+                methods.add(method);
+            }
+        }
+        return methods;
+    }
+
+    private boolean isExpressible(TypeMirror type) {
+        // types with type variables or wildcards can't be used for type meta of generated converter
+        if (type.getKind() == TypeKind.ARRAY) {
+            return isExpressible(((ArrayType) type).getComponentType());
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            return type.getKind().isPrimitive();
+        }
+        for (TypeMirror typeArgument : ((DeclaredType) type).getTypeArguments()) {
+            if (!isExpressible(typeArgument)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isObjectMethod(ExecutableElement method) {
+        for (ExecutableElement objectMethod : objectMethods) {
+            if (objectMethod.getSimpleName().equals(method.getSimpleName()) && isSameParameters(objectMethod,
+                    method)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isSameParameters(ExecutableElement method1, ExecutableElement method2) {
+        if (method1.getParameters().size() != method2.getParameters().size()) {
+            return false;
+        }
+        for (int i = 0; i < method1.getParameters().size(); ++i) {
+            if (!types.isSameType(types.erasure(method1.getParameters().get(i).asType()),
+                    types.erasure(method2.getParameters().get(i).asType()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private PropertyMapping matchSetter(ExecutableElement getter, TypeMirror getterType, DeclaredType acceptorType,
+            List<ExecutableElement> setters) {
+        PropertyMapping matchingTypeMapping = null;
+        PropertyMapping candidateMapping = null;
+        for (ExecutableElement setter : setters) {
+            if (!isNamesMatch(getter.getSimpleName().toString(), setter.getSimpleName().toString())) {
+                continue;
+            }
+            TypeMirror setterType = ((ExecutableType) types.asMemberOf(acceptorType, setter)).getParameterTypes()
+                    .get(0);
+            if (!isExpressible(setterType)) {
+                continue;
+            }
+            if (types.isSameType(getterType, setterType)) {
+                // if types are the same return mapping straight away
+                return new PropertyMapping(getter, getterType, setter, setterType, nonParameterized(setterType));
+            }
+            if (matchingTypeMapping == null && types.isAssignable(getterType, setterType)) {
+                // otherwise pick first found setter with matching types
+                matchingTypeMapping = new PropertyMapping(getter, getterType, setter, setterType,
+                        nonParameterized(setterType));
+            }
+            if (candidateMapping == null) {
+                candidateMapping = new PropertyMapping(getter, getterType, setter, setterType, false);
+            }
+        }
+        return matchingTypeMapping != null ? matchingTypeMapping : candidateMapping;
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.processor;
+
+import com.github.vladislavsevruk.converter.context.ConversionContext;
+import com.github.vladislavsevruk.converter.context.ConversionContextManager;
+import com.github.vladislavsevruk.converter.converter.TypeConverter;
+import com.github.vladislavsevruk.converter.converter.simple.ClassTypeConverter;
+import com.github.vladislavsevruk.converter.converter.storage.GeneratedConverterProvider;
+import com.github.vladislavsevruk.converter.converter.storage.TypeConverterStorageImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceLoader;
+
+class ConversionMappingProcessorTest {
+
+    private static final String ACCEPTOR_SOURCE = "package sample;\n"
+            + "public class Acceptor {\n"
+            + "    private int code; private int count; private Long total; private String name;\n"
+            + "    private Integer number;\n"
+            + "    public int getCode() { return code; }\n"
+            + "    public void setCode(int code) { this.code = code; }\n"
+            + "    public int getCount() { return count; }\n"
+            + "    public void setCount(int count) { this.count = count; }\n"
+            + "    public Long getTotal() { return total; }\n"
+            + "    public void setTotal(Long total) { this.total = total; }\n"
+            + "    public String getName() { return name; }\n"
+            + "    public void setName(String name) { this.name = name; }\n"
+            + "    public Integer getNumber() { return number; }\n"
+            + "    public void setNumber(Integer number) { this.number = number; }\n"
+            + "}\n";
+    private static final String DECLARATION_SOURCE = "package sample;\n"
+            + "@com.github.vladislavsevruk.converter.annotation.ConversionMapping\n"
+            + "public interface SampleMapping {\n"
+            + "    Acceptor toAcceptor(Donor donor);\n"
+            + "}\n";
+    private static final String DONOR_SOURCE = "package sample;\n"
+            + "public class Donor {\n"
+            + "    private String code; private int count; private Long total; private String name;\n"
+            + "    private String number;\n"
+            + "    public String getCode() { return code; }\n"
+            + "    public void setCode(String code) { this.code = code; }\n"
+            + "    public int getCount() { return count; }\n"
+            + "    public void setCount(int count) { this.count = count; }\n"
+            + "    public Long getTotal() { return total; }\n"
+            + "    public void setTotal(Long total) { this.total = total; }\n"
+            + "    public String getName() { return name; }\n"
+            + "    public void setName(String name) { this.name = name; }\n"
+            + "    public String getNumber() { return number; }\n"
+            + "    public void setNumber(String number) { this.number = number; }\n"
+            + "}\n";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void generatedConverterConvertsMatchedPropertiesTest() throws Exception {
+        DiagnosticCollector<JavaFileObject> diagnostics = compile(DECLARATION_SOURCE);
+        Assertions.assertTrue(getErrors(diagnostics).isEmpty(), getErrors(diagnostics).toString());
+        try (URLClassLoader classLoader = createClassLoader()) {
+            ClassTypeConverter<?> converter = getGeneratedConverters(classLoader).get(0);
+            Class<?> donorClass = classLoader.loadClass("sample.Donor");
+            Class<?> acceptorClass = classLoader.loadClass("sample.Acceptor");
+            Assertions.assertTrue(converter.canConvert(donorClass, acceptorClass));
+            Object donor = donorClass.getConstructor().newInstance();
+            donorClass.getMethod("setCode", String.class).invoke(donor, "20");
+            donorClass.getMethod("setCount", int.class).invoke(donor, 5);
+            donorClass.getMethod("setTotal", Long.class).invoke(donor, 10L);
+            donorClass.getMethod("setName", String.class).invoke(donor, "testName");
+            donorClass.getMethod("setNumber", String.class).invoke(donor, "15");
+            Object acceptor = converter.convert(donor);
+            Assertions.assertEquals(acceptorClass, acceptor.getClass());
+            Assertions.assertEquals(20, acceptorClass.getMethod("getCode").invoke(acceptor));
+            Assertions.assertEquals(5, acceptorClass.getMethod("getCount").invoke(acceptor));
+            Assertions.assertEquals(10L, acceptorClass.getMethod("getTotal").invoke(acceptor));
+            Assertions.assertEquals("testName", acceptorClass.getMethod("getName").invoke(acceptor));
+            Assertions.assertEquals(15, acceptorClass.getMethod("getNumber").invoke(acceptor));
+        }
+    }
+
+    @Test
+    void generatedConverterIsRegisteredAtStorageTest() throws Exception {
+        Assertions.assertTrue(getErrors(compile(DECLARATION_SOURCE)).isEmpty());
+        // context should be initialized before class loader switch to avoid loading of generated converters into it
+        ConversionContext conversionContext = ConversionContextManager.getContext();
+        Thread currentThread = Thread.currentThread();
+        ClassLoader initialClassLoader = currentThread.getContextClassLoader();
+        try (URLClassLoader classLoader = createClassLoader()) {
+            currentThread.setContextClassLoader(classLoader);
+            TypeConverterStorageImpl storage = new TypeConverterStorageImpl(conversionContext);
+            Class<?> converterClass = classLoader.loadClass("sample.SampleMapping_ToAcceptorConverter");
+            TypeConverter generatedConverter = storage.getAll().stream().filter(converterClass::isInstance)
+                    .findFirst().orElse(null);
+            Assertions.assertNotNull(generatedConverter);
+            Assertions.assertFalse(storage.isDefaultConverter(generatedConverter));
+        } finally {
+            currentThread.setContextClassLoader(initialClassLoader);
+        }
+    }
+
+    @Test
+    void generatedConverterSkipsFailedConversionForPrimitiveSetterTest() throws Exception {
+        Assertions.assertTrue(getErrors(compile(DECLARATION_SOURCE)).isEmpty());
+        try (URLClassLoader classLoader = createClassLoader()) {
+            ClassTypeConverter<?> converter = getGeneratedConverters(classLoader).get(0);
+            Class<?> donorClass = classLoader.loadClass("sample.Donor");
+            Class<?> acceptorClass = classLoader.loadClass("sample.Acceptor");
+            Object donor = donorClass.getConstructor().newInstance();
+            donorClass.getMethod("setCode", String.class).invoke(donor, "malformed");
+            donorClass.getMethod("setCount", int.class).invoke(donor, 5);
+            Object acceptor = converter.convert(donor);
+            Assertions.assertEquals(0, acceptorClass.getMethod("getCode").invoke(acceptor));
+            Assertions.assertEquals(5, acceptorClass.getMethod("getCount").invoke(acceptor));
+        }
+    }
+
+    @Test
+    void nonAbstractDeclarationTest() throws Exception {
+        String declaration = "package sample;\n"
+                + "@com.github.vladislavsevruk.converter.annotation.ConversionMapping\n"
+                + "public class SampleMapping {\n"
+                + "}\n";
+        Assertions.assertEquals(1, getErrors(compile(declaration)).size());
+    }
+
+    @Test
+    void parameterizedDonorTest() throws Exception {
+        String declaration = "package sample;\n"
+                + "@com.github.vladislavsevruk.converter.annotation.ConversionMapping\n"
+                + "public interface SampleMapping {\n"
+                + "    Acceptor toAcceptor(java.util.List<Donor> donors);\n"
+                + "}\n";
+        Assertions.assertEquals(1, getErrors(compile(declaration)).size());
+    }
+
+    private DiagnosticCollector<JavaFileObject> compile(String declarationSource) throws IOException {
+        Path sourceDir = Files.createDirectories(tempDir.resolve("src").resolve("sample"));
+        List<File> sources = new ArrayList<>();
+        sources.add(writeSource(sourceDir, "Acceptor", ACCEPTOR_SOURCE));
+        sources.add(writeSource(sourceDir, "Donor", DONOR_SOURCE));
+        sources.add(writeSource(sourceDir, "SampleMapping", declarationSource));
+        Path classesDir = Files.createDirectories(tempDir.resolve("classes"));
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler
+                .getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            List<String> options = Arrays
+                    .asList("-classpath", System.getProperty("java.class.path"), "-d", classesDir.toString());
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                    fileManager.getJavaFileObjectsFromFiles(sources));
+            task.setProcessors(Arrays.asList(new ConversionMappingProcessor()));
+            task.call();
+        }
+        return diagnostics;
+    }
+
+    private URLClassLoader createClassLoader() throws IOException {
+        URL classesUrl = tempDir.resolve("classes").toUri().toURL();
+        return new URLClassLoader(new URL[]{ classesUrl }, getClass().getClassLoader());
+    }
+
+    private List<Diagnostic<? extends JavaFileObject>> getErrors(DiagnosticCollector<JavaFileObject> diagnostics) {
+        List<Diagnostic<? extends JavaFileObject>> errors = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.add(diagnostic);
+            }
+        }
+        return errors;
+    }
+
+    private List<ClassTypeConverter<?>> getGeneratedConverters(ClassLoader classLoader) {
+        Iterator<GeneratedConverterProvider> providers = ServiceLoader
+                .load(GeneratedConverterProvider.class, classLoader).iterator();
+        Assertions.assertTrue(providers.hasNext());
+        List<ClassTypeConverter<?>> converters = providers.next().getConverters(ConversionContextManager.getContext());
+        Assertions.assertFalse(providers.hasNext());
+        return converters;
+    }
+
+    private File writeSource(Path sourceDir, String className, String source) throws IOException {
+        return Files.write(sourceDir.resolve(className + ".java"), source.getBytes(StandardCharsets.UTF_8)).toFile();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.jfr;
+
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Java Flight Recorder event for conversion of value to target type. Event start time and duration match start and
+ * completion of conversion.
+ */
+@Category("Model Converter")
+@Description("Conversion of value to target type")
+@Label("Conversion")
+@Name("com.github.vladislavsevruk.converter.Conversion")
+@StackTrace(false)
+public final class ConversionEvent extends Event implements ConversionEventRecorder {
+
+    @Description("Number of elements of converted array, collection or map or -1 for other values")
+    @Label("Element Count")
+    private int elementCount;
+    @Label("Failed")
+    private boolean failed;
+    @Label("Source Type")
+    private Class<?> sourceType;
+    @Label("Target Type")
+    private String targetType;
+
+    /**
+     * Fills event fields and commits event provided it passes recording settings.
+     *
+     * @param from   converted value.
+     * @param toMeta <code>TypeMeta</code> of conversion target type.
+     * @param failed <code>true</code> if conversion completed with exception, <code>false</code> otherwise.
+     */
+    @Override
+    public void complete(Object from, TypeMeta<?> toMeta, boolean failed) {
+        end();
+        if (shouldCommit()) {
+            this.elementCount = getElementCount(from);
+            this.failed = failed;
+            this.sourceType = from.getClass();
+            this.targetType = toMeta.toString();
+            commit();
+        }
+    }
+
+    private static int getElementCount(Object from) {
+        if (from.getClass().isArray()) {
+            return Array.getLength(from);
+        }
+        if (from instanceof Collection) {
+            return ((Collection<?>) from).size();
+        }
+        if (from instanceof Map) {
+            return ((Map<?, ?>) from).size();
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.jfr;
+
+import com.github.vladislavsevruk.converter.converter.simple.ClassTypeConverter;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for resolution of converter for pair of source class and target type.
+ */
+@Category("Model Converter")
+@Description("Resolution of converter for pair of source class and target type")
+@Label("Converter Resolution")
+@Name("com.github.vladislavsevruk.converter.ConverterResolution")
+@StackTrace(false)
+public final class ConverterResolutionEvent extends Event implements ConverterResolutionEventRecorder {
+
+    @Description("Whether converter was taken from cache of picked converters")
+    @Label("Cache Hit")
+    private boolean cacheHit;
+    @Label("Converter")
+    private String converter;
+    @Label("Source Type")
+    private Class<?> sourceType;
+    @Label("Target Type")
+    private String targetType;
+
+    /**
+     * Fills event fields and commits event provided it passes recording settings.
+     *
+     * @param from      source class.
+     * @param toMeta    <code>TypeMeta</code> of target type.
+     * @param cacheHit  <code>true</code> if converter was taken from cache, <code>false</code> otherwise.
+     * @param converter picked converter or <code>null</code> if there is no matching converter.
+     */
+    @Override
+    public void complete(Class<?> from, TypeMeta<?> toMeta, boolean cacheHit, ClassTypeConverter<?> converter) {
+        end();
+        if (shouldCommit()) {
+            this.cacheHit = cacheHit;
+            this.converter = converter == null ? null : converter.getName();
+            this.sourceType = from;
+            this.targetType = toMeta.toString();
+            commit();
+        }
+    }
+}
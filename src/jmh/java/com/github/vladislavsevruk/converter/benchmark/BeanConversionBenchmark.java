@@ -0,0 +1,100 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.benchmark;
+
+import com.github.vladislavsevruk.converter.ModelConverter;
+import com.github.vladislavsevruk.converter.benchmark.model.BenchmarkModels;
+import com.github.vladislavsevruk.converter.benchmark.model.FlatAcceptorModel;
+import com.github.vladislavsevruk.converter.benchmark.model.FlatDonorModel;
+import com.github.vladislavsevruk.converter.benchmark.model.NestedAcceptorModel;
+import com.github.vladislavsevruk.converter.benchmark.model.NestedDonorModel;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures conversion of beans, nested bean graphs and collections of beans through <code>ModelConverter</code>.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class BeanConversionBenchmark {
+
+    private static final TypeProvider<List<FlatAcceptorModel>> LIST_TYPE
+            = new TypeProvider<List<FlatAcceptorModel>>() {};
+    private static final TypeProvider<Map<String, FlatAcceptorModel>> MAP_TYPE
+            = new TypeProvider<Map<String, FlatAcceptorModel>>() {};
+    @Param({ "10", "100" })
+    private int collectionSize;
+    private FlatDonorModel flatDonor;
+    private List<FlatDonorModel> flatDonorList;
+    private Map<String, FlatDonorModel> flatDonorMap;
+    private ModelConverter modelConverter;
+    private NestedDonorModel nestedDonor;
+
+    @Setup
+    public void setUp() {
+        modelConverter = new ModelConverter();
+        flatDonor = BenchmarkModels.flatDonor(1);
+        flatDonorList = BenchmarkModels.flatDonorList(collectionSize);
+        flatDonorMap = BenchmarkModels.flatDonorMap(collectionSize);
+        nestedDonor = BenchmarkModels.nestedDonor(collectionSize);
+    }
+
+    @Benchmark
+    public List<FlatAcceptorModel> beanList() {
+        return modelConverter.convert(flatDonorList, LIST_TYPE);
+    }
+
+    @Benchmark
+    public Map<String, FlatAcceptorModel> beanMap() {
+        return modelConverter.convert(flatDonorMap, MAP_TYPE);
+    }
+
+    @Benchmark
+    public FlatAcceptorModel flatBean() {
+        return modelConverter.convert(flatDonor, FlatAcceptorModel.class);
+    }
+
+    @Benchmark
+    public NestedAcceptorModel nestedBean() {
+        return modelConverter.convert(nestedDonor, NestedAcceptorModel.class);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.benchmark;
+
+import com.github.vladislavsevruk.converter.context.ConversionContext;
+import com.github.vladislavsevruk.converter.context.ConversionContextManager;
+import com.github.vladislavsevruk.converter.converter.picker.TypeConverterPicker;
+import com.github.vladislavsevruk.converter.converter.picker.TypeConverterPickerImpl;
+import com.github.vladislavsevruk.converter.converter.simple.ClassTypeConverter;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures converter resolution by <code>TypeConverterPickerImpl</code>. Cold resolution is measured using picker
+ * with single entry cache and alternating target types so every pick misses cache.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+public class ConverterPickerBenchmark {
+
+    private static final TypeMeta<Integer> INTEGER_META = new TypeMeta<>(Integer.class);
+    private static final TypeMeta<Long> LONG_META = new TypeMeta<>(Long.class);
+    private TypeConverterPicker coldPicker;
+    private boolean pickLong;
+    private TypeConverterPicker warmPicker;
+
+    @Setup
+    public void setUp() {
+        ConversionContext conversionContext = ConversionContextManager.getContext();
+        coldPicker = new TypeConverterPickerImpl(conversionContext, 1);
+        warmPicker = new TypeConverterPickerImpl(conversionContext);
+    }
+
+    @Benchmark
+    public ClassTypeConverter<?> coldPick() {
+        pickLong = !pickLong;
+        return pickLong ? coldPicker.pickConverter(String.class, LONG_META)
+                : coldPicker.pickConverter(String.class, INTEGER_META);
+    }
+
+    @Benchmark
+    public ClassTypeConverter<?> warmPick() {
+        return warmPicker.pickConverter(String.class, INTEGER_META);
+    }
+}
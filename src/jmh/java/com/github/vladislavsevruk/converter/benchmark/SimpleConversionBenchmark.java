@@ -0,0 +1,93 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.benchmark;
+
+import com.github.vladislavsevruk.converter.ModelConverter;
+import com.github.vladislavsevruk.converter.benchmark.model.Status;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures conversion of strings to numbers, enums and booleans through <code>ModelConverter</code>.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class SimpleConversionBenchmark {
+
+    private String booleanValue;
+    private String doubleValue;
+    private String enumValue;
+    private String integerValue;
+    private String longValue;
+    private ModelConverter modelConverter;
+
+    @Setup
+    public void setUp() {
+        modelConverter = new ModelConverter();
+        booleanValue = "true";
+        doubleValue = "12345.678";
+        enumValue = Status.BLOCKED.name();
+        integerValue = "123456";
+        longValue = "1234567890123";
+    }
+
+    @Benchmark
+    public Boolean stringToBoolean() {
+        return modelConverter.convert(booleanValue, Boolean.class);
+    }
+
+    @Benchmark
+    public Double stringToDouble() {
+        return modelConverter.convert(doubleValue, Double.class);
+    }
+
+    @Benchmark
+    public Status stringToEnum() {
+        return modelConverter.convert(enumValue, Status.class);
+    }
+
+    @Benchmark
+    public Integer stringToInteger() {
+        return modelConverter.convert(integerValue, Integer.class);
+    }
+
+    @Benchmark
+    public Long stringToLong() {
+        return modelConverter.convert(longValue, Long.class);
+    }
+}
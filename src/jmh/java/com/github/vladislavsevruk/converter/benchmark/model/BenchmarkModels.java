@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.benchmark.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates donor models with deterministic values for benchmarks.
+ */
+public final class BenchmarkModels {
+
+    private BenchmarkModels() {
+    }
+
+    /**
+     * Creates flat donor model with values depending on received index.
+     *
+     * @param index index of model.
+     * @return new <code>FlatDonorModel</code>.
+     */
+    public static FlatDonorModel flatDonor(int index) {
+        FlatDonorModel donor = new FlatDonorModel();
+        donor.setAmount(index + ".25");
+        donor.setCount(index);
+        donor.setId((long) index * 31);
+        donor.setName("name-" + index);
+        donor.setStatus(Status.values()[index % Status.values().length].name());
+        return donor;
+    }
+
+    /**
+     * Creates list of flat donor models.
+     *
+     * @param size number of models at list.
+     * @return new <code>List</code> of <code>FlatDonorModel</code>.
+     */
+    public static List<FlatDonorModel> flatDonorList(int size) {
+        List<FlatDonorModel> donors = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            donors.add(flatDonor(i));
+        }
+        return donors;
+    }
+
+    /**
+     * Creates map of flat donor models with model names as keys.
+     *
+     * @param size number of models at map.
+     * @return new <code>Map</code> of <code>FlatDonorModel</code>.
+     */
+    public static Map<String, FlatDonorModel> flatDonorMap(int size) {
+        Map<String, FlatDonorModel> donors = new LinkedHashMap<>();
+        for (int i = 0; i < size; ++i) {
+            FlatDonorModel donor = flatDonor(i);
+            donors.put(donor.getName(), donor);
+        }
+        return donors;
+    }
+
+    /**
+     * Creates nested donor model with owner and received number of items.
+     *
+     * @param itemsSize number of items at nested list.
+     * @return new <code>NestedDonorModel</code>.
+     */
+    public static NestedDonorModel nestedDonor(int itemsSize) {
+        NestedDonorModel donor = new NestedDonorModel();
+        donor.setItems(flatDonorList(itemsSize));
+        donor.setOwner(flatDonor(itemsSize));
+        donor.setTitle("title-" + itemsSize);
+        return donor;
+    }
+}
@@ -25,13 +25,22 @@ package com.github.vladislavsevruk.converter;
 
 import com.github.vladislavsevruk.converter.context.ConversionContext;
 import com.github.vladislavsevruk.converter.context.ConversionContextManager;
+import com.github.vladislavsevruk.converter.converter.parameterized.ElementConverter;
 import com.github.vladislavsevruk.converter.exception.InstanceCreationException;
+import com.github.vladislavsevruk.converter.exception.TypeConversionException;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import com.github.vladislavsevruk.resolver.type.TypeProvider;
 import com.github.vladislavsevruk.resolver.util.PrimitiveWrapperUtil;
 import lombok.extern.log4j.Log4j2;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * This tool is designed for conversion POJOs from one type to another using public constructors without arguments and
@@ -106,7 +115,334 @@ public class ModelConverter {
         return conversionContext.getConversionEngine().convert(from, (TypeMeta<T>) toTypeMeta);
     }
 
+    /**
+     * Converts every model of received iterable to target type. Converter is resolved once per distinct class of
+     * models so homogeneous batches are converted without repeated resolution. <code>null</code> elements are
+     * converted to <code>null</code>.
+     *
+     * @param from   <code>Iterable</code> with models to convert.
+     * @param toType target model class.
+     * @param <T>    the type represented by target class.
+     * @return <code>List</code> with converted models in iteration order.
+     * @throws InstanceCreationException if target class is abstract or has no public constructor without arguments.
+     */
+    public <T> List<T> convertAll(Iterable<?> from, Class<T> toType) {
+        if (from == null) {
+            logReceivedNullValue();
+            return null;
+        }
+        return convertAll(from, toType, createResultList(from));
+    }
+
+    /**
+     * Converts every model of received iterable to target type and adds them to received list. Converter is resolved
+     * once per distinct class of models so homogeneous batches are converted without repeated resolution.
+     * <code>null</code> elements are converted to <code>null</code>.
+     *
+     * @param from   <code>Iterable</code> with models to convert.
+     * @param toType target model class.
+     * @param result <code>List</code> to add converted models to.
+     * @param <T>    the type represented by target class.
+     * @return received result list.
+     * @throws InstanceCreationException if target class is abstract or has no public constructor without arguments.
+     */
+    public <T> List<T> convertAll(Iterable<?> from, Class<T> toType, List<T> result) {
+        return convertAll(from, getTypeMeta(toType), result);
+    }
+
+    /**
+     * Converts every model of received iterable to target type. Uses descendants of <code>TypeProvider</code> for
+     * receiving meta information of generic types. Converter is resolved once per distinct class of models so
+     * homogeneous batches are converted without repeated resolution. <code>null</code> elements are converted to
+     * <code>null</code>.
+     *
+     * @param from   <code>Iterable</code> with models to convert.
+     * @param toType <code>TypeProvider</code> that provides generic type of target model.
+     * @param <T>    descendant of <code>TypeProvider</code> with target type.
+     * @return <code>List</code> with converted models in iteration order.
+     * @throws InstanceCreationException if target class is abstract or has no public constructor without arguments.
+     * @see TypeProvider
+     */
+    public <T> List<T> convertAll(Iterable<?> from, TypeProvider<T> toType) {
+        if (from == null) {
+            logReceivedNullValue();
+            return null;
+        }
+        return convertAll(from, toType, createResultList(from));
+    }
+
+    /**
+     * Converts every model of received iterable to target type and adds them to received list. Uses descendants of
+     * <code>TypeProvider</code> for receiving meta information of generic types. Converter is resolved once per
+     * distinct class of models so homogeneous batches are converted without repeated resolution. <code>null</code>
+     * elements are converted to <code>null</code>.
+     *
+     * @param from   <code>Iterable</code> with models to convert.
+     * @param toType <code>TypeProvider</code> that provides generic type of target model.
+     * @param result <code>List</code> to add converted models to.
+     * @param <T>    descendant of <code>TypeProvider</code> with target type.
+     * @return received result list.
+     * @throws InstanceCreationException if target class is abstract or has no public constructor without arguments.
+     * @see TypeProvider
+     */
+    public <T> List<T> convertAll(Iterable<?> from, TypeProvider<T> toType, List<T> result) {
+        return convertAll(from, getTypeMeta(toType), result);
+    }
+
+    /**
+     * Converts every model of received array to target type. Converter is resolved once per distinct class of models
+     * so homogeneous batches are converted without repeated resolution. <code>null</code> elements are converted to
+     * <code>null</code>.
+     *
+     * @param from   array with models to convert.
+     * @param toType target model class.
+     * @param <T>    the type represented by target class.
+     * @return <code>List</code> with converted models in array order.
+     * @throws InstanceCreationException if target class is abstract or has no public constructor without arguments.
+     */
+    public <T> List<T> convertAll(Object[] from, Class<T> toType) {
+        if (from == null) {
+            logReceivedNullValue();
+            return null;
+        }
+        return convertAll(Arrays.asList(from), toType);
+    }
+
+    /**
+     * Converts every model of received array to target type. Uses descendants of <code>TypeProvider</code> for
+     * receiving meta information of generic types. Converter is resolved once per distinct class of models so
+     * homogeneous batches are converted without repeated resolution. <code>null</code> elements are converted to
+     * <code>null</code>.
+     *
+     * @param from   array with models to convert.
+     * @param toType <code>TypeProvider</code> that provides generic type of target model.
+     * @param <T>    descendant of <code>TypeProvider</code> with target type.
+     * @return <code>List</code> with converted models in array order.
+     * @throws InstanceCreationException if target class is abstract or has no public constructor without arguments.
+     * @see TypeProvider
+     */
+    public <T> List<T> convertAll(Object[] from, TypeProvider<T> toType) {
+        if (from == null) {
+            logReceivedNullValue();
+            return null;
+        }
+        return convertAll(Arrays.asList(from), toType);
+    }
+
+    /**
+     * Converts one model into existing instance of another. Fills received target model using public getters from
+     * donor model and setters from target model instead of creating new instance. Nested models, collections and maps
+     * of target model may be updated in place as well if it's enabled at <code>ConversionSettings</code>.
+     *
+     * @param from model to convert.
+     * @param to   existing target model to fill.
+     * @param <T>  the type of target model.
+     * @return received target model.
+     * @throws TypeConversionException if donor model cannot be converted into target model or used conversion engine
+     *                                 doesn't support conversion into existing instances.
+     */
+    public <T> T convertInto(Object from, T to) {
+        Objects.requireNonNull(to, "Target model should not be null.");
+        if (from == null) {
+            logReceivedNullValue();
+            return to;
+        }
+        return conversionContext.getConversionEngine().convertInto(from, to, new TypeMeta<>(to.getClass()));
+    }
+
+    /**
+     * Converts one model into existing instance of another. Uses descendants of <code>TypeProvider</code> for
+     * receiving meta information of generic types. Fills received target model using public getters from donor model
+     * and setters from target model instead of creating new instance. Nested models, collections and maps of target
+     * model may be updated in place as well if it's enabled at <code>ConversionSettings</code>.
+     *
+     * @param from   model to convert.
+     * @param to     existing target model to fill.
+     * @param toType <code>TypeProvider</code> that provides generic type of target model.
+     * @param <T>    descendant of <code>TypeProvider</code> with target type.
+     * @return received target model.
+     * @throws TypeConversionException if donor model cannot be converted into target model or used conversion engine
+     *                                 doesn't support conversion into existing instances.
+     * @see TypeProvider
+     */
+    public <T> T convertInto(Object from, T to, TypeProvider<T> toType) {
+        Objects.requireNonNull(to, "Target model should not be null.");
+        if (from == null) {
+            logReceivedNullValue();
+            return to;
+        }
+        return conversionContext.getConversionEngine().convertInto(from, to, getTypeMeta(toType));
+    }
+
+    /**
+     * Lazily converts models of received iterable to target type. Models are converted on demand during consumption
+     * of returned stream and converter is resolved once per distinct class of models. Returned stream keeps
+     * characteristics of iterable's spliterator like order and size. <code>null</code> elements are converted to
+     * <code>null</code>.
+     *
+     * @param from   <code>Iterable</code> with models to convert.
+     * @param toType target model class.
+     * @param <T>    the type represented by target class.
+     * @return <code>Stream</code> with converted models.
+     */
+    public <T> Stream<T> convertLazily(Iterable<?> from, Class<T> toType) {
+        if (from == null) {
+            logReceivedNullValue();
+            return null;
+        }
+        return convertLazily(StreamSupport.stream(from.spliterator(), false), toType);
+    }
+
+    /**
+     * Lazily converts models of received iterable to target type. Uses descendants of <code>TypeProvider</code> for
+     * receiving meta information of generic types. Models are converted on demand during consumption of returned
+     * stream and converter is resolved once per distinct class of models. Returned stream keeps characteristics of
+     * iterable's spliterator like order and size. <code>null</code> elements are converted to <code>null</code>.
+     *
+     * @param from   <code>Iterable</code> with models to convert.
+     * @param toType <code>TypeProvider</code> that provides generic type of target model.
+     * @param <T>    descendant of <code>TypeProvider</code> with target type.
+     * @return <code>Stream</code> with converted models.
+     * @see TypeProvider
+     */
+    public <T> Stream<T> convertLazily(Iterable<?> from, TypeProvider<T> toType) {
+        if (from == null) {
+            logReceivedNullValue();
+            return null;
+        }
+        return convertLazily(StreamSupport.stream(from.spliterator(), false), toType);
+    }
+
+    /**
+     * Lazily converts models provided by received iterator to target type. Models are converted on demand during
+     * iteration over returned iterator and converter is resolved once per distinct class of models. <code>null</code>
+     * elements are converted to <code>null</code>.
+     *
+     * @param from   <code>Iterator</code> with models to convert.
+     * @param toType target model class.
+     * @param <T>    the type represented by target class.
+     * @return <code>Iterator</code> over converted models.
+     */
+    public <T> Iterator<T> convertLazily(Iterator<?> from, Class<T> toType) {
+        if (from == null) {
+            logReceivedNullValue();
+            return null;
+        }
+        return convertLazily(from, getTypeMeta(toType));
+    }
+
+    /**
+     * Lazily converts models provided by received iterator to target type. Uses descendants of
+     * <code>TypeProvider</code> for receiving meta information of generic types. Models are converted on demand during
+     * iteration over returned iterator and converter is resolved once per distinct class of models. <code>null</code>
+     * elements are converted to <code>null</code>.
+     *
+     * @param from   <code>Iterator</code> with models to convert.
+     * @param toType <code>TypeProvider</code> that provides generic type of target model.
+     * @param <T>    descendant of <code>TypeProvider</code> with target type.
+     * @return <code>Iterator</code> over converted models.
+     * @see TypeProvider
+     */
+    public <T> Iterator<T> convertLazily(Iterator<?> from, TypeProvider<T> toType) {
+        if (from == null) {
+            logReceivedNullValue();
+            return null;
+        }
+        return convertLazily(from, getTypeMeta(toType));
+    }
+
+    /**
+     * Lazily converts models of received stream to target type. Models are converted on demand during consumption of
+     * returned stream and converter is resolved once per distinct class of models. Returned stream keeps order, size
+     * and parallelism of received one. <code>null</code> elements are converted to <code>null</code>.
+     *
+     * @param from   <code>Stream</code> with models to convert.
+     * @param toType target model class.
+     * @param <T>    the type represented by target class.
+     * @return <code>Stream</code> with converted models.
+     */
+    public <T> Stream<T> convertLazily(Stream<?> from, Class<T> toType) {
+        if (from == null) {
+            logReceivedNullValue();
+            return null;
+        }
+        return from.map(new ElementConverter<>(conversionContext, getTypeMeta(toType))::convert);
+    }
+
+    /**
+     * Lazily converts models of received stream to target type. Uses descendants of <code>TypeProvider</code> for
+     * receiving meta information of generic types. Models are converted on demand during consumption of returned
+     * stream and converter is resolved once per distinct class of models. Returned stream keeps order, size and
+     * parallelism of received one. <code>null</code> elements are converted to <code>null</code>.
+     *
+     * @param from   <code>Stream</code> with models to convert.
+     * @param toType <code>TypeProvider</code> that provides generic type of target model.
+     * @param <T>    descendant of <code>TypeProvider</code> with target type.
+     * @return <code>Stream</code> with converted models.
+     * @see TypeProvider
+     */
+    public <T> Stream<T> convertLazily(Stream<?> from, TypeProvider<T> toType) {
+        if (from == null) {
+            logReceivedNullValue();
+            return null;
+        }
+        return from.map(new ElementConverter<>(conversionContext, getTypeMeta(toType))::convert);
+    }
+
+    private <T> List<T> convertAll(Iterable<?> from, TypeMeta<T> toTypeMeta, List<T> result) {
+        Objects.requireNonNull(result, "Result list should not be null.");
+        if (from == null) {
+            logReceivedNullValue();
+            return result;
+        }
+        if (from instanceof Collection && result instanceof ArrayList) {
+            ((ArrayList<T>) result).ensureCapacity(result.size() + ((Collection<?>) from).size());
+        }
+        ElementConverter<T> elementConverter = new ElementConverter<>(conversionContext, toTypeMeta);
+        for (Object element : from) {
+            result.add(elementConverter.convert(element));
+        }
+        return result;
+    }
+
+    private <T> Iterator<T> convertLazily(Iterator<?> from, TypeMeta<T> toTypeMeta) {
+        ElementConverter<T> elementConverter = new ElementConverter<>(conversionContext, toTypeMeta);
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return from.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return elementConverter.convert(from.next());
+            }
+
+            @Override
+            public void remove() {
+                from.remove();
+            }
+        };
+    }
+
+    private <T> List<T> createResultList(Iterable<?> from) {
+        return from instanceof Collection ? new ArrayList<>(((Collection<?>) from).size()) : new ArrayList<>();
+    }
+
+    private <T> TypeMeta<T> getTypeMeta(Class<T> toType) {
+        Objects.requireNonNull(toType, "Target type should not be null.");
+        return new TypeMeta<>(PrimitiveWrapperUtil.wrap(toType));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> TypeMeta<T> getTypeMeta(TypeProvider<T> toType) {
+        Objects.requireNonNull(toType, "Target type provider should not be null.");
+        return (TypeMeta<T>) toType.getTypeMeta();
+    }
+
     private void logReceivedNullValue() {
-        log.info("Received value is 'null'. Returning 'null'.");
+        if (conversionContext.isTracingEnabled()) {
+            log.info("Received value is 'null'. Returning 'null'.");
+        }
     }
 }
@@ -0,0 +1,121 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.cache;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+/**
+ * Thread-safe cache with limited number of entries. Stores <code>null</code> results as well so negative results are
+ * memoized too. When number of entries exceeds maximum size the eldest entries are evicted in insertion order.
+ *
+ * @param <K> type of cache keys.
+ * @param <V> type of cached values.
+ */
+public final class BoundedCache<K, V> {
+
+    private static final Object NULL_VALUE = new Object();
+    private final Map<K, Object> entries = new ConcurrentHashMap<>();
+    private final Queue<K> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final int maxSize;
+
+    /**
+     * Creates new cache instance with received maximum size.
+     *
+     * @param maxSize maximum number of entries at cache.
+     * @throws IllegalArgumentException if maximum size is not positive.
+     */
+    public BoundedCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache maximum size should be positive.");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns cached value for received key or computes it using received function and stores it at cache provided
+     * there is no value for such key yet. Function isn't called under any lock so it is allowed to use cache
+     * recursively but may be called several times for the same key by concurrent threads.
+     *
+     * @param key             key to get value for.
+     * @param mappingFunction function to compute value provided it is missed at cache.
+     * @return cached or computed value, can be <code>null</code>.
+     */
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        Object value = entries.get(key);
+        if (value == null) {
+            Object computedValue = wrap(mappingFunction.apply(key));
+            value = entries.putIfAbsent(key, computedValue);
+            if (value == null) {
+                value = computedValue;
+                insertionOrder.offer(key);
+                evictExceedingEntries();
+            }
+        }
+        return value == NULL_VALUE ? null : (V) value;
+    }
+
+    /**
+     * Checks if cache contains value for received key. Result may be outdated immediately as entries are added and
+     * evicted concurrently.
+     *
+     * @param key key to check.
+     * @return <code>true</code> if there is cached value for received key, <code>false</code> otherwise.
+     */
+    public boolean containsKey(K key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * Returns maximum number of entries at this cache.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns current number of entries at this cache.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictExceedingEntries() {
+        while (entries.size() > maxSize) {
+            K eldestKey = insertionOrder.poll();
+            if (eldestKey == null) {
+                return;
+            }
+            entries.remove(eldestKey);
+        }
+    }
+
+    private Object wrap(V value) {
+        return value == null ? NULL_VALUE : value;
+    }
+}
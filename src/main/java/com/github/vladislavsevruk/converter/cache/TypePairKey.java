@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.cache;
+
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.util.TypeMetaUtil;
+
+/**
+ * Cache key for pair of source class and target type meta. Types meta are compared by their types and generic types
+ * structure.
+ */
+public final class TypePairKey {
+
+    private final Class<?> from;
+    private final int hashCode;
+    private final TypeMeta<?> toMeta;
+
+    public TypePairKey(Class<?> from, TypeMeta<?> toMeta) {
+        this.from = from;
+        this.toMeta = toMeta;
+        this.hashCode = 31 * from.hashCode() + hashCode(toMeta);
+    }
+
+    private static int hashCode(TypeMeta<?> typeMeta) {
+        int result = typeMeta.getType().hashCode();
+        for (TypeMeta<?> genericType : typeMeta.getGenericTypes()) {
+            result = 31 * result + hashCode(genericType);
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof TypePairKey)) {
+            return false;
+        }
+        TypePairKey other = (TypePairKey) obj;
+        return hashCode == other.hashCode && from.equals(other.from) && (toMeta == other.toMeta || TypeMetaUtil
+                .isSameTypes(toMeta, other.toMeta));
+    }
+
+    /**
+     * Returns source class of this pair.
+     */
+    public Class<?> getFrom() {
+        return from;
+    }
+
+    /**
+     * Returns target type meta of this pair.
+     */
+    public TypeMeta<?> getToMeta() {
+        return toMeta;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
@@ -26,6 +26,8 @@ package com.github.vladislavsevruk.converter.context;
 import com.github.vladislavsevruk.converter.converter.picker.TypeConverterPicker;
 import com.github.vladislavsevruk.converter.converter.storage.TypeConverterStorage;
 import com.github.vladislavsevruk.converter.engine.ConversionEngine;
+import com.github.vladislavsevruk.converter.instrumentation.ConversionInstrumentation;
+import com.github.vladislavsevruk.converter.instrumentation.NoOpConversionInstrumentation;
 import com.github.vladislavsevruk.converter.mapper.CustomGetterSetterMappingStorage;
 import com.github.vladislavsevruk.converter.mapper.GetterSetterMapper;
 import com.github.vladislavsevruk.resolver.resolver.executable.ExecutableTypeResolver;
@@ -41,6 +43,22 @@ public interface ConversionContext {
      */
     ConversionEngine getConversionEngine();
 
+    /**
+     * Returns current instance of <code>ConversionInstrumentation</code> stored at context. Default implementation
+     * returns disabled instrumentation that ignores all measurements.
+     */
+    default ConversionInstrumentation getConversionInstrumentation() {
+        return NoOpConversionInstrumentation.INSTANCE;
+    }
+
+    /**
+     * Returns <code>ConversionSettings</code> with switchable conversion modes of this context. Default implementation
+     * returns settings instance that is shared by all contexts without their own settings.
+     */
+    default ConversionSettings getConversionSettings() {
+        return ConversionSettings.SHARED_DEFAULT_SETTINGS;
+    }
+
     /**
      * Returns current instance of <code>CustomGetterSetterMappingStorage</code> stored at context.
      */
@@ -66,4 +84,14 @@ public interface ConversionContext {
      * Returns current instance of <code>TypeConverterStorage</code> stored at context.
      */
     TypeConverterStorage getTypeConverterStorage();
+
+    /**
+     * Checks if conversion steps should be traced at debug log level. Hot conversion paths read this flag once per
+     * conversion plan and skip building log messages when tracing is disabled.
+     *
+     * @return <code>true</code> if tracing is enabled at <code>ConversionSettings</code>, <code>false</code> otherwise.
+     */
+    default boolean isTracingEnabled() {
+        return getConversionSettings().isTracingEnabled();
+    }
 }
@@ -29,6 +29,8 @@ import com.github.vladislavsevruk.converter.converter.storage.TypeConverterStora
 import com.github.vladislavsevruk.converter.converter.storage.TypeConverterStorageImpl;
 import com.github.vladislavsevruk.converter.engine.ConversionEngine;
 import com.github.vladislavsevruk.converter.engine.ConversionEngineImpl;
+import com.github.vladislavsevruk.converter.instrumentation.ConversionInstrumentation;
+import com.github.vladislavsevruk.converter.instrumentation.NoOpConversionInstrumentation;
 import com.github.vladislavsevruk.converter.mapper.CustomGetterSetterMappingStorage;
 import com.github.vladislavsevruk.converter.mapper.CustomGetterSetterMappingStorageImpl;
 import com.github.vladislavsevruk.converter.mapper.GetterSetterMapper;
@@ -52,6 +54,8 @@ import lombok.extern.log4j.Log4j2;
 final class ConversionContextImpl implements ConversionContext {
 
     ConversionEngine conversionEngine;
+    ConversionInstrumentation conversionInstrumentation;
+    ConversionSettings conversionSettings = new ConversionSettings();
     CustomGetterSetterMappingStorage customGetterSetterMappingStorage;
     ExecutableTypeResolver<TypeMeta<?>> executableTypeResolver;
     GetterSetterMapper getterSetterMapper;
@@ -80,6 +84,39 @@ final class ConversionContextImpl implements ConversionContext {
             ConversionModuleFactoryMethod<ExecutableTypeResolver<TypeMeta<?>>> executableTypeResolverFactoryMethod,
             ConversionModuleFactoryMethod<TypeConverterPicker> typeConverterPickerFactoryMethod,
             ConversionModuleFactoryMethod<TypeConverterStorage> typeConverterStorageFactoryMethod) {
+        this(conversionEngineFactoryMethod, customGetterSetterMappingStorageFactoryMethod,
+                getterSetterMapperFactoryMethod, executableTypeResolverFactoryMethod, typeConverterPickerFactoryMethod,
+                typeConverterStorageFactoryMethod, null);
+    }
+
+    /**
+     * Creates new instance using received modules or default implementations for nulls.
+     *
+     * @param conversionEngineFactoryMethod                 factory method for <code>ConversionEngine</code> module
+     *                                                      implementation.
+     * @param customGetterSetterMappingStorageFactoryMethod factory method for <code>CustomGetterSetterMappingStorage</code>
+     *                                                      module implementation.
+     * @param getterSetterMapperFactoryMethod               factory method for <code>GetterSetterMapper</code> module
+     *                                                      implementation.
+     * @param executableTypeResolverFactoryMethod           factory method for <code>ExecutableTypeResolver</code>
+     *                                                      module implementation.
+     * @param typeConverterPickerFactoryMethod              factory method for <code>TypeConverterPicker</code> module
+     *                                                      implementation.
+     * @param typeConverterStorageFactoryMethod             factory method for <code>TypeConverterStorage</code> module
+     *                                                      implementation.
+     * @param conversionInstrumentationFactoryMethod        factory method for <code>ConversionInstrumentation</code>
+     *                                                      module implementation.
+     */
+    ConversionContextImpl(ConversionModuleFactoryMethod<ConversionEngine> conversionEngineFactoryMethod,
+            ConversionModuleFactoryMethod<CustomGetterSetterMappingStorage> customGetterSetterMappingStorageFactoryMethod,
+            ConversionModuleFactoryMethod<GetterSetterMapper> getterSetterMapperFactoryMethod,
+            ConversionModuleFactoryMethod<ExecutableTypeResolver<TypeMeta<?>>> executableTypeResolverFactoryMethod,
+            ConversionModuleFactoryMethod<TypeConverterPicker> typeConverterPickerFactoryMethod,
+            ConversionModuleFactoryMethod<TypeConverterStorage> typeConverterStorageFactoryMethod,
+            ConversionModuleFactoryMethod<ConversionInstrumentation> conversionInstrumentationFactoryMethod) {
+        this.conversionInstrumentation = orDefault(conversionInstrumentationFactoryMethod,
+                context -> NoOpConversionInstrumentation.INSTANCE);
+        log.debug("Using '{}' as conversion instrumentation.", conversionInstrumentation.getClass().getName());
         this.conversionEngine = orDefault(conversionEngineFactoryMethod, ConversionEngineImpl::new);
         log.debug("Using '{}' as conversion engine.", conversionEngine.getClass().getName());
         this.customGetterSetterMappingStorage = orDefault(customGetterSetterMappingStorageFactoryMethod,
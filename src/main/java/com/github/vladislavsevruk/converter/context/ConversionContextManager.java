@@ -97,6 +97,7 @@ public final class ConversionContextManager {
         return new ConversionContextImpl(ConversionModuleFactory.conversionEngine(),
                 ConversionModuleFactory.customGetterSetterMappingStorage(),
                 ConversionModuleFactory.getterSetterMapper(), ConversionModuleFactory.executableTypeResolver(),
-                ConversionModuleFactory.typeConverterPicker(), ConversionModuleFactory.typeConverterStorage());
+                ConversionModuleFactory.typeConverterPicker(), ConversionModuleFactory.typeConverterStorage(),
+                ConversionModuleFactory.conversionInstrumentation());
     }
 }
@@ -26,6 +26,7 @@ package com.github.vladislavsevruk.converter.context;
 import com.github.vladislavsevruk.converter.converter.picker.TypeConverterPicker;
 import com.github.vladislavsevruk.converter.converter.storage.TypeConverterStorage;
 import com.github.vladislavsevruk.converter.engine.ConversionEngine;
+import com.github.vladislavsevruk.converter.instrumentation.ConversionInstrumentation;
 import com.github.vladislavsevruk.converter.mapper.CustomGetterSetterMappingStorage;
 import com.github.vladislavsevruk.converter.mapper.GetterSetterMapper;
 import com.github.vladislavsevruk.resolver.resolver.executable.ExecutableTypeResolver;
@@ -42,12 +43,14 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 public final class ConversionModuleFactory {
 
     private static final ReadWriteLock CONVERSION_ENGINE_LOCK = new ReentrantReadWriteLock();
+    private static final ReadWriteLock CONVERSION_INSTRUMENTATION_LOCK = new ReentrantReadWriteLock();
     private static final ReadWriteLock CUSTOM_GETTER_SETTER_MAPPING_STORAGE_LOCK = new ReentrantReadWriteLock();
     private static final ReadWriteLock EXECUTABLE_TYPE_RESOLVER_LOCK = new ReentrantReadWriteLock();
     private static final ReadWriteLock GETTER_SETTER_MAPPER_LOCK = new ReentrantReadWriteLock();
     private static final ReadWriteLock TYPE_CONVERTER_PICKER_LOCK = new ReentrantReadWriteLock();
     private static final ReadWriteLock TYPE_CONVERTER_STORAGE_LOCK = new ReentrantReadWriteLock();
     private static ConversionModuleFactoryMethod<ConversionEngine> conversionEngine;
+    private static ConversionModuleFactoryMethod<ConversionInstrumentation> conversionInstrumentation;
     private static ConversionModuleFactoryMethod<CustomGetterSetterMappingStorage> customGetterSetterMappingStorage;
     private static ConversionModuleFactoryMethod<ExecutableTypeResolver<TypeMeta<?>>> executableTypeResolver;
     private static ConversionModuleFactoryMethod<GetterSetterMapper> getterSetterMapper;
@@ -67,6 +70,17 @@ public final class ConversionModuleFactory {
         return engineToReturn;
     }
 
+    /**
+     * Returns current instance of <code>ConversionModuleFactoryMethod</code> for <code>ConversionInstrumentation</code>.
+     */
+    public static ConversionModuleFactoryMethod<ConversionInstrumentation> conversionInstrumentation() {
+        CONVERSION_INSTRUMENTATION_LOCK.readLock().lock();
+        ConversionModuleFactoryMethod<ConversionInstrumentation> instrumentationToReturn
+                = ConversionModuleFactory.conversionInstrumentation;
+        CONVERSION_INSTRUMENTATION_LOCK.readLock().unlock();
+        return instrumentationToReturn;
+    }
+
     /**
      * Returns current instance of <code>ConversionModuleFactoryMethod</code> for <code>CustomGetterSetterMappingStorage</code>.
      */
@@ -117,6 +131,25 @@ public final class ConversionModuleFactory {
         }
     }
 
+    /**
+     * Replaces instance of <code>ConversionModuleFactoryMethod</code> for <code>ConversionInstrumentation</code>. All
+     * further conversions will use new instance.
+     *
+     * @param instrumentation new instance of <code>ConversionModuleFactoryMethod</code> for
+     *                        <code>ConversionInstrumentation</code>.
+     */
+    public static void replaceConversionInstrumentation(
+            ConversionModuleFactoryMethod<ConversionInstrumentation> instrumentation) {
+        CONVERSION_INSTRUMENTATION_LOCK.writeLock().lock();
+        log.info("Replacing ConversionInstrumentation by '{}'.",
+                instrumentation == null ? null : instrumentation.getClass().getName());
+        ConversionModuleFactory.conversionInstrumentation = instrumentation;
+        CONVERSION_INSTRUMENTATION_LOCK.writeLock().unlock();
+        if (ConversionContextManager.isAutoRefreshContext()) {
+            ConversionContextManager.refreshContext();
+        }
+    }
+
     /**
      * Replaces instance of <code>ConversionModuleFactoryMethod</code> for <code>CustomGetterSetterMappingStorage</code>.
      * All further conversions will use new instance.
@@ -0,0 +1,341 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.context;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Contains switchable settings of conversion engine modes. Settings are stored per <code>ConversionContext</code> and
+ * may be changed at any time, changes are applied to subsequent conversions.
+ */
+@Log4j2
+public final class ConversionSettings {
+
+    public static final int DEFAULT_BYTECODE_MAPPER_THRESHOLD = 1000;
+    public static final int DEFAULT_PARALLEL_CONVERSION_THRESHOLD = 10000;
+    // used by contexts that don't store their own settings
+    static final ConversionSettings SHARED_DEFAULT_SETTINGS = new ConversionSettings();
+    private volatile boolean bytecodeMappersEnabled;
+    private volatile int bytecodeMapperThreshold = DEFAULT_BYTECODE_MAPPER_THRESHOLD;
+    private volatile boolean caseInsensitiveEnumMatchingEnabled;
+    private volatile boolean identityPreservingConversionEnabled;
+    private volatile boolean lazyViewMemoizationEnabled;
+    private volatile boolean lazyViewsEnabled;
+    private volatile boolean nestedValuesReuseEnabled;
+    private volatile boolean parallelConversionEnabled;
+    private volatile ForkJoinPool parallelConversionPool = ForkJoinPool.commonPool();
+    private volatile int parallelConversionThreshold = DEFAULT_PARALLEL_CONVERSION_THRESHOLD;
+    private volatile PropertyCopyPolicy propertyCopyPolicy = PropertyCopyPolicy.SKIP_NULL;
+    private volatile boolean singlePassElementConversionEnabled;
+    private volatile boolean tracingEnabled;
+
+    /**
+     * Returns number of conversions between same donor and acceptor types after which dedicated mapper class is
+     * generated for them if bytecode mappers are enabled.
+     */
+    public int getBytecodeMapperThreshold() {
+        return bytecodeMapperThreshold;
+    }
+
+    /**
+     * Returns <code>ForkJoinPool</code> that is used for parallel conversion of large lists and arrays elements.
+     */
+    public ForkJoinPool getParallelConversionPool() {
+        return parallelConversionPool;
+    }
+
+    /**
+     * Returns minimal number of elements in list or array to convert them in parallel if parallel conversion is
+     * enabled.
+     */
+    public int getParallelConversionThreshold() {
+        return parallelConversionThreshold;
+    }
+
+    /**
+     * Returns policy that defines which values of donor getters are passed to acceptor setters.
+     */
+    public PropertyCopyPolicy getPropertyCopyPolicy() {
+        return propertyCopyPolicy;
+    }
+
+    /**
+     * Checks if custom type conversions should switch to mapper classes generated at runtime for frequently converted
+     * donor and acceptor types.
+     *
+     * @return <code>true</code> if bytecode mappers are enabled, <code>false</code> otherwise.
+     */
+    public boolean isBytecodeMappersEnabled() {
+        return bytecodeMappersEnabled;
+    }
+
+    /**
+     * Checks if char sequences should be matched to enum constant names and aliases ignoring case when there is no
+     * exact match.
+     *
+     * @return <code>true</code> if case-insensitive enum matching is enabled, <code>false</code> otherwise.
+     */
+    public boolean isCaseInsensitiveEnumMatchingEnabled() {
+        return caseInsensitiveEnumMatchingEnabled;
+    }
+
+    /**
+     * Checks if source objects met several times during single top-level conversion should be converted once so
+     * shared and cyclic references are preserved at conversion result.
+     *
+     * @return <code>true</code> if identity preserving conversion is enabled, <code>false</code> otherwise.
+     */
+    public boolean isIdentityPreservingConversionEnabled() {
+        return identityPreservingConversionEnabled;
+    }
+
+    /**
+     * Checks if lazy list and map views should keep converted elements so every element is converted at most once.
+     *
+     * @return <code>true</code> if converted elements are memoized by lazy views, <code>false</code> otherwise.
+     */
+    public boolean isLazyViewMemoizationEnabled() {
+        return lazyViewMemoizationEnabled;
+    }
+
+    /**
+     * Checks if random access lists and maps should be converted to read-only views that convert elements on access
+     * instead of eager conversion of all elements.
+     *
+     * @return <code>true</code> if lazy views are enabled, <code>false</code> otherwise.
+     */
+    public boolean isLazyViewsEnabled() {
+        return lazyViewsEnabled;
+    }
+
+    /**
+     * Checks if nested models, collections and maps of existing target instance should be updated in place during
+     * conversion into existing instance instead of being replaced by newly converted ones.
+     *
+     * @return <code>true</code> if reuse of nested values is enabled, <code>false</code> otherwise.
+     */
+    public boolean isNestedValuesReuseEnabled() {
+        return nestedValuesReuseEnabled;
+    }
+
+    /**
+     * Checks if elements of large random access lists and arrays should be converted concurrently by chunks.
+     *
+     * @return <code>true</code> if parallel conversion is enabled, <code>false</code> otherwise.
+     */
+    public boolean isParallelConversionEnabled() {
+        return parallelConversionEnabled;
+    }
+
+    /**
+     * Checks if elements of arrays, iterables and maps should be converted in single pass with converters resolved
+     * per element class instead of preliminary scan for common class of all elements. In this mode <code>null</code>
+     * is returned as conversion result when first element that cannot be converted is met.
+     *
+     * @return <code>true</code> if single pass element conversion is enabled, <code>false</code> otherwise.
+     */
+    public boolean isSinglePassElementConversionEnabled() {
+        return singlePassElementConversionEnabled;
+    }
+
+    /**
+     * Checks if conversion of values and mapping of model properties should be traced at debug log level.
+     *
+     * @return <code>true</code> if tracing is enabled, <code>false</code> otherwise.
+     */
+    public boolean isTracingEnabled() {
+        return tracingEnabled;
+    }
+
+    /**
+     * Sets number of conversions between same donor and acceptor types after which dedicated mapper class is generated
+     * for them.
+     *
+     * @param bytecodeMapperThreshold non-negative number of conversions.
+     * @throws IllegalArgumentException if received threshold is negative.
+     */
+    public void setBytecodeMapperThreshold(int bytecodeMapperThreshold) {
+        if (bytecodeMapperThreshold < 0) {
+            throw new IllegalArgumentException("Bytecode mapper threshold should be non-negative.");
+        }
+        log.info("Setting bytecode mapper threshold to {}.", bytecodeMapperThreshold);
+        this.bytecodeMapperThreshold = bytecodeMapperThreshold;
+    }
+
+    /**
+     * Enables or disables usage of mapper classes generated at runtime for frequently converted donor and acceptor
+     * types. Conversions fall back to regular mapping if class generation isn't allowed by environment.
+     *
+     * @param bytecodeMappersEnabled <code>true</code> to enable bytecode mappers, <code>false</code> to disable.
+     */
+    public void setBytecodeMappersEnabled(boolean bytecodeMappersEnabled) {
+        log.info("{} bytecode mappers.", bytecodeMappersEnabled ? "Enabling" : "Disabling");
+        this.bytecodeMappersEnabled = bytecodeMappersEnabled;
+    }
+
+    /**
+     * Enables or disables case-insensitive matching of char sequences to enum constant names and aliases. Exact
+     * matches have priority over matches that ignore case.
+     *
+     * @param caseInsensitiveEnumMatchingEnabled <code>true</code> to enable case-insensitive enum matching,
+     *                                           <code>false</code> to disable.
+     */
+    public void setCaseInsensitiveEnumMatchingEnabled(boolean caseInsensitiveEnumMatchingEnabled) {
+        log.info("{} case-insensitive enum matching.", caseInsensitiveEnumMatchingEnabled ? "Enabling" : "Disabling");
+        this.caseInsensitiveEnumMatchingEnabled = caseInsensitiveEnumMatchingEnabled;
+    }
+
+    /**
+     * Enables or disables identity preserving conversion of object graphs. If enabled models, arrays, iterables and
+     * maps are converted once per top-level conversion for every pair of source object and target type, so references
+     * to the same source object are converted to references to the same result and cyclic graphs can be converted.
+     * Elements of containers are converted sequentially in this mode.
+     *
+     * @param identityPreservingConversionEnabled <code>true</code> to enable identity preserving conversion,
+     *                                            <code>false</code> to disable.
+     */
+    public void setIdentityPreservingConversionEnabled(boolean identityPreservingConversionEnabled) {
+        log.info("{} identity preserving conversion.", identityPreservingConversionEnabled ? "Enabling" : "Disabling");
+        this.identityPreservingConversionEnabled = identityPreservingConversionEnabled;
+    }
+
+    /**
+     * Enables or disables memoization of converted elements at lazy list and map views. Without memoization element
+     * is converted again on every access.
+     *
+     * @param lazyViewMemoizationEnabled <code>true</code> to enable memoization, <code>false</code> to disable.
+     */
+    public void setLazyViewMemoizationEnabled(boolean lazyViewMemoizationEnabled) {
+        log.info("{} lazy view memoization.", lazyViewMemoizationEnabled ? "Enabling" : "Disabling");
+        this.lazyViewMemoizationEnabled = lazyViewMemoizationEnabled;
+    }
+
+    /**
+     * Enables or disables conversion of random access lists and maps to read-only views that wrap source container and
+     * convert elements on access. Views are returned only if target type is abstract list or map type, elements that
+     * cannot be converted cause exception on access instead of <code>null</code> conversion result.
+     *
+     * @param lazyViewsEnabled <code>true</code> to enable lazy views, <code>false</code> to disable.
+     */
+    public void setLazyViewsEnabled(boolean lazyViewsEnabled) {
+        log.info("{} lazy views.", lazyViewsEnabled ? "Enabling" : "Disabling");
+        this.lazyViewsEnabled = lazyViewsEnabled;
+    }
+
+    /**
+     * Enables or disables reuse of nested values during conversion into existing target instance. Nested models
+     * returned by target getters are filled with converted values of related donor models, collections and maps are
+     * cleared and filled with converted elements. Values that are <code>null</code> or cannot be modified are replaced
+     * using setters as usual.
+     *
+     * @param nestedValuesReuseEnabled <code>true</code> to enable reuse of nested values, <code>false</code> to
+     *                                 disable.
+     */
+    public void setNestedValuesReuseEnabled(boolean nestedValuesReuseEnabled) {
+        log.info("{} reuse of nested values.", nestedValuesReuseEnabled ? "Enabling" : "Disabling");
+        this.nestedValuesReuseEnabled = nestedValuesReuseEnabled;
+    }
+
+    /**
+     * Enables or disables concurrent conversion of elements of random access lists and arrays which size reaches
+     * parallel conversion threshold. Smaller containers are always converted sequentially.
+     *
+     * @param parallelConversionEnabled <code>true</code> to enable parallel conversion, <code>false</code> to disable.
+     */
+    public void setParallelConversionEnabled(boolean parallelConversionEnabled) {
+        log.info("{} parallel conversion.", parallelConversionEnabled ? "Enabling" : "Disabling");
+        this.parallelConversionEnabled = parallelConversionEnabled;
+    }
+
+    /**
+     * Sets <code>ForkJoinPool</code> to use for parallel conversion of elements.
+     *
+     * @param parallelConversionPool <code>ForkJoinPool</code> to use.
+     * @throws IllegalArgumentException if received pool is <code>null</code>.
+     */
+    public void setParallelConversionPool(ForkJoinPool parallelConversionPool) {
+        if (parallelConversionPool == null) {
+            throw new IllegalArgumentException("Parallel conversion pool should not be null.");
+        }
+        log.info("Setting parallel conversion pool with parallelism {}.", parallelConversionPool.getParallelism());
+        this.parallelConversionPool = parallelConversionPool;
+    }
+
+    /**
+     * Sets minimal number of elements in list or array to convert them in parallel.
+     *
+     * @param parallelConversionThreshold positive number of elements.
+     * @throws IllegalArgumentException if received threshold isn't positive.
+     */
+    public void setParallelConversionThreshold(int parallelConversionThreshold) {
+        if (parallelConversionThreshold <= 0) {
+            throw new IllegalArgumentException("Parallel conversion threshold should be positive.");
+        }
+        log.info("Setting parallel conversion threshold to {}.", parallelConversionThreshold);
+        this.parallelConversionThreshold = parallelConversionThreshold;
+    }
+
+    /**
+     * Sets policy that defines which values of donor getters are passed to acceptor setters. Mappers that were
+     * generated for previous policy aren't used after policy change so related properties are copied by regular
+     * mapping.
+     *
+     * @param propertyCopyPolicy <code>PropertyCopyPolicy</code> to use.
+     * @throws IllegalArgumentException if received policy is <code>null</code>.
+     */
+    public void setPropertyCopyPolicy(PropertyCopyPolicy propertyCopyPolicy) {
+        if (propertyCopyPolicy == null) {
+            throw new IllegalArgumentException("Property copy policy should not be null.");
+        }
+        log.info("Setting property copy policy to {}.", propertyCopyPolicy);
+        this.propertyCopyPolicy = propertyCopyPolicy;
+    }
+
+    /**
+     * Enables or disables single pass conversion of arrays, iterables and maps elements. If disabled common class of
+     * all elements is checked before conversion and <code>null</code> is returned if it cannot be converted to target
+     * element type.
+     *
+     * @param singlePassElementConversionEnabled <code>true</code> to enable single pass element conversion,
+     *                                           <code>false</code> to disable.
+     */
+    public void setSinglePassElementConversionEnabled(boolean singlePassElementConversionEnabled) {
+        log.info("{} single pass element conversion.", singlePassElementConversionEnabled ? "Enabling" : "Disabling");
+        this.singlePassElementConversionEnabled = singlePassElementConversionEnabled;
+    }
+
+    /**
+     * Enables or disables tracing of conversion steps. If disabled conversion of values, picking of converters,
+     * mapping of model properties and receiving of <code>null</code> values aren't logged regardless of logger level,
+     * so no log messages are built at conversion paths.
+     *
+     * @param tracingEnabled <code>true</code> to enable tracing, <code>false</code> to disable.
+     */
+    public void setTracingEnabled(boolean tracingEnabled) {
+        log.info("{} conversion tracing.", tracingEnabled ? "Enabling" : "Disabling");
+        this.tracingEnabled = tracingEnabled;
+    }
+}
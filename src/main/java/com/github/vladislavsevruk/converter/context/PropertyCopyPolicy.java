@@ -0,0 +1,44 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.context;
+
+/**
+ * Policies that define which values of donor getters are passed to acceptor setters during conversion of custom types.
+ */
+public enum PropertyCopyPolicy {
+    /**
+     * Every value is passed to setter. <code>null</code> values are passed to setter with non-primitive parameter that
+     * is resolved by declared return type of getter, custom getter setter mappings are checked first.
+     */
+    ALWAYS,
+    /**
+     * <code>null</code> values are skipped, other values are passed to setter.
+     */
+    SKIP_NULL,
+    /**
+     * <code>null</code> values are skipped as well as values that are equal to value returned by related acceptor
+     * getter. Values are passed to setter if acceptor has no related getter.
+     */
+    SKIP_UNCHANGED
+}
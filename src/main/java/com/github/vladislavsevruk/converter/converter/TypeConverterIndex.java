@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.converter;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of converters by source type. Converters that extend <code>AbstractTypeConverter</code> and don't override
+ * source type check are put to buckets by their source type so candidates for certain source class are collected by
+ * walking its hierarchy instead of checking every converter. Other converters are candidates for any source class.
+ * Candidates keep relative order of indexed converters list.
+ */
+public final class TypeConverterIndex {
+
+    private final Map<Class<?>, BitSet> buckets = new HashMap<>();
+    private final List<TypeConverter> converters;
+    private final BitSet nonIndexedConverters = new BitSet();
+
+    /**
+     * Builds index for received converters list.
+     *
+     * @param converters <code>List</code> of converters to index.
+     */
+    public TypeConverterIndex(List<TypeConverter> converters) {
+        this.converters = converters;
+        for (int i = 0; i < converters.size(); ++i) {
+            Class<?> fromType = getIndexableFromType(converters.get(i));
+            if (fromType == null) {
+                nonIndexedConverters.set(i);
+            } else {
+                buckets.computeIfAbsent(fromType, key -> new BitSet()).set(i);
+            }
+        }
+    }
+
+    /**
+     * Returns converters that may be able to convert received source class in order of indexed list. Every converter
+     * that can convert received class is guaranteed to be present among candidates but candidates still should be
+     * checked using <code>canConvert</code> method.
+     *
+     * @param from source <code>Class</code>.
+     * @return <code>List</code> of candidate converters.
+     */
+    public List<TypeConverter> getCandidates(Class<?> from) {
+        if (from.isArray()) {
+            // arrays are covariant so their hierarchy isn't walked
+            return converters;
+        }
+        BitSet candidates = (BitSet) nonIndexedConverters.clone();
+        for (Class<?> type : getHierarchy(from)) {
+            BitSet bucket = buckets.get(type);
+            if (bucket != null) {
+                candidates.or(bucket);
+            }
+        }
+        List<TypeConverter> candidateConverters = new ArrayList<>(candidates.cardinality());
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            candidateConverters.add(converters.get(i));
+        }
+        return candidateConverters;
+    }
+
+    /**
+     * Checks if this index was built for received converters list.
+     *
+     * @param converters <code>List</code> of converters to check.
+     * @return <code>true</code> if index was built for the same list instance, <code>false</code> otherwise.
+     */
+    public boolean isBuiltFor(List<TypeConverter> converters) {
+        return this.converters == converters;
+    }
+
+    private void collectHierarchy(Class<?> type, Set<Class<?>> hierarchy) {
+        if (type == null || !hierarchy.add(type)) {
+            return;
+        }
+        collectHierarchy(type.getSuperclass(), hierarchy);
+        for (Class<?> interfaceType : type.getInterfaces()) {
+            collectHierarchy(interfaceType, hierarchy);
+        }
+    }
+
+    private Class<?> getDeclaringClass(Class<?> type, String methodName, Class<?>... parameterTypes) {
+        for (Class<?> currentType = type; currentType != null; currentType = currentType.getSuperclass()) {
+            try {
+                currentType.getDeclaredMethod(methodName, parameterTypes);
+                return currentType;
+            } catch (NoSuchMethodException nsmEx) {
+                // method isn't declared at this class, checking superclass
+            }
+        }
+        return null;
+    }
+
+    private Set<Class<?>> getHierarchy(Class<?> from) {
+        Set<Class<?>> hierarchy = new HashSet<>();
+        collectHierarchy(from, hierarchy);
+        if (!from.isPrimitive()) {
+            // interfaces don't have Object as superclass but are still assignable to it
+            hierarchy.add(Object.class);
+        }
+        return hierarchy;
+    }
+
+    private Class<?> getIndexableFromType(TypeConverter converter) {
+        if (!(converter instanceof AbstractTypeConverter)) {
+            return null;
+        }
+        Class<?> converterType = converter.getClass();
+        if (getDeclaringClass(converterType, "canConvert", Class.class, Class.class) != AbstractTypeConverter.class
+                || getDeclaringClass(converterType, "checkFromType", Class.class) != AbstractTypeConverter.class) {
+            return null;
+        }
+        return ((AbstractTypeConverter) converter).getFromType();
+    }
+}
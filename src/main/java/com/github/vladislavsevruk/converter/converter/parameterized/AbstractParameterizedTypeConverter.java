@@ -26,6 +26,7 @@ package com.github.vladislavsevruk.converter.converter.parameterized;
 import com.github.vladislavsevruk.converter.context.ConversionContext;
 import com.github.vladislavsevruk.converter.converter.AbstractTypeConverter;
 import com.github.vladislavsevruk.converter.engine.ConversionEngine;
+import com.github.vladislavsevruk.converter.engine.ConversionSession;
 import com.github.vladislavsevruk.converter.exception.TypeConversionException;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import lombok.extern.log4j.Log4j2;
@@ -49,17 +50,37 @@ public abstract class AbstractParameterizedTypeConverter<T> extends AbstractType
      * {@inheritDoc}
      */
     @Override
+    @SuppressWarnings("unchecked")
     public T convert(Object from, TypeMeta<? extends T> toMeta) {
+        boolean tracing = conversionContext.isTracingEnabled();
         if (from == null) {
-            log.debug(() -> "Received value is 'null' so returning 'null' as well.");
+            if (tracing) {
+                log.debug("Received value is 'null' so returning 'null' as well.");
+            }
             return null;
         }
         validateInput(from, toMeta);
-        log.debug(() -> String
-                .format("Converting from '%s' to '%s'.", from.getClass().getName(), toMeta.getType().getName()));
+        ConversionSession session = getSession();
+        if (session != null) {
+            Object convertedValue = session.getConverted(from, toMeta);
+            if (convertedValue != null) {
+                if (tracing) {
+                    log.debug("Reusing value converted from '{}' to '{}' at current session.",
+                            from.getClass().getName(), toMeta.getType().getName());
+                }
+                return (T) convertedValue;
+            }
+        }
+        if (tracing) {
+            log.debug("Converting from '{}' to '{}'.", from.getClass().getName(), toMeta.getType().getName());
+        }
         T value = convertNonNullObject(from, toMeta);
-        log.debug(() -> String
-                .format("Converted from '%s' to '%s'.", from.getClass().getName(), toMeta.getType().getName()));
+        if (session != null && value != null) {
+            session.putConverted(from, toMeta, value);
+        }
+        if (tracing) {
+            log.debug("Converted from '{}' to '{}'.", from.getClass().getName(), toMeta.getType().getName());
+        }
         return value;
     }
 
@@ -73,6 +94,15 @@ public abstract class AbstractParameterizedTypeConverter<T> extends AbstractType
         return getContext().getConversionEngine();
     }
 
+    /**
+     * Returns active conversion session of current thread if identity preserving conversion is enabled or
+     * <code>null</code> otherwise.
+     */
+    protected ConversionSession getSession() {
+        return conversionContext.getConversionSettings().isIdentityPreservingConversionEnabled() ? ConversionSession
+                .current() : null;
+    }
+
     protected void validateInput(Object from, TypeMeta<?> toMeta) {
         if (!checkFromType(from.getClass())) {
             String message = String.format("Expected to convert assignable from '%s' type but received: '%s'.",
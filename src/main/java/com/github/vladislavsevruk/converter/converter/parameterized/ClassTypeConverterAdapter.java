@@ -67,4 +67,18 @@ public final class ClassTypeConverterAdapter<T> implements ClassTypeConverter<T>
     public String getName() {
         return parameterizedTypeConverter.getName();
     }
+
+    /**
+     * Returns adapted <code>ParameterizedTypeConverter</code>.
+     */
+    public ParameterizedTypeConverter<T> getParameterizedTypeConverter() {
+        return parameterizedTypeConverter;
+    }
+
+    /**
+     * Returns <code>TypeMeta</code> of target type adapted converter is called with.
+     */
+    public TypeMeta<? extends T> getToTypeMeta() {
+        return toTypeMeta;
+    }
 }
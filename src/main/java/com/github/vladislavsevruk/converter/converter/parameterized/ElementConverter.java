@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.converter.parameterized;
+
+import com.github.vladislavsevruk.converter.context.ConversionContext;
+import com.github.vladislavsevruk.converter.converter.picker.TypeConverterPicker;
+import com.github.vladislavsevruk.converter.converter.simple.ClassTypeConverter;
+import com.github.vladislavsevruk.converter.engine.ConversionSession;
+import com.github.vladislavsevruk.converter.exception.TypeConversionException;
+import com.github.vladislavsevruk.converter.instrumentation.ConversionInstrumentation;
+import com.github.vladislavsevruk.converter.jfr.ConversionEventRecorder;
+import com.github.vladislavsevruk.converter.jfr.JfrSupport;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Converts elements of containers to single target type. Converters are resolved per distinct element class on the
+ * fly and converter for last seen class is kept so sequences of same class elements are converted without repeated
+ * lookups. Element conversions are reported to conversion instrumentation and Java Flight Recorder like conversions
+ * executed by conversion engine. If identity preserving conversion is enabled, elements converted outside of top-level
+ * conversion are converted within their own conversion session. Instances are thread-safe so they can be shared
+ * between workers of parallel streams.
+ *
+ * @param <T> type of conversion result.
+ */
+@Log4j2
+public final class ElementConverter<T> {
+
+    private final ConversionContext conversionContext;
+    private final TypeConverterPicker typeConverterPicker;
+    private final TypeMeta<T> toMeta;
+    private volatile ElementClassConverter<T> lastConverter;
+
+    public ElementConverter(ConversionContext conversionContext, TypeMeta<T> toMeta) {
+        this.conversionContext = conversionContext;
+        this.typeConverterPicker = conversionContext.getTypeConverterPicker();
+        this.toMeta = toMeta;
+    }
+
+    /**
+     * Checks if received element can be converted to target type.
+     *
+     * @param element element to check.
+     * @return <code>true</code> if element is <code>null</code> or there is converter for its class,
+     * <code>false</code> otherwise.
+     */
+    public boolean canConvert(Object element) {
+        return element == null || getConverter(element.getClass()) != null;
+    }
+
+    /**
+     * Converts received element to target type.
+     *
+     * @param element element to convert.
+     * @return converted element or <code>null</code> if received element is <code>null</code>.
+     * @throws TypeConversionException if there is no converter for element class.
+     */
+    public T convert(Object element) {
+        if (element == null) {
+            return null;
+        }
+        if (!conversionContext.getConversionSettings().isIdentityPreservingConversionEnabled() || !ConversionSession
+                .open()) {
+            return convertObserved(element);
+        }
+        // elements converted outside of top-level conversion own session like top-level conversions of engine
+        try {
+            return convertObserved(element);
+        } finally {
+            ConversionSession.close();
+        }
+    }
+
+    private T convertInstrumented(Object element) {
+        ConversionInstrumentation instrumentation = conversionContext.getConversionInstrumentation();
+        if (!instrumentation.isEnabled()) {
+            return doConvert(element);
+        }
+        // elements are converted by resolved converters directly so they are reported here instead of engine
+        long startTime = System.nanoTime();
+        T result;
+        try {
+            result = doConvert(element);
+        } catch (RuntimeException rtEx) {
+            instrumentation.recordConversionFailure(element.getClass(), toMeta, System.nanoTime() - startTime);
+            throw rtEx;
+        }
+        instrumentation.recordConversion(element.getClass(), toMeta, System.nanoTime() - startTime, result == null);
+        return result;
+    }
+
+    private T convertObserved(Object element) {
+        if (JfrSupport.isAvailable()) {
+            return convertWithEvent(element);
+        }
+        return convertInstrumented(element);
+    }
+
+    private T convertWithEvent(Object element) {
+        ConversionEventRecorder event = JfrSupport.getEventFactory().newConversionEvent();
+        if (!event.isEnabled()) {
+            return convertInstrumented(element);
+        }
+        event.begin();
+        T result;
+        try {
+            result = convertInstrumented(element);
+        } catch (RuntimeException rtEx) {
+            event.complete(element, toMeta, true);
+            throw rtEx;
+        }
+        event.complete(element, toMeta, false);
+        return result;
+    }
+
+    private T doConvert(Object element) {
+        ClassTypeConverter<T> converter = getConverter(element.getClass());
+        if (converter == null) {
+            String message = String.format("Failed to find any matching converter from '%s' to '%s' type.",
+                    element.getClass().getName(), toMeta.getType().getName());
+            log.error(message);
+            throw new TypeConversionException(message);
+        }
+        return converter.convert(element);
+    }
+
+    private ClassTypeConverter<T> getConverter(Class<?> elementClass) {
+        ElementClassConverter<T> currentConverter = lastConverter;
+        if (currentConverter == null || currentConverter.getElementClass() != elementClass) {
+            currentConverter = new ElementClassConverter<>(elementClass,
+                    typeConverterPicker.pickConverter(elementClass, toMeta));
+            lastConverter = currentConverter;
+        }
+        return currentConverter.getConverter();
+    }
+
+    @Value
+    private static class ElementClassConverter<T> {
+
+        Class<?> elementClass;
+        ClassTypeConverter<T> converter;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.converter.parameterized;
+
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+
+/**
+ * Converts one type to another filling already existing instance of target type instead of creating new one.
+ *
+ * @param <T> type of conversion result.
+ */
+public interface MergingTypeConverter<T> extends ParameterizedTypeConverter<T> {
+
+    /**
+     * Converts received object into received existing instance of type specified by this converter based on meta
+     * information of received type generic parameters.
+     *
+     * @param from   object to convert.
+     * @param to     existing instance of target type to fill with converted values.
+     * @param toMeta <code>TypeMeta</code> with actual types of expected result type parameters.
+     * @param <U>    the type of existing instance.
+     * @return received existing instance filled with converted values.
+     */
+    <U extends T> U convertInto(Object from, U to, TypeMeta<?> toMeta);
+}
@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.converter.parameterized;
+
+import com.github.vladislavsevruk.converter.context.ConversionContext;
+import com.github.vladislavsevruk.converter.context.ConversionSettings;
+import com.github.vladislavsevruk.converter.engine.ConversionSession;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
+
+/**
+ * Converts elements of indexed containers concurrently at <code>ForkJoinPool</code> from <code>ConversionSettings</code>.
+ * Elements are split into chunks that are converted into pre-sized array preserving elements order.
+ */
+@Log4j2
+public final class ParallelElementConverter {
+
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final int MIN_CHUNK_SIZE = 1024;
+    private final ConversionContext conversionContext;
+    private final ForkJoinPool pool;
+    private final boolean singlePass;
+    private final TypeMeta<?> toMeta;
+
+    public ParallelElementConverter(ConversionContext conversionContext, TypeMeta<?> toMeta) {
+        ConversionSettings settings = conversionContext.getConversionSettings();
+        this.conversionContext = conversionContext;
+        this.pool = settings.getParallelConversionPool();
+        this.singlePass = settings.isSinglePassElementConversionEnabled();
+        this.toMeta = toMeta;
+    }
+
+    /**
+     * Checks if container with received number of elements should be converted in parallel according to settings of
+     * received context.
+     *
+     * @param conversionContext <code>ConversionContext</code> to check settings of.
+     * @param size              number of container elements.
+     * @return <code>true</code> if parallel conversion is enabled and received size reaches threshold,
+     * <code>false</code> otherwise.
+     */
+    public static boolean isApplicable(ConversionContext conversionContext, int size) {
+        ConversionSettings settings = conversionContext.getConversionSettings();
+        // conversion session is bound to current thread so identity preserving conversion is always sequential
+        return settings.isParallelConversionEnabled() && size >= settings.getParallelConversionThreshold() && !(
+                settings.isIdentityPreservingConversionEnabled() && ConversionSession.current() != null);
+    }
+
+    /**
+     * Converts elements provided by received function for indexes from <code>0</code> to received size.
+     *
+     * @param elements function that returns element by its index.
+     * @param size     number of elements.
+     * @return array with converted elements or <code>null</code> if single pass element conversion is enabled and
+     * some element cannot be converted.
+     */
+    public Object[] convert(IntFunction<?> elements, int size) {
+        Object[] result = new Object[size];
+        AtomicBoolean failed = new AtomicBoolean();
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, size / (pool.getParallelism() * CHUNKS_PER_THREAD));
+        log.debug(() -> String.format("Converting %d elements in parallel by chunks of %d elements.", size, chunkSize));
+        pool.invoke(new ConversionTask(elements, result, failed, chunkSize, 0, size));
+        return failed.get() ? null : result;
+    }
+
+    private void convertChunk(IntFunction<?> elements, Object[] result, AtomicBoolean failed, int from, int to) {
+        if (!singlePass) {
+            for (int i = from; i < to; ++i) {
+                result[i] = conversionContext.getConversionEngine().convert(elements.apply(i), toMeta);
+            }
+            return;
+        }
+        ElementConverter<?> elementConverter = new ElementConverter<>(conversionContext, toMeta);
+        for (int i = from; i < to && !failed.get(); ++i) {
+            Object element = elements.apply(i);
+            if (!elementConverter.canConvert(element)) {
+                log.warn(() -> String.format("Cannot convert element type '%s' to '%s'. Returning null.",
+                        element.getClass().getName(), toMeta.getType().getName()));
+                failed.set(true);
+                return;
+            }
+            result[i] = elementConverter.convert(element);
+        }
+    }
+
+    private final class ConversionTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+        private final int chunkSize;
+        private final transient IntFunction<?> elements;
+        private final AtomicBoolean failed;
+        private final int from;
+        private final transient Object[] result;
+        private final int to;
+
+        private ConversionTask(IntFunction<?> elements, Object[] result, AtomicBoolean failed, int chunkSize, int from,
+                int to) {
+            this.elements = elements;
+            this.result = result;
+            this.failed = failed;
+            this.chunkSize = chunkSize;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                convertChunk(elements, result, failed, from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ConversionTask(elements, result, failed, chunkSize, from, middle),
+                    new ConversionTask(elements, result, failed, chunkSize, middle, to));
+        }
+    }
+}
@@ -25,14 +25,13 @@ package com.github.vladislavsevruk.converter.converter.parameterized.array;
 
 import com.github.vladislavsevruk.converter.context.ConversionContext;
 import com.github.vladislavsevruk.converter.converter.parameterized.AbstractParameterizedTypeConverter;
+import com.github.vladislavsevruk.converter.converter.parameterized.ElementConverter;
+import com.github.vladislavsevruk.converter.converter.parameterized.ParallelElementConverter;
 import com.github.vladislavsevruk.converter.exception.TypeConversionException;
 import com.github.vladislavsevruk.converter.util.ClassUtil;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import lombok.extern.log4j.Log4j2;
 
-import java.util.Arrays;
-import java.util.stream.Stream;
-
 /**
  * Abstract converter with common logic for arrays type converters.
  *
@@ -47,25 +46,41 @@ public abstract class ArrayConverter<T> extends AbstractParameterizedTypeConvert
 
     @Override
     protected boolean checkFromType(Class<?> from) {
-        return from.isArray();
+        return from.isArray() && !from.getComponentType().isPrimitive();
     }
 
     @Override
     protected T convertNonNullObject(Object from, TypeMeta<? extends T> toMeta) {
         Object[] fromValue = (Object[]) from;
-        Class<?> innerFromType = ClassUtil.getCommonClass(fromValue);
         TypeMeta<?> innerToTypeMeta = getArrayType(toMeta);
+        boolean parallel = ParallelElementConverter.isApplicable(getContext(), fromValue.length);
+        if (getContext().getConversionSettings().isSinglePassElementConversionEnabled()) {
+            return parallel ? convertItemsInParallel(fromValue, innerToTypeMeta, toMeta)
+                    : convertItemsInSinglePass(fromValue, innerToTypeMeta, toMeta);
+        }
+        Class<?> innerFromType = ClassUtil.getCommonClass(fromValue);
         if (getEngine().canConvert(innerFromType, innerToTypeMeta)) {
-            return createFromStream(Arrays.stream(fromValue).map(value -> getEngine().convert(value, innerToTypeMeta)),
-                    toMeta);
+            if (parallel) {
+                return convertItemsInParallel(fromValue, innerToTypeMeta, toMeta);
+            }
+            T target = createTarget(toMeta, fromValue.length);
+            for (int i = 0; i < fromValue.length; ++i) {
+                setItem(target, i, getEngine().convert(fromValue[i], innerToTypeMeta));
+            }
+            return target;
         }
-        log.warn(() -> String
-                .format("Cannot convert array component type '%s' to '%s'. Returning null.", innerFromType.getName(),
-                        innerToTypeMeta.getType().getName()));
+        logInconvertibleType(innerFromType, innerToTypeMeta);
         return null;
     }
 
-    protected abstract <U> T createFromStream(Stream<U> itemsStream, TypeMeta<? extends T> toMeta);
+    /**
+     * Creates conversion result that will be filled by converted items.
+     *
+     * @param toMeta <code>TypeMeta</code> of conversion result.
+     * @param size   number of items that will be set to result.
+     * @return conversion result.
+     */
+    protected abstract T createTarget(TypeMeta<? extends T> toMeta, int size);
 
     @Override
     protected Class<?> getFromType() {
@@ -83,7 +98,53 @@ public abstract class ArrayConverter<T> extends AbstractParameterizedTypeConvert
         }
     }
 
+    /**
+     * Sets converted item to conversion result.
+     *
+     * @param target conversion result created by <code>createTarget</code> method.
+     * @param index  index of item.
+     * @param item   converted item.
+     */
+    protected abstract void setItem(T target, int index, Object item);
+
+    private T convertItemsInParallel(Object[] items, TypeMeta<?> innerToTypeMeta, TypeMeta<? extends T> toMeta) {
+        Object[] convertedItems = new ParallelElementConverter(getContext(), innerToTypeMeta)
+                .convert(index -> items[index], items.length);
+        if (convertedItems == null) {
+            return null;
+        }
+        T target = createTarget(toMeta, convertedItems.length);
+        for (int i = 0; i < convertedItems.length; ++i) {
+            setItem(target, i, convertedItems[i]);
+        }
+        return target;
+    }
+
+    private T convertItemsInSinglePass(Object[] items, TypeMeta<?> innerToTypeMeta, TypeMeta<? extends T> toMeta) {
+        ElementConverter<?> elementConverter = new ElementConverter<>(getContext(), innerToTypeMeta);
+        T target = createTarget(toMeta, items.length);
+        for (int i = 0; i < items.length; ++i) {
+            if (!elementConverter.canConvert(items[i])) {
+                logInconvertibleType(items[i].getClass(), innerToTypeMeta);
+                return null;
+            }
+            setItem(target, i, elementConverter.convert(items[i]));
+        }
+        return target;
+    }
+
     private TypeMeta<?> getArrayType(TypeMeta<?> typeMeta) {
-        return typeMeta.getGenericTypes().length == 0 ? TypeMeta.OBJECT_META : typeMeta.getGenericTypes()[0];
+        if (typeMeta.getGenericTypes().length != 0) {
+            return typeMeta.getGenericTypes()[0];
+        }
+        // type meta built from array class has no generic types but still has known component type
+        Class<?> componentType = typeMeta.getType().getComponentType();
+        return componentType == null ? TypeMeta.OBJECT_META : new TypeMeta<>(componentType);
+    }
+
+    private void logInconvertibleType(Class<?> innerFromType, TypeMeta<?> innerToTypeMeta) {
+        log.warn(() -> String
+                .format("Cannot convert array component type '%s' to '%s'. Returning null.", innerFromType.getName(),
+                        innerToTypeMeta.getType().getName()));
     }
 }
@@ -30,9 +30,6 @@ import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Supplier;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Converts array to list with component type casting if necessary.
@@ -49,8 +46,13 @@ public final class ArrayToListConverter extends ArrayConverter<List<?>> {
     }
 
     @Override
-    protected <U> List<U> createFromStream(Stream<U> itemsStream, TypeMeta<? extends List<?>> toMeta) {
-        return itemsStream.collect(Collectors.toCollection(getTypeSupplier(toMeta.getType())));
+    @SuppressWarnings("unchecked")
+    protected List<?> createTarget(TypeMeta<? extends List<?>> toMeta, int size) {
+        Class<?> type = toMeta.getType();
+        if (type.isAssignableFrom(AbstractList.class)) {
+            return new ArrayList<>(size);
+        }
+        return (List<?>) InstanceCreationUtil.createItem(type);
     }
 
     @Override
@@ -58,11 +60,9 @@ public final class ArrayToListConverter extends ArrayConverter<List<?>> {
         return List.class;
     }
 
+    @Override
     @SuppressWarnings("unchecked")
-    private <U> Supplier<List<U>> getTypeSupplier(Class<?> type) {
-        if (type.isAssignableFrom(AbstractList.class)) {
-            return ArrayList::new;
-        }
-        return () -> (List<U>) InstanceCreationUtil.createItem(type);
+    protected void setItem(List<?> target, int index, Object item) {
+        ((List<Object>) target).add(item);
     }
 }
@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.converter.parameterized.array;
+
+import com.github.vladislavsevruk.converter.context.ConversionContext;
+import com.github.vladislavsevruk.converter.converter.parameterized.AbstractParameterizedTypeConverter;
+import com.github.vladislavsevruk.converter.util.ClassUtil;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import lombok.extern.log4j.Log4j2;
+
+import java.lang.reflect.Array;
+
+/**
+ * Converts array of reference type to array of primitive type. Elements of matching wrapper type are unboxed directly,
+ * other elements are converted using matching converters. <code>null</code> elements are left with default value.
+ */
+@Log4j2
+public final class ArrayToPrimitiveArrayConverter extends AbstractParameterizedTypeConverter<Object> {
+
+    public ArrayToPrimitiveArrayConverter(ConversionContext conversionContext) {
+        super(conversionContext);
+    }
+
+    @Override
+    protected boolean checkFromType(Class<?> fromType) {
+        return fromType.isArray() && !fromType.getComponentType().isPrimitive();
+    }
+
+    @Override
+    protected boolean checkToType(Class<?> toType) {
+        return toType.isArray() && toType.getComponentType().isPrimitive();
+    }
+
+    @Override
+    protected Object convertNonNullObject(Object from, TypeMeta<?> toMeta) {
+        Object[] fromValue = (Object[]) from;
+        PrimitiveArrayType toType = PrimitiveArrayType.of(toMeta.getType().getComponentType());
+        Class<?> innerFromType = ClassUtil.getCommonClass(fromValue);
+        TypeMeta<?> wrapperMeta = new TypeMeta<>(toType.getWrapperType());
+        if (!toType.getWrapperType().isAssignableFrom(innerFromType) && !getEngine()
+                .canConvert(innerFromType, wrapperMeta)) {
+            log.warn(() -> String.format("Cannot convert array component type '%s' to '%s'. Returning null.",
+                    innerFromType.getName(), toType.getComponentType().getName()));
+            return null;
+        }
+        Object result = Array.newInstance(toType.getComponentType(), fromValue.length);
+        for (int i = 0; i < fromValue.length; ++i) {
+            setElement(result, i, fromValue[i], toType, wrapperMeta);
+        }
+        return result;
+    }
+
+    @Override
+    protected Class<?> getFromType() {
+        return Object[].class;
+    }
+
+    @Override
+    protected Class<?> getToType() {
+        return Object.class;
+    }
+
+    private void setElement(Object array, int index, Object value, PrimitiveArrayType toType,
+            TypeMeta<?> wrapperMeta) {
+        if (value == null) {
+            return;
+        }
+        if (toType.getWrapperType().isInstance(value)) {
+            toType.set(array, index, value);
+            return;
+        }
+        Object convertedValue = getEngine().convert(value, wrapperMeta);
+        if (convertedValue != null) {
+            toType.set(array, index, convertedValue);
+        }
+    }
+}
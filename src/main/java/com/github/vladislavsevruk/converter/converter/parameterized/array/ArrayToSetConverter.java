@@ -24,15 +24,13 @@
 package com.github.vladislavsevruk.converter.converter.parameterized.array;
 
 import com.github.vladislavsevruk.converter.context.ConversionContext;
+import com.github.vladislavsevruk.converter.util.CollectionUtil;
 import com.github.vladislavsevruk.converter.util.InstanceCreationUtil;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 
 import java.util.AbstractSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
-import java.util.function.Supplier;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Converts array to set with component type casting if necessary.
@@ -48,7 +46,7 @@ public final class ArrayToSetConverter extends ArrayConverter<Set<?>> {
      */
     @Override
     public boolean canConvert(Class<?> from, Class<?> to) {
-        return from.isArray() && checkToType(to);
+        return checkFromType(from) && checkToType(to);
     }
 
     @Override
@@ -57,8 +55,11 @@ public final class ArrayToSetConverter extends ArrayConverter<Set<?>> {
     }
 
     @Override
-    protected <U> Set<U> createFromStream(Stream<U> itemsStream, TypeMeta<? extends Set<?>> toMeta) {
-        return itemsStream.collect(Collectors.toCollection(getTypeSupplier(toMeta.getType())));
+    protected Set<?> createTarget(TypeMeta<? extends Set<?>> toMeta, int size) {
+        if (toMeta.getType().isAssignableFrom(AbstractSet.class)) {
+            return new LinkedHashSet<>(CollectionUtil.getHashCapacity(size));
+        }
+        return InstanceCreationUtil.createItem(toMeta.getType());
     }
 
     @Override
@@ -66,11 +67,9 @@ public final class ArrayToSetConverter extends ArrayConverter<Set<?>> {
         return Set.class;
     }
 
+    @Override
     @SuppressWarnings("unchecked")
-    private <U> Supplier<Set<U>> getTypeSupplier(Class<? extends Set> type) {
-        if (type.isAssignableFrom(AbstractSet.class)) {
-            return LinkedHashSet::new;
-        }
-        return () -> (Set<U>) InstanceCreationUtil.createItem(type);
+    protected void setItem(Set<?> target, int index, Object item) {
+        ((Set<Object>) target).add(item);
     }
 }
@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.converter.parameterized.array;
+
+import com.github.vladislavsevruk.converter.context.ConversionContext;
+import com.github.vladislavsevruk.converter.converter.parameterized.AbstractParameterizedTypeConverter;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import lombok.extern.log4j.Log4j2;
+
+import java.lang.reflect.Array;
+
+/**
+ * Converts array of primitive type to another array. Arrays with the same component type are copied using
+ * <code>System.arraycopy</code>, arrays of numeric primitive types are converted element-wise without boxing and
+ * arrays of wrapper type are filled by boxed values. Other component types are converted using matching converters.
+ */
+@Log4j2
+public final class PrimitiveArrayToArrayConverter extends AbstractParameterizedTypeConverter<Object> {
+
+    public PrimitiveArrayToArrayConverter(ConversionContext conversionContext) {
+        super(conversionContext);
+    }
+
+    @Override
+    protected boolean checkFromType(Class<?> fromType) {
+        return fromType.isArray() && fromType.getComponentType().isPrimitive();
+    }
+
+    @Override
+    protected boolean checkToType(Class<?> toType) {
+        return toType.isArray();
+    }
+
+    @Override
+    protected Object convertNonNullObject(Object from, TypeMeta<?> toMeta) {
+        PrimitiveArrayType fromType = PrimitiveArrayType.of(from.getClass().getComponentType());
+        Class<?> toComponentType = toMeta.getType().getComponentType();
+        int length = Array.getLength(from);
+        if (fromType.getComponentType() == toComponentType) {
+            Object result = Array.newInstance(toComponentType, length);
+            System.arraycopy(from, 0, result, 0, length);
+            return result;
+        }
+        PrimitiveArrayType toType = PrimitiveArrayType.of(toComponentType);
+        if (toType != null && fromType.isNumeric() && toType.isNumeric()) {
+            Object result = Array.newInstance(toComponentType, length);
+            PrimitiveArrayType.copyNumeric(from, fromType, result, toType);
+            return result;
+        }
+        if (toComponentType.isAssignableFrom(fromType.getWrapperType())) {
+            Object[] result = (Object[]) Array.newInstance(toComponentType, length);
+            for (int i = 0; i < length; ++i) {
+                result[i] = fromType.get(from, i);
+            }
+            return result;
+        }
+        return convertElements(from, fromType, toMeta, toType);
+    }
+
+    @Override
+    protected Class<?> getFromType() {
+        return Object.class;
+    }
+
+    @Override
+    protected Class<?> getToType() {
+        return Object[].class;
+    }
+
+    private Object convertElements(Object from, PrimitiveArrayType fromType, TypeMeta<?> toMeta,
+            PrimitiveArrayType toType) {
+        Class<?> toComponentType = toMeta.getType().getComponentType();
+        TypeMeta<?> innerToTypeMeta = toMeta.getGenericTypes().length == 0 ? new TypeMeta<>(toComponentType)
+                : toMeta.getGenericTypes()[0];
+        if (!getEngine().canConvert(fromType.getWrapperType(), innerToTypeMeta)) {
+            log.warn(() -> String.format("Cannot convert array component type '%s' to '%s'. Returning null.",
+                    fromType.getComponentType().getName(), toComponentType.getName()));
+            return null;
+        }
+        int length = Array.getLength(from);
+        Object result = Array.newInstance(toComponentType, length);
+        for (int i = 0; i < length; ++i) {
+            Object value = getEngine().convert(fromType.get(from, i), innerToTypeMeta);
+            if (toType == null) {
+                ((Object[]) result)[i] = value;
+            } else if (value != null) {
+                toType.set(result, i, value);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.converter.parameterized.array;
+
+import com.github.vladislavsevruk.converter.context.ConversionContext;
+import com.github.vladislavsevruk.converter.converter.parameterized.AbstractParameterizedTypeConverter;
+import com.github.vladislavsevruk.converter.util.InstanceCreationUtil;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import lombok.extern.log4j.Log4j2;
+
+import java.lang.reflect.Array;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts array of primitive type to list. Elements are boxed to wrapper type if list element type is assignable from
+ * it, otherwise elements are converted using matching converters.
+ */
+@Log4j2
+public final class PrimitiveArrayToListConverter extends AbstractParameterizedTypeConverter<List<?>> {
+
+    public PrimitiveArrayToListConverter(ConversionContext conversionContext) {
+        super(conversionContext);
+    }
+
+    @Override
+    protected boolean checkFromType(Class<?> fromType) {
+        return fromType.isArray() && fromType.getComponentType().isPrimitive();
+    }
+
+    @Override
+    protected boolean checkToType(Class<?> toType) {
+        return getToType().isAssignableFrom(toType) || toType.isAssignableFrom(getToType());
+    }
+
+    @Override
+    protected List<?> convertNonNullObject(Object from, TypeMeta<? extends List<?>> toMeta) {
+        PrimitiveArrayType fromType = PrimitiveArrayType.of(from.getClass().getComponentType());
+        TypeMeta<?> innerToTypeMeta = toMeta.getGenericTypes().length == 0 ? TypeMeta.OBJECT_META
+                : toMeta.getGenericTypes()[0];
+        boolean boxOnly = innerToTypeMeta.getType().isAssignableFrom(fromType.getWrapperType());
+        if (!boxOnly && !getEngine().canConvert(fromType.getWrapperType(), innerToTypeMeta)) {
+            log.warn(() -> String.format("Cannot convert array component type '%s' to '%s'. Returning null.",
+                    fromType.getComponentType().getName(), innerToTypeMeta.getType().getName()));
+            return null;
+        }
+        int length = Array.getLength(from);
+        List<Object> result = createList(toMeta.getType(), length);
+        for (int i = 0; i < length; ++i) {
+            Object value = fromType.get(from, i);
+            result.add(boxOnly ? value : getEngine().convert(value, innerToTypeMeta));
+        }
+        return result;
+    }
+
+    @Override
+    protected Class<?> getFromType() {
+        return Object.class;
+    }
+
+    @Override
+    protected Class<List> getToType() {
+        return List.class;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> createList(Class<?> type, int size) {
+        if (type.isAssignableFrom(AbstractList.class)) {
+            return new ArrayList<>(size);
+        }
+        return (List<Object>) InstanceCreationUtil.createItem(type);
+    }
+}
@@ -0,0 +1,397 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.converter.parameterized.array;
+
+import java.lang.reflect.Array;
+
+/**
+ * Element accessors for arrays of primitive types. Numeric values are read and written as <code>long</code> or
+ * <code>double</code> so values can be copied between arrays of different numeric types without boxing.
+ */
+public enum PrimitiveArrayType {
+    BOOLEAN(boolean.class, Boolean.class, false, false) {
+        @Override
+        public Object get(Object array, int index) {
+            return ((boolean[]) array)[index];
+        }
+
+        @Override
+        public void set(Object array, int index, Object value) {
+            ((boolean[]) array)[index] = (Boolean) value;
+        }
+    },
+    BYTE(byte.class, Byte.class, true, false) {
+        @Override
+        public Object get(Object array, int index) {
+            return ((byte[]) array)[index];
+        }
+
+        @Override
+        public double getDouble(Object array, int index) {
+            return ((byte[]) array)[index];
+        }
+
+        @Override
+        public long getLong(Object array, int index) {
+            return ((byte[]) array)[index];
+        }
+
+        @Override
+        public void set(Object array, int index, Object value) {
+            ((byte[]) array)[index] = (Byte) value;
+        }
+
+        @Override
+        public void setDouble(Object array, int index, double value) {
+            ((byte[]) array)[index] = (byte) value;
+        }
+
+        @Override
+        public void setLong(Object array, int index, long value) {
+            ((byte[]) array)[index] = (byte) value;
+        }
+    },
+    CHAR(char.class, Character.class, true, false) {
+        @Override
+        public Object get(Object array, int index) {
+            return ((char[]) array)[index];
+        }
+
+        @Override
+        public double getDouble(Object array, int index) {
+            return ((char[]) array)[index];
+        }
+
+        @Override
+        public long getLong(Object array, int index) {
+            return ((char[]) array)[index];
+        }
+
+        @Override
+        public void set(Object array, int index, Object value) {
+            ((char[]) array)[index] = (Character) value;
+        }
+
+        @Override
+        public void setDouble(Object array, int index, double value) {
+            ((char[]) array)[index] = (char) value;
+        }
+
+        @Override
+        public void setLong(Object array, int index, long value) {
+            ((char[]) array)[index] = (char) value;
+        }
+    },
+    DOUBLE(double.class, Double.class, true, true) {
+        @Override
+        public Object get(Object array, int index) {
+            return ((double[]) array)[index];
+        }
+
+        @Override
+        public double getDouble(Object array, int index) {
+            return ((double[]) array)[index];
+        }
+
+        @Override
+        public long getLong(Object array, int index) {
+            return (long) ((double[]) array)[index];
+        }
+
+        @Override
+        public void set(Object array, int index, Object value) {
+            ((double[]) array)[index] = (Double) value;
+        }
+
+        @Override
+        public void setDouble(Object array, int index, double value) {
+            ((double[]) array)[index] = value;
+        }
+
+        @Override
+        public void setLong(Object array, int index, long value) {
+            ((double[]) array)[index] = value;
+        }
+    },
+    FLOAT(float.class, Float.class, true, true) {
+        @Override
+        public Object get(Object array, int index) {
+            return ((float[]) array)[index];
+        }
+
+        @Override
+        public double getDouble(Object array, int index) {
+            return ((float[]) array)[index];
+        }
+
+        @Override
+        public long getLong(Object array, int index) {
+            return (long) ((float[]) array)[index];
+        }
+
+        @Override
+        public void set(Object array, int index, Object value) {
+            ((float[]) array)[index] = (Float) value;
+        }
+
+        @Override
+        public void setDouble(Object array, int index, double value) {
+            ((float[]) array)[index] = (float) value;
+        }
+
+        @Override
+        public void setLong(Object array, int index, long value) {
+            ((float[]) array)[index] = value;
+        }
+    },
+    INT(int.class, Integer.class, true, false) {
+        @Override
+        public Object get(Object array, int index) {
+            return ((int[]) array)[index];
+        }
+
+        @Override
+        public double getDouble(Object array, int index) {
+            return ((int[]) array)[index];
+        }
+
+        @Override
+        public long getLong(Object array, int index) {
+            return ((int[]) array)[index];
+        }
+
+        @Override
+        public void set(Object array, int index, Object value) {
+            ((int[]) array)[index] = (Integer) value;
+        }
+
+        @Override
+        public void setDouble(Object array, int index, double value) {
+            ((int[]) array)[index] = (int) value;
+        }
+
+        @Override
+        public void setLong(Object array, int index, long value) {
+            ((int[]) array)[index] = (int) value;
+        }
+    },
+    LONG(long.class, Long.class, true, false) {
+        @Override
+        public Object get(Object array, int index) {
+            return ((long[]) array)[index];
+        }
+
+        @Override
+        public double getDouble(Object array, int index) {
+            return ((long[]) array)[index];
+        }
+
+        @Override
+        public long getLong(Object array, int index) {
+            return ((long[]) array)[index];
+        }
+
+        @Override
+        public void set(Object array, int index, Object value) {
+            ((long[]) array)[index] = (Long) value;
+        }
+
+        @Override
+        public void setDouble(Object array, int index, double value) {
+            ((long[]) array)[index] = (long) value;
+        }
+
+        @Override
+        public void setLong(Object array, int index, long value) {
+            ((long[]) array)[index] = value;
+        }
+    },
+    SHORT(short.class, Short.class, true, false) {
+        @Override
+        public Object get(Object array, int index) {
+            return ((short[]) array)[index];
+        }
+
+        @Override
+        public double getDouble(Object array, int index) {
+            return ((short[]) array)[index];
+        }
+
+        @Override
+        public long getLong(Object array, int index) {
+            return ((short[]) array)[index];
+        }
+
+        @Override
+        public void set(Object array, int index, Object value) {
+            ((short[]) array)[index] = (Short) value;
+        }
+
+        @Override
+        public void setDouble(Object array, int index, double value) {
+            ((short[]) array)[index] = (short) value;
+        }
+
+        @Override
+        public void setLong(Object array, int index, long value) {
+            ((short[]) array)[index] = (short) value;
+        }
+    };
+
+    private final Class<?> componentType;
+    private final boolean floatingPoint;
+    private final boolean numeric;
+    private final Class<?> wrapperType;
+
+    PrimitiveArrayType(Class<?> componentType, Class<?> wrapperType, boolean numeric, boolean floatingPoint) {
+        this.componentType = componentType;
+        this.wrapperType = wrapperType;
+        this.numeric = numeric;
+        this.floatingPoint = floatingPoint;
+    }
+
+    /**
+     * Copies values from array of one primitive numeric type to array of another primitive numeric type with the same
+     * length using primitive casting rules.
+     *
+     * @param from     source array.
+     * @param fromType <code>PrimitiveArrayType</code> of source array.
+     * @param to       target array.
+     * @param toType   <code>PrimitiveArrayType</code> of target array.
+     */
+    public static void copyNumeric(Object from, PrimitiveArrayType fromType, Object to, PrimitiveArrayType toType) {
+        int length = Array.getLength(from);
+        if (fromType.floatingPoint || toType.floatingPoint) {
+            for (int i = 0; i < length; ++i) {
+                toType.setDouble(to, i, fromType.getDouble(from, i));
+            }
+        } else {
+            for (int i = 0; i < length; ++i) {
+                toType.setLong(to, i, fromType.getLong(from, i));
+            }
+        }
+    }
+
+    /**
+     * Returns type for arrays with received component type.
+     *
+     * @param componentType component <code>Class</code> of array.
+     * @return matching <code>PrimitiveArrayType</code> or <code>null</code> if received type isn't primitive.
+     */
+    public static PrimitiveArrayType of(Class<?> componentType) {
+        for (PrimitiveArrayType type : values()) {
+            if (type.componentType == componentType) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns boxed element of received array.
+     *
+     * @param array array of this type.
+     * @param index index of element.
+     * @return boxed element value.
+     */
+    public abstract Object get(Object array, int index);
+
+    /**
+     * Returns primitive component type of arrays of this type.
+     */
+    public Class<?> getComponentType() {
+        return componentType;
+    }
+
+    /**
+     * Returns element of received array as <code>double</code>.
+     *
+     * @param array array of this type.
+     * @param index index of element.
+     * @return element value.
+     * @throws UnsupportedOperationException if this type isn't numeric.
+     */
+    public double getDouble(Object array, int index) {
+        throw new UnsupportedOperationException(componentType.getName() + " isn't numeric type.");
+    }
+
+    /**
+     * Returns element of received array as <code>long</code>.
+     *
+     * @param array array of this type.
+     * @param index index of element.
+     * @return element value.
+     * @throws UnsupportedOperationException if this type isn't numeric.
+     */
+    public long getLong(Object array, int index) {
+        throw new UnsupportedOperationException(componentType.getName() + " isn't numeric type.");
+    }
+
+    /**
+     * Returns wrapper type for component type of arrays of this type.
+     */
+    public Class<?> getWrapperType() {
+        return wrapperType;
+    }
+
+    /**
+     * Checks if component type of arrays of this type is numeric.
+     */
+    public boolean isNumeric() {
+        return numeric;
+    }
+
+    /**
+     * Sets boxed value to element of received array.
+     *
+     * @param array array of this type.
+     * @param index index of element.
+     * @param value value of wrapper type.
+     */
+    public abstract void set(Object array, int index, Object value);
+
+    /**
+     * Sets <code>double</code> value to element of received array using primitive casting rules.
+     *
+     * @param array array of this type.
+     * @param index index of element.
+     * @param value value to set.
+     * @throws UnsupportedOperationException if this type isn't numeric.
+     */
+    public void setDouble(Object array, int index, double value) {
+        throw new UnsupportedOperationException(componentType.getName() + " isn't numeric type.");
+    }
+
+    /**
+     * Sets <code>long</code> value to element of received array using primitive casting rules.
+     *
+     * @param array array of this type.
+     * @param index index of element.
+     * @param value value to set.
+     * @throws UnsupportedOperationException if this type isn't numeric.
+     */
+    public void setLong(Object array, int index, long value) {
+        throw new UnsupportedOperationException(componentType.getName() + " isn't numeric type.");
+    }
+}
@@ -23,19 +23,37 @@
  */
 package com.github.vladislavsevruk.converter.converter.parameterized.custom;
 
+import com.github.vladislavsevruk.converter.cache.BoundedCache;
+import com.github.vladislavsevruk.converter.cache.TypePairKey;
 import com.github.vladislavsevruk.converter.context.ConversionContext;
+import com.github.vladislavsevruk.converter.context.ConversionSettings;
+import com.github.vladislavsevruk.converter.context.PropertyCopyPolicy;
 import com.github.vladislavsevruk.converter.converter.parameterized.AbstractParameterizedTypeConverter;
+import com.github.vladislavsevruk.converter.converter.parameterized.ClassTypeConverterAdapter;
+import com.github.vladislavsevruk.converter.converter.parameterized.MergingTypeConverter;
+import com.github.vladislavsevruk.converter.converter.parameterized.custom.MappingStep.ResolvedSetter;
+import com.github.vladislavsevruk.converter.converter.simple.AssignableObjectConverter;
 import com.github.vladislavsevruk.converter.converter.simple.ClassTypeConverter;
+import com.github.vladislavsevruk.converter.converter.simple.number.NumberConverter;
+import com.github.vladislavsevruk.converter.engine.ConversionSession;
+import com.github.vladislavsevruk.converter.exception.TypeConversionException;
+import com.github.vladislavsevruk.converter.instrumentation.ConversionInstrumentation;
+import com.github.vladislavsevruk.converter.mapper.GetterSetterMapper;
+import com.github.vladislavsevruk.converter.mapper.accessor.GetterAccessor;
+import com.github.vladislavsevruk.converter.mapper.accessor.MethodAccessorFactory;
+import com.github.vladislavsevruk.converter.mapper.accessor.PropertyCopyAccessor;
 import com.github.vladislavsevruk.converter.mapper.method.MappedMethod;
 import com.github.vladislavsevruk.converter.util.InstanceCreationUtil;
 import com.github.vladislavsevruk.converter.util.MethodUtil;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import lombok.Value;
 import lombok.extern.log4j.Log4j2;
 
 import java.lang.reflect.Method;
 import java.time.temporal.TemporalAccessor;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Date;
 import java.util.Dictionary;
 import java.util.List;
@@ -46,13 +64,51 @@ import java.util.stream.Collectors;
 
 /**
  * Converts one type to another with casting inner types of initial model to inner types of target model if necessary.
- * Specified for conversion of complex custom types.
+ * Specified for conversion of complex custom types. Getters of donor class and setters of acceptor type are collected
+ * once per pair of types and stored at mapping plan that is reset on every modification of converters or custom
+ * mappings. Values of primitive numeric getters that are mapped to primitive numeric setters by default converters are
+ * copied without boxing unless conversions are traced or instrumented. If bytecode mappers are enabled at <code>ConversionSettings</code> frequently used plans are
+ * switched to generated mapper classes. Can fill existing instances of acceptor type using the same mapping plans.
+ * Values are passed to setters according to <code>PropertyCopyPolicy</code> from <code>ConversionSettings</code>.
  */
 @Log4j2
-public final class CustomTypeConverter extends AbstractParameterizedTypeConverter<Object> {
+public final class CustomTypeConverter extends AbstractParameterizedTypeConverter<Object>
+        implements MergingTypeConverter<Object> {
+
+    private static final int DEFAULT_CACHE_SIZE = 1024;
+    private final int cacheSize;
+    private volatile MappingPlans mappingPlans;
 
     public CustomTypeConverter(ConversionContext conversionContext) {
+        this(conversionContext, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates new instance with cache of received size for mapping plans.
+     *
+     * @param conversionContext <code>ConversionContext</code> to use.
+     * @param cacheSize         maximum number of donor and acceptor types pairs to store mapping plans for.
+     */
+    public CustomTypeConverter(ConversionContext conversionContext, int cacheSize) {
         super(conversionContext);
+        this.cacheSize = cacheSize;
+        mappingPlans = new MappingPlans(new BoundedCache<>(cacheSize),
+                conversionContext.getTypeConverterStorage().getModificationCount(),
+                conversionContext.getCustomGetterSetterMappingStorage().getModificationCount());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <U> U convertInto(Object from, U to, TypeMeta<?> toMeta) {
+        validateInput(from, toMeta);
+        if (!toMeta.getType().isInstance(to)) {
+            String message = String.format("Expected existing instance of '%s' type but received: '%s'.",
+                    toMeta.getType().getName(), Objects.isNull(to) ? null : to.getClass().getName());
+            throw new TypeConversionException(message);
+        }
+        return mergeNonNullObject(from, to, toMeta, getContext().getConversionSettings().isNestedValuesReuseEnabled());
     }
 
     @Override
@@ -68,12 +124,20 @@ public final class CustomTypeConverter extends AbstractParameterizedTypeConverte
     @Override
     protected Object convertNonNullObject(Object from, TypeMeta<?> toMeta) {
         Class<?> toType = toMeta.getType();
-        log.debug(() -> String
-                .format("Trying to convert from '%s' to '%s'.", from.getClass().getName(), toType.getName()));
+        boolean tracing = getContext().isTracingEnabled();
+        if (tracing) {
+            log.debug("Trying to convert from '{}' to '{}'.", from.getClass().getName(), toType.getName());
+        }
         Object targetModel = InstanceCreationUtil.createItem(toType);
-        setValues(from, targetModel, toMeta);
-        log.debug(() -> String
-                .format("Successfully converted from '%s' to '%s'.", from.getClass().getName(), toType.getName()));
+        ConversionSession session = getSession();
+        if (session != null) {
+            // model is remembered before its properties are set so cyclic references are resolved to it
+            session.putConverted(from, toMeta, targetModel);
+        }
+        setValues(from, targetModel, toMeta, tracing, false);
+        if (tracing) {
+            log.debug("Successfully converted from '{}' to '{}'.", from.getClass().getName(), toType.getName());
+        }
         return targetModel;
     }
 
@@ -87,12 +151,89 @@ public final class CustomTypeConverter extends AbstractParameterizedTypeConverte
         return Object.class;
     }
 
-    private Object getDonorMethodValue(Object donor, Method donorMethod) {
-        log.debug(() -> String.format("Trying to get value from '%s' donor method.", donorMethod.getName()));
+    private Object convertDonorValue(ClassTypeConverter<?> donorValueConverter, Object donorValue,
+            ResolvedSetter resolvedSetter) {
+        ConversionInstrumentation instrumentation = getContext().getConversionInstrumentation();
+        if (!instrumentation.isEnabled()) {
+            return donorValueConverter.convert(donorValue);
+        }
+        // property values are converted by mapped converters directly so they are reported here instead of engine
+        long startTime = System.nanoTime();
+        Object convertedValue;
         try {
-            Object donorValue = donorMethod.invoke(donor);
-            if (Objects.isNull(donorValue)) {
-                log.debug(() -> "Donor value is 'null'.");
+            convertedValue = donorValueConverter.convert(donorValue);
+        } catch (RuntimeException rtEx) {
+            instrumentation.recordConversionFailure(donorValue.getClass(), resolvedSetter.getParameterMeta(),
+                    System.nanoTime() - startTime);
+            throw rtEx;
+        }
+        instrumentation.recordConversion(donorValue.getClass(), resolvedSetter.getParameterMeta(),
+                System.nanoTime() - startTime, convertedValue == null);
+        return convertedValue;
+    }
+
+    private void copyPrimitiveValue(Object donor, Object acceptor, MappingStep step,
+            PropertyCopyAccessor copyAccessor) {
+        try {
+            copyAccessor.copyValue(donor, acceptor);
+        } catch (ReflectiveOperationException reOpEx) {
+            log.warn(() -> String.format("Failed to copy value of '%s' donor method.", step.getDonorMethod().getName()),
+                    reOpEx);
+        }
+    }
+
+    private PropertyCopyAccessor createPrimitiveCopyAccessor(MappingStep step, MappedMethod mappedMethod) {
+        ClassTypeConverter<?> typeConverter = mappedMethod.getTypeConverter();
+        // custom converters may have different logic than primitive casts so only default ones are replaced
+        if (typeConverter == null || typeConverter instanceof AssignableObjectConverter
+                || typeConverter instanceof NumberConverter && getContext().getTypeConverterStorage()
+                .isDefaultConverter(typeConverter)) {
+            return MethodAccessorFactory.primitiveCopyAccessor(step.getDonorMethod(), mappedMethod.getAcceptorMethod());
+        }
+        return null;
+    }
+
+    private <T> void executeSteps(Object donor, T acceptor, MappingPlan plan, MappingStep[] steps, boolean tracing,
+            boolean reuseNested, PropertyCopyPolicy copyPolicy) {
+        // primitive values are compared with acceptor values after boxing, traced and measured conversions of
+        // primitive values are performed by converters as well
+        boolean primitiveCopyEnabled = copyPolicy != PropertyCopyPolicy.SKIP_UNCHANGED && !tracing && !getContext()
+                .getConversionInstrumentation().isEnabled();
+        for (MappingStep step : steps) {
+            pickMatchingSetterAndSetValue(donor, step, acceptor, plan, tracing, reuseNested, copyPolicy,
+                    primitiveCopyEnabled);
+        }
+    }
+
+    @SuppressWarnings("java:S3864")
+    private MappingPlan createMappingPlan(Class<?> donorClass, TypeMeta<?> acceptorMeta) {
+        log.debug(() -> String.format("Creating mapping plan from '%s' to '%s'.", donorClass.getName(), acceptorMeta));
+        List<Method> acceptorMethods = getPotentialSetters(acceptorMeta.getType());
+        GetterSetterMapper getterSetterMapper = getContext().getGetterSetterMapper();
+        MappingStep[] steps = Arrays.stream(donorClass.getMethods()).filter(MethodUtil::nonStatic)
+                .filter(MethodUtil::nonObjectMethod).filter(MethodUtil::canBeGetter)
+                .peek(method -> log.debug(() -> String.format("Found potential getter - '%s'.", method.getName())))
+                .map(method -> new MappingStep(method,
+                        getterSetterMapper.mapNullValueSetter(method, acceptorMeta, acceptorMethods)))
+                .toArray(MappingStep[]::new);
+        return new MappingPlan(donorClass, acceptorMeta, acceptorMethods, steps);
+    }
+
+    private Object getAcceptorMethodValue(Object acceptor, ResolvedSetter resolvedSetter)
+            throws ReflectiveOperationException {
+        GetterAccessor acceptorGetterAccessor = resolvedSetter.getAcceptorGetterAccessor();
+        return Objects.nonNull(acceptorGetterAccessor) ? acceptorGetterAccessor.getValue(acceptor) : null;
+    }
+
+    private Object getDonorMethodValue(Object donor, MappingStep step, boolean tracing) {
+        Method donorMethod = step.getDonorMethod();
+        if (tracing) {
+            log.debug("Trying to get value from '{}' donor method.", donorMethod.getName());
+        }
+        try {
+            Object donorValue = step.getDonorAccessor().getValue(donor);
+            if (tracing && Objects.isNull(donorValue)) {
+                log.debug("Donor value is 'null'.");
             }
             return donorValue;
         } catch (ReflectiveOperationException reOpEx) {
@@ -119,41 +260,200 @@ public final class CustomTypeConverter extends AbstractParameterizedTypeConverte
                 .isAssignableFrom(type) && !Dictionary.class.isAssignableFrom(type);
     }
 
-    private <T> void pickMatchingSetterAndSetValue(Object donor, Method donorMethod, T acceptor,
-            TypeMeta<?> acceptorMeta, List<Method> acceptorMethods) {
-        Object donorMethodValue = getDonorMethodValue(donor, donorMethod);
-        if (Objects.nonNull(donorMethodValue)) {
-            MappedMethod methodPair = getContext().getGetterSetterMapper()
-                    .mapMatchingSetter(donorMethod, donorMethodValue, acceptorMeta, acceptorMethods);
-            if (Objects.nonNull(methodPair)) {
-                setAcceptorMethodValue(acceptor, methodPair, donorMethodValue);
+    private MappingPlan getMappingPlan(Class<?> donorClass, TypeMeta<?> acceptorMeta) {
+        return getMappingPlans().computeIfAbsent(new TypePairKey(donorClass, acceptorMeta),
+                key -> createMappingPlan(donorClass, acceptorMeta));
+    }
+
+    private BoundedCache<TypePairKey, MappingPlan> getMappingPlans() {
+        long convertersModificationCount = getContext().getTypeConverterStorage().getModificationCount();
+        long mappingsModificationCount = getContext().getCustomGetterSetterMappingStorage().getModificationCount();
+        MappingPlans currentMappingPlans = mappingPlans;
+        if (currentMappingPlans.getConvertersModificationCount() != convertersModificationCount
+                || currentMappingPlans.getMappingsModificationCount() != mappingsModificationCount) {
+            log.debug("Converters or custom mappings were modified, resetting cache of mapping plans.");
+            currentMappingPlans = new MappingPlans(new BoundedCache<>(cacheSize), convertersModificationCount,
+                    mappingsModificationCount);
+            mappingPlans = currentMappingPlans;
+        }
+        return currentMappingPlans.getCache();
+    }
+
+    private boolean mergeIntoAcceptorModel(Object acceptorValue, ClassTypeConverter<?> donorValueConverter,
+            Object donorValue, boolean tracing) {
+        if (!(donorValueConverter instanceof ClassTypeConverterAdapter)) {
+            return false;
+        }
+        ClassTypeConverterAdapter<?> converterAdapter = (ClassTypeConverterAdapter<?>) donorValueConverter;
+        TypeMeta<?> acceptorValueMeta = converterAdapter.getToTypeMeta();
+        if (converterAdapter.getParameterizedTypeConverter() != this || !acceptorValueMeta.getType()
+                .isInstance(acceptorValue)) {
+            return false;
+        }
+        if (tracing) {
+            log.debug("Converting into existing '{}' value of acceptor.", acceptorValue.getClass().getName());
+        }
+        mergeNonNullObject(donorValue, acceptorValue, acceptorValueMeta, true);
+        return true;
+    }
+
+    private <U> U mergeNonNullObject(Object from, U to, TypeMeta<?> toMeta, boolean reuseNested) {
+        boolean tracing = getContext().isTracingEnabled();
+        if (tracing) {
+            log.debug("Trying to convert from '{}' into existing '{}'.", from.getClass().getName(),
+                    to.getClass().getName());
+        }
+        ConversionSession session = getSession();
+        if (session != null) {
+            session.putConverted(from, toMeta, to);
+        }
+        setValues(from, to, toMeta, tracing, reuseNested);
+        if (tracing) {
+            log.debug("Successfully converted from '{}' into existing '{}'.", from.getClass().getName(),
+                    to.getClass().getName());
+        }
+        return to;
+    }
+
+    private <T> void pickMatchingSetterAndSetValue(Object donor, MappingStep step, T acceptor, MappingPlan plan,
+            boolean tracing, boolean reuseNested, PropertyCopyPolicy copyPolicy, boolean primitiveCopyEnabled) {
+        PropertyCopyAccessor primitiveCopyAccessor = step.getPrimitiveCopyAccessor();
+        if (primitiveCopyEnabled && Objects.nonNull(primitiveCopyAccessor)) {
+            copyPrimitiveValue(donor, acceptor, step, primitiveCopyAccessor);
+            return;
+        }
+        Object donorMethodValue = getDonorMethodValue(donor, step, tracing);
+        if (Objects.isNull(donorMethodValue)) {
+            if (copyPolicy == PropertyCopyPolicy.ALWAYS) {
+                setNullValue(acceptor, step, tracing);
             }
+            return;
         }
+        Class<?> donorMethodValueClass = donorMethodValue.getClass();
+        ResolvedSetter resolvedSetter = step.getResolvedSetter(donorMethodValueClass);
+        if (Objects.isNull(resolvedSetter)) {
+            MappedMethod mappedMethod = getContext().getGetterSetterMapper()
+                    .mapMatchingSetter(step.getDonorMethod(), donorMethodValue, plan.getAcceptorMeta(),
+                            plan.getAcceptorMethods());
+            resolvedSetter = step.storeResolvedSetter(donorMethodValueClass, mappedMethod);
+            if (Objects.nonNull(mappedMethod) && step.getDonorMethod().getReturnType().isPrimitive()) {
+                step.setPrimitiveCopyAccessor(createPrimitiveCopyAccessor(step, mappedMethod));
+            }
+        }
+        if (Objects.nonNull(resolvedSetter.getMappedMethod())) {
+            setAcceptorMethodValue(acceptor, resolvedSetter, donorMethodValue, tracing, reuseNested, copyPolicy);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean refillAcceptorContainer(Object acceptorValue, Object convertedValue) {
+        if (acceptorValue == convertedValue) {
+            return true;
+        }
+        try {
+            if (acceptorValue instanceof Collection && convertedValue instanceof Collection) {
+                Collection<Object> acceptorCollection = (Collection<Object>) acceptorValue;
+                acceptorCollection.clear();
+                acceptorCollection.addAll((Collection<?>) convertedValue);
+                return true;
+            }
+            if (acceptorValue instanceof Map && convertedValue instanceof Map) {
+                Map<Object, Object> acceptorMap = (Map<Object, Object>) acceptorValue;
+                acceptorMap.clear();
+                acceptorMap.putAll((Map<?, ?>) convertedValue);
+                return true;
+            }
+        } catch (UnsupportedOperationException uoEx) {
+            // unmodifiable containers are replaced using setter
+            log.debug("Existing '{}' value of acceptor cannot be modified.", acceptorValue.getClass().getName());
+        }
+        return false;
     }
 
-    private void setAcceptorMethodValue(Object acceptor, MappedMethod methodPair, Object donorValue) {
+    private void setAcceptorMethodValue(Object acceptor, ResolvedSetter resolvedSetter, Object donorValue,
+            boolean tracing, boolean reuseNested, PropertyCopyPolicy copyPolicy) {
+        MappedMethod methodPair = resolvedSetter.getMappedMethod();
         Method acceptorMethod = methodPair.getAcceptorMethod();
-        log.debug(() -> String.format("Trying to set value to '%s' acceptor method.", acceptorMethod.getName()));
+        if (tracing) {
+            log.debug("Trying to set value to '{}' acceptor method.", acceptorMethod.getName());
+        }
         try {
             ClassTypeConverter<?> donorValueConverter = methodPair.getTypeConverter();
+            boolean skipUnchanged = copyPolicy == PropertyCopyPolicy.SKIP_UNCHANGED;
+            Object acceptorValue = reuseNested || skipUnchanged ? getAcceptorMethodValue(acceptor, resolvedSetter)
+                    : null;
             if (Objects.nonNull(donorValueConverter)) {
-                log.debug(() -> String.format("Trying to convert value using '%s'.", donorValueConverter.getName()));
-                donorValue = donorValueConverter.convert(donorValue);
+                if (reuseNested && Objects.nonNull(acceptorValue) && mergeIntoAcceptorModel(acceptorValue,
+                        donorValueConverter, donorValue, tracing)) {
+                    return;
+                }
+                if (tracing) {
+                    log.debug("Trying to convert value using '{}'.", donorValueConverter.getName());
+                }
+                donorValue = convertDonorValue(donorValueConverter, donorValue, resolvedSetter);
             }
-            acceptorMethod.invoke(acceptor, donorValue);
+            if (skipUnchanged && Objects.equals(acceptorValue, donorValue)) {
+                if (tracing) {
+                    log.debug("Value of '{}' acceptor method is unchanged.", acceptorMethod.getName());
+                }
+                return;
+            }
+            if (reuseNested && Objects.nonNull(donorValueConverter) && Objects.nonNull(acceptorValue)
+                    && refillAcceptorContainer(acceptorValue, donorValue)) {
+                return;
+            }
+            resolvedSetter.getSetterAccessor().setValue(acceptor, donorValue);
         } catch (ReflectiveOperationException reOpEx) {
             log.warn(() -> String.format("Failed to set value to '%s' acceptor method.", acceptorMethod.getName()),
                     reOpEx);
         }
     }
 
-    @SuppressWarnings("java:S3864")
-    private <T> void setValues(Object donor, T acceptor, TypeMeta<?> acceptorMeta) {
-        List<Method> acceptorMethods = getPotentialSetters(acceptorMeta.getType());
-        Arrays.stream(donor.getClass().getMethods()).filter(MethodUtil::nonStatic).filter(MethodUtil::nonObjectMethod)
-                .filter(MethodUtil::canBeGetter)
-                .peek(method -> log.debug(() -> String.format("Found potential getter - '%s'.", method.getName())))
-                .forEach(method -> pickMatchingSetterAndSetValue(donor, method, acceptor, acceptorMeta,
-                        acceptorMethods));
+    private void setNullValue(Object acceptor, MappingStep step, boolean tracing) {
+        Method acceptorMethod = step.getNullValueSetter();
+        if (Objects.isNull(acceptorMethod)) {
+            return;
+        }
+        if (tracing) {
+            log.debug("Trying to set 'null' to '{}' acceptor method.", acceptorMethod.getName());
+        }
+        try {
+            step.getNullValueSetterAccessor().setValue(acceptor, null);
+        } catch (ReflectiveOperationException reOpEx) {
+            log.warn(() -> String.format("Failed to set value to '%s' acceptor method.", acceptorMethod.getName()),
+                    reOpEx);
+        }
+    }
+
+    private <T> void setValues(Object donor, T acceptor, TypeMeta<?> acceptorMeta, boolean tracing,
+            boolean reuseNested) {
+        MappingPlan plan = getMappingPlan(donor.getClass(), acceptorMeta);
+        ConversionSettings settings = getContext().getConversionSettings();
+        PropertyCopyPolicy copyPolicy = settings.getPropertyCopyPolicy();
+        if (!settings.isBytecodeMappersEnabled()) {
+            executeSteps(donor, acceptor, plan, plan.getSteps(), tracing, reuseNested, copyPolicy);
+            return;
+        }
+        GeneratedMapper generatedMapper = plan.getGeneratedMapper();
+        // mapper evaluates policy it was generated for so regular mapping is used after policy change until mapper is
+        // generated for new policy
+        if (Objects.nonNull(generatedMapper) && plan.getGeneratedMapperCopyPolicy() == copyPolicy) {
+            generatedMapper.map(donor, acceptor);
+            executeSteps(donor, acceptor, plan, plan.getRemainingSteps(), tracing, reuseNested, copyPolicy);
+            return;
+        }
+        executeSteps(donor, acceptor, plan, plan.getSteps(), tracing, reuseNested, copyPolicy);
+        // steps are resolved at least once before generation so stable properties can be inlined
+        if (plan.registerInvocation(settings.getBytecodeMapperThreshold(), copyPolicy)) {
+            MapperGenerator.generate(plan, copyPolicy);
+        }
+    }
+
+    @Value
+    private static class MappingPlans {
+
+        BoundedCache<TypePairKey, MappingPlan> cache;
+        long convertersModificationCount;
+        long mappingsModificationCount;
     }
 }
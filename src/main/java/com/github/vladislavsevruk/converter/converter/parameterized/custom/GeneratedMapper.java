@@ -0,0 +1,56 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.converter.parameterized.custom;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Base class for mapper classes generated at runtime for frequently converted donor and acceptor types. Generated
+ * mappers call getters and setters directly for properties that don't require type conversion. Isn't intended to be
+ * extended manually.
+ */
+@Log4j2
+public abstract class GeneratedMapper {
+
+    protected GeneratedMapper() {
+    }
+
+    /**
+     * Copies values of inlined properties from donor to acceptor.
+     *
+     * @param donor    donor model.
+     * @param acceptor acceptor model.
+     */
+    public abstract void map(Object donor, Object acceptor);
+
+    /**
+     * Called by generated code when getter or setter of inlined property throws exception.
+     *
+     * @param donorMethodName name of donor getter.
+     * @param throwable       thrown exception.
+     */
+    protected void onPropertyFailure(String donorMethodName, Throwable throwable) {
+        log.warn(() -> String.format("Failed to copy value of '%s' donor method.", donorMethodName), throwable);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.converter.parameterized.custom;
+
+/**
+ * Class loader for generated mapper classes. Resolves classes using loader of <code>GeneratedMapper</code> first and
+ * then loaders of donor and acceptor types.
+ */
+final class MapperClassLoader extends ClassLoader {
+
+    private final ClassLoader acceptorClassLoader;
+    private final ClassLoader donorClassLoader;
+
+    MapperClassLoader(Class<?> donorClass, Class<?> acceptorClass) {
+        super(GeneratedMapper.class.getClassLoader());
+        this.donorClassLoader = donorClass.getClassLoader();
+        this.acceptorClassLoader = acceptorClass.getClassLoader();
+    }
+
+    /**
+     * Defines mapper class using received bytecode.
+     *
+     * @param className binary name of mapper class.
+     * @param bytecode  class file bytes.
+     * @return defined mapper <code>Class</code>.
+     */
+    Class<?> defineMapperClass(String className, byte[] bytecode) {
+        return defineClass(className, bytecode, 0, bytecode.length);
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        for (ClassLoader classLoader : new ClassLoader[]{ donorClassLoader, acceptorClassLoader }) {
+            if (classLoader != null) {
+                try {
+                    return classLoader.loadClass(name);
+                } catch (ClassNotFoundException cnfEx) {
+                    // try next class loader
+                }
+            }
+        }
+        throw new ClassNotFoundException(name);
+    }
+}
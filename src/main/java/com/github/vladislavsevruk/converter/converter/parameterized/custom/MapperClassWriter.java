@@ -0,0 +1,511 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.converter.parameterized.custom;
+
+import com.github.vladislavsevruk.converter.context.PropertyCopyPolicy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes class file of <code>GeneratedMapper</code> descendant that copies inlined properties from donor to acceptor
+ * calling getters and setters directly. Every property is copied inside own exception handler that reports failure to
+ * <code>GeneratedMapper.onPropertyFailure</code> and proceeds with the next property. Property copy policy is compiled
+ * into generated code: <code>null</code> checks are omitted for {@link PropertyCopyPolicy#ALWAYS} and values are
+ * compared with ones returned by acceptor getters for {@link PropertyCopyPolicy#SKIP_UNCHANGED}. Class file version 49
+ * is used so stack map frames aren't required.
+ */
+final class MapperClassWriter {
+
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_SUPER = 0x0020;
+    private static final int ALOAD_0 = 0x2a;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int ALOAD_2 = 0x2c;
+    private static final int ALOAD_3 = 0x2d;
+    private static final int ASTORE_1 = 0x4c;
+    private static final int ASTORE_2 = 0x4d;
+    private static final int ASTORE_3 = 0x4e;
+    private static final int CHECKCAST = 0xc0;
+    private static final int CLASS_FILE_MAJOR_VERSION = 49;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_METHOD_REF = 10;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int DLOAD_3 = 0x29;
+    private static final int DSTORE_3 = 0x4a;
+    private static final int FLOAD_3 = 0x25;
+    private static final int FSTORE_3 = 0x46;
+    private static final int GOTO = 0xa7;
+    private static final int IF_ICMPEQ = 0x9f;
+    private static final int IFEQ = 0x99;
+    private static final int IFNE = 0x9a;
+    private static final int IFNULL = 0xc6;
+    private static final int ILOAD_3 = 0x1d;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+    private static final int INVOKEVIRTUAL = 0xb6;
+    private static final int ISTORE_3 = 0x3e;
+    private static final int LCMP = 0x94;
+    private static final int LDC_W = 0x13;
+    private static final int LLOAD_3 = 0x21;
+    private static final int LSTORE_3 = 0x42;
+    private static final int MAGIC = 0xCAFEBABE;
+    // donor value of long and double properties takes two local variable slots
+    private static final int MAX_LOCALS = 5;
+    private static final int MAX_STACK = 4;
+    private static final int POP = 0x57;
+    private static final int POP2 = 0x58;
+    private static final int RETURN = 0xb1;
+    private static final String SUPER_CLASS_NAME = internalName(GeneratedMapper.class);
+    private final Class<?> acceptorClass;
+    private final String className;
+    private final PropertyCopyPolicy copyPolicy;
+    private final Class<?> donorClass;
+    private final List<int[]> exceptionTable = new ArrayList<>();
+    private final DataOutputStream pool;
+    private final ByteArrayOutputStream poolBytes = new ByteArrayOutputStream();
+    private int poolCount = 1;
+    private final Map<String, Integer> poolIndices = new HashMap<>();
+
+    MapperClassWriter(String className, Class<?> donorClass, Class<?> acceptorClass, PropertyCopyPolicy copyPolicy) {
+        this.className = className;
+        this.donorClass = donorClass;
+        this.acceptorClass = acceptorClass;
+        this.copyPolicy = copyPolicy;
+        this.pool = new DataOutputStream(poolBytes);
+    }
+
+    private static String descriptor(Class<?> type) {
+        if (type.isPrimitive()) {
+            return String.valueOf(primitiveDescriptor(type));
+        }
+        if (type.isArray()) {
+            return type.getName().replace('.', '/');
+        }
+        return "L" + internalName(type) + ";";
+    }
+
+    private static String internalName(Class<?> type) {
+        return type.getName().replace('.', '/');
+    }
+
+    private static String methodDescriptor(Method method) {
+        StringBuilder descriptor = new StringBuilder("(");
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            descriptor.append(descriptor(parameterType));
+        }
+        return descriptor.append(')').append(descriptor(method.getReturnType())).toString();
+    }
+
+    private static char primitiveDescriptor(Class<?> type) {
+        if (type == boolean.class) {
+            return 'Z';
+        }
+        if (type == byte.class) {
+            return 'B';
+        }
+        if (type == char.class) {
+            return 'C';
+        }
+        if (type == short.class) {
+            return 'S';
+        }
+        if (type == int.class) {
+            return 'I';
+        }
+        if (type == long.class) {
+            return 'J';
+        }
+        if (type == float.class) {
+            return 'F';
+        }
+        if (type == double.class) {
+            return 'D';
+        }
+        return 'V';
+    }
+
+    private static int primitiveLoadOpcode(Class<?> type) {
+        if (type == long.class) {
+            return LLOAD_3;
+        }
+        if (type == float.class) {
+            return FLOAD_3;
+        }
+        if (type == double.class) {
+            return DLOAD_3;
+        }
+        return ILOAD_3;
+    }
+
+    private static int primitiveStoreOpcode(Class<?> type) {
+        if (type == long.class) {
+            return LSTORE_3;
+        }
+        if (type == float.class) {
+            return FSTORE_3;
+        }
+        if (type == double.class) {
+            return DSTORE_3;
+        }
+        return ISTORE_3;
+    }
+
+    /**
+     * Writes class file of mapper for received properties.
+     *
+     * @param properties <code>List</code> of properties to copy directly.
+     * @return class file bytes.
+     */
+    byte[] write(List<InlinedProperty> properties) {
+        try {
+            int thisClassIndex = classRef(className.replace('.', '/'));
+            int superClassIndex = classRef(SUPER_CLASS_NAME);
+            int codeAttributeIndex = utf8("Code");
+            int constructorNameIndex = utf8("<init>");
+            int constructorDescriptorIndex = utf8("()V");
+            byte[] constructorCode = writeConstructorCode();
+            int mapNameIndex = utf8("map");
+            int mapDescriptorIndex = utf8("(Ljava/lang/Object;Ljava/lang/Object;)V");
+            byte[] mapCode = writeMapCode(properties);
+            ByteArrayOutputStream classBytes = new ByteArrayOutputStream();
+            DataOutputStream output = new DataOutputStream(classBytes);
+            output.writeInt(MAGIC);
+            output.writeShort(0);
+            output.writeShort(CLASS_FILE_MAJOR_VERSION);
+            output.writeShort(poolCount);
+            pool.flush();
+            poolBytes.writeTo(output);
+            output.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            output.writeShort(thisClassIndex);
+            output.writeShort(superClassIndex);
+            // no interfaces and fields
+            output.writeShort(0);
+            output.writeShort(0);
+            output.writeShort(2);
+            writeMethod(output, constructorNameIndex, constructorDescriptorIndex, codeAttributeIndex, 1, 1,
+                    constructorCode, new ArrayList<>());
+            writeMethod(output, mapNameIndex, mapDescriptorIndex, codeAttributeIndex, MAX_STACK, MAX_LOCALS, mapCode,
+                    exceptionTable);
+            // no class attributes
+            output.writeShort(0);
+            output.flush();
+            return classBytes.toByteArray();
+        } catch (IOException ioEx) {
+            throw new UncheckedIOException(ioEx);
+        }
+    }
+
+    private int classRef(String internalName) throws IOException {
+        Integer index = poolIndices.get("C" + internalName);
+        if (index != null) {
+            return index;
+        }
+        int nameIndex = utf8(internalName);
+        pool.writeByte(CONSTANT_CLASS);
+        pool.writeShort(nameIndex);
+        return register("C" + internalName);
+    }
+
+    private int methodRef(String ownerInternalName, String name, String descriptor) throws IOException {
+        String key = "M" + ownerInternalName + "." + name + descriptor;
+        Integer index = poolIndices.get(key);
+        if (index != null) {
+            return index;
+        }
+        int classIndex = classRef(ownerInternalName);
+        int nameIndex = utf8(name);
+        int descriptorIndex = utf8(descriptor);
+        pool.writeByte(CONSTANT_NAME_AND_TYPE);
+        pool.writeShort(nameIndex);
+        pool.writeShort(descriptorIndex);
+        int nameAndTypeIndex = register("N" + key);
+        pool.writeByte(CONSTANT_METHOD_REF);
+        pool.writeShort(classIndex);
+        pool.writeShort(nameAndTypeIndex);
+        return register(key);
+    }
+
+    private int register(String key) {
+        int index = poolCount++;
+        poolIndices.put(key, index);
+        return index;
+    }
+
+    private int string(String value) throws IOException {
+        Integer index = poolIndices.get("S" + value);
+        if (index != null) {
+            return index;
+        }
+        int valueIndex = utf8(value);
+        pool.writeByte(CONSTANT_STRING);
+        pool.writeShort(valueIndex);
+        return register("S" + value);
+    }
+
+    private int utf8(String value) throws IOException {
+        Integer index = poolIndices.get("U" + value);
+        if (index != null) {
+            return index;
+        }
+        pool.writeByte(CONSTANT_UTF8);
+        pool.writeUTF(value);
+        return register("U" + value);
+    }
+
+    private byte[] writeConstructorCode() throws IOException {
+        CodeBuffer code = new CodeBuffer();
+        code.u1(ALOAD_0);
+        code.u1(INVOKESPECIAL);
+        code.u2(methodRef(SUPER_CLASS_NAME, "<init>", "()V"));
+        code.u1(RETURN);
+        return code.toByteArray();
+    }
+
+    private void writeInvokeAcceptorGetter(CodeBuffer code, Method acceptorGetter) throws IOException {
+        code.u1(ALOAD_2);
+        code.u1(INVOKEVIRTUAL);
+        code.u2(methodRef(internalName(acceptorClass), acceptorGetter.getName(), methodDescriptor(acceptorGetter)));
+    }
+
+    private void writeInvokeSetter(CodeBuffer code, Method setter) throws IOException {
+        code.u1(INVOKEVIRTUAL);
+        code.u2(methodRef(internalName(acceptorClass), setter.getName(), methodDescriptor(setter)));
+        Class<?> returnType = setter.getReturnType();
+        if (returnType == long.class || returnType == double.class) {
+            code.u1(POP2);
+        } else if (returnType != void.class) {
+            code.u1(POP);
+        }
+    }
+
+    private byte[] writeMapCode(List<InlinedProperty> properties) throws IOException {
+        CodeBuffer code = new CodeBuffer();
+        code.u1(ALOAD_1);
+        code.u1(CHECKCAST);
+        code.u2(classRef(internalName(donorClass)));
+        code.u1(ASTORE_1);
+        code.u1(ALOAD_2);
+        code.u1(CHECKCAST);
+        code.u2(classRef(internalName(acceptorClass)));
+        code.u1(ASTORE_2);
+        int failureHandlerIndex = methodRef(SUPER_CLASS_NAME, "onPropertyFailure",
+                "(Ljava/lang/String;Ljava/lang/Throwable;)V");
+        for (InlinedProperty property : properties) {
+            writeProperty(code, property, failureHandlerIndex);
+        }
+        code.u1(RETURN);
+        return code.toByteArray();
+    }
+
+    private void writeMethod(DataOutputStream output, int nameIndex, int descriptorIndex, int codeAttributeIndex,
+            int maxStack, int maxLocals, byte[] code, List<int[]> exceptions) throws IOException {
+        output.writeShort(ACC_PUBLIC);
+        output.writeShort(nameIndex);
+        output.writeShort(descriptorIndex);
+        output.writeShort(1);
+        output.writeShort(codeAttributeIndex);
+        // max_stack, max_locals, code_length, code, exception table with 8 bytes per entry and attributes count
+        output.writeInt(2 + 2 + 4 + code.length + 2 + exceptions.size() * 8 + 2);
+        output.writeShort(maxStack);
+        output.writeShort(maxLocals);
+        output.writeInt(code.length);
+        output.write(code);
+        output.writeShort(exceptions.size());
+        for (int[] exception : exceptions) {
+            for (int value : exception) {
+                output.writeShort(value);
+            }
+        }
+        output.writeShort(0);
+    }
+
+    private void writeFloatingPointBits(CodeBuffer code, Class<?> type) throws IOException {
+        // compare floating point values by bits like boxed values do, so NaN equals NaN and 0.0 differs from -0.0
+        if (type == float.class) {
+            code.u1(INVOKESTATIC);
+            code.u2(methodRef("java/lang/Float", "floatToIntBits", "(F)I"));
+        } else if (type == double.class) {
+            code.u1(INVOKESTATIC);
+            code.u2(methodRef("java/lang/Double", "doubleToLongBits", "(D)J"));
+        }
+    }
+
+    private void writePrimitiveComparison(CodeBuffer code, Class<?> type, List<Integer> skipJumpPositions) {
+        if (type == long.class || type == double.class) {
+            code.u1(LCMP);
+        } else {
+            skipJumpPositions.add(code.position());
+            code.u1(IF_ICMPEQ);
+            code.u2(0);
+            return;
+        }
+        skipJumpPositions.add(code.position());
+        code.u1(IFEQ);
+        code.u2(0);
+    }
+
+    private void writeProperty(CodeBuffer code, InlinedProperty property, int failureHandlerIndex)
+            throws IOException {
+        Method getter = property.getGetter();
+        Class<?> valueType = getter.getReturnType();
+        int getterIndex = methodRef(internalName(donorClass), getter.getName(), methodDescriptor(getter));
+        Method acceptorGetter = copyPolicy == PropertyCopyPolicy.SKIP_UNCHANGED ? property.getAcceptorGetter() : null;
+        List<Integer> skipJumpPositions = new ArrayList<>();
+        int startPosition = code.position();
+        code.u1(ALOAD_1);
+        code.u1(INVOKEVIRTUAL);
+        code.u2(getterIndex);
+        if (valueType.isPrimitive()) {
+            code.u1(primitiveStoreOpcode(valueType));
+            if (acceptorGetter != null) {
+                writeInvokeAcceptorGetter(code, acceptorGetter);
+                writeFloatingPointBits(code, valueType);
+                code.u1(primitiveLoadOpcode(valueType));
+                writeFloatingPointBits(code, valueType);
+                writePrimitiveComparison(code, valueType, skipJumpPositions);
+            }
+            code.u1(ALOAD_2);
+            code.u1(primitiveLoadOpcode(valueType));
+        } else {
+            code.u1(ASTORE_3);
+            if (copyPolicy != PropertyCopyPolicy.ALWAYS) {
+                code.u1(ALOAD_3);
+                skipJumpPositions.add(code.position());
+                code.u1(IFNULL);
+                code.u2(0);
+            }
+            if (acceptorGetter != null) {
+                code.u1(ALOAD_3);
+                writeInvokeAcceptorGetter(code, acceptorGetter);
+                code.u1(INVOKESTATIC);
+                code.u2(methodRef("java/util/Objects", "equals", "(Ljava/lang/Object;Ljava/lang/Object;)Z"));
+                skipJumpPositions.add(code.position());
+                code.u1(IFNE);
+                code.u2(0);
+            }
+            code.u1(ALOAD_2);
+            code.u1(ALOAD_3);
+        }
+        writeInvokeSetter(code, property.getSetter());
+        int endPosition = code.position();
+        int gotoPosition = code.position();
+        code.u1(GOTO);
+        code.u2(0);
+        int handlerPosition = code.position();
+        code.u1(ASTORE_3);
+        code.u1(ALOAD_0);
+        code.u1(LDC_W);
+        code.u2(string(getter.getName()));
+        code.u1(ALOAD_3);
+        code.u1(INVOKEVIRTUAL);
+        code.u2(failureHandlerIndex);
+        int nextPosition = code.position();
+        code.patchU2(gotoPosition + 1, nextPosition - gotoPosition);
+        for (int skipJumpPosition : skipJumpPositions) {
+            code.patchU2(skipJumpPosition + 1, nextPosition - skipJumpPosition);
+        }
+        // catch any exception
+        exceptionTable.add(new int[]{ startPosition, endPosition, handlerPosition, 0 });
+    }
+
+    /**
+     * Getter of donor type and setter of acceptor type that should be called directly. May contain getter of acceptor
+     * type that returns current value of the same property.
+     */
+    static final class InlinedProperty {
+
+        private final Method acceptorGetter;
+        private final Method getter;
+        private final Method setter;
+
+        InlinedProperty(Method getter, Method setter, Method acceptorGetter) {
+            this.getter = getter;
+            this.setter = setter;
+            this.acceptorGetter = acceptorGetter;
+        }
+
+        Method getAcceptorGetter() {
+            return acceptorGetter;
+        }
+
+        Method getGetter() {
+            return getter;
+        }
+
+        Method getSetter() {
+            return setter;
+        }
+    }
+
+    private static final class CodeBuffer {
+
+        private byte[] bytes = new byte[256];
+        private int length;
+
+        int position() {
+            return length;
+        }
+
+        void patchU2(int position, int value) {
+            bytes[position] = (byte) (value >> 8);
+            bytes[position + 1] = (byte) value;
+        }
+
+        byte[] toByteArray() {
+            byte[] result = new byte[length];
+            System.arraycopy(bytes, 0, result, 0, length);
+            return result;
+        }
+
+        void u1(int value) {
+            ensureCapacity(1);
+            bytes[length++] = (byte) value;
+        }
+
+        void u2(int value) {
+            ensureCapacity(2);
+            bytes[length++] = (byte) (value >> 8);
+            bytes[length++] = (byte) value;
+        }
+
+        private void ensureCapacity(int additionalLength) {
+            if (length + additionalLength > bytes.length) {
+                byte[] newBytes = new byte[Math.max(bytes.length * 2, length + additionalLength)];
+                System.arraycopy(bytes, 0, newBytes, 0, length);
+                bytes = newBytes;
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.converter.parameterized.custom;
+
+import com.github.vladislavsevruk.converter.context.PropertyCopyPolicy;
+import com.github.vladislavsevruk.converter.converter.parameterized.custom.MappingStep.ResolvedSetter;
+import com.github.vladislavsevruk.converter.converter.parameterized.custom.MapperClassWriter.InlinedProperty;
+import com.github.vladislavsevruk.converter.mapper.method.MappedMethod;
+import lombok.extern.log4j.Log4j2;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates mapper classes for mapping plans. Only properties with stable mapping are inlined: getter returns primitive
+ * and setter accepts the same primitive or getter returns final type that can be assigned to setter parameter without
+ * conversion. Other properties are left for regular mapping. Generated mappers evaluate property copy policy they
+ * were generated for. Mappers aren't generated for non-public types and interfaces.
+ */
+@Log4j2
+final class MapperGenerator {
+
+    private static final AtomicLong MAPPER_COUNTER = new AtomicLong();
+
+    private MapperGenerator() {
+    }
+
+    /**
+     * Tries to generate mapper class for received plan and switch plan to it.
+     *
+     * @param plan       <code>MappingPlan</code> to generate mapper for.
+     * @param copyPolicy <code>PropertyCopyPolicy</code> to evaluate at generated mapper.
+     */
+    static void generate(MappingPlan plan, PropertyCopyPolicy copyPolicy) {
+        Class<?> donorClass = plan.getDonorClass();
+        Class<?> acceptorClass = plan.getAcceptorMeta().getType();
+        if (!isAccessible(donorClass) || !isAccessible(acceptorClass)) {
+            log.debug(() -> String.format("Mapper won't be generated from '%s' to '%s' as one of types isn't public.",
+                    donorClass.getName(), acceptorClass.getName()));
+            return;
+        }
+        if (acceptorClass.isInterface()) {
+            // generated mapper calls acceptor methods as class methods
+            log.debug(() -> String.format("Mapper won't be generated from '%s' to '%s' as acceptor type is interface.",
+                    donorClass.getName(), acceptorClass.getName()));
+            return;
+        }
+        List<InlinedProperty> inlinedProperties = new ArrayList<>();
+        List<MappingStep> remainingSteps = new ArrayList<>();
+        for (MappingStep step : plan.getSteps()) {
+            InlinedProperty inlinedProperty = toInlinedProperty(step, copyPolicy);
+            if (inlinedProperty != null) {
+                inlinedProperties.add(inlinedProperty);
+            } else {
+                remainingSteps.add(step);
+            }
+        }
+        if (inlinedProperties.isEmpty()) {
+            log.debug(() -> String.format("Mapper won't be generated from '%s' to '%s' as there are no stable "
+                    + "properties.", donorClass.getName(), acceptorClass.getName()));
+            return;
+        }
+        String className = GeneratedMapper.class.getName() + "$$" + donorClass.getSimpleName() + "To" + acceptorClass
+                .getSimpleName() + "$$" + MAPPER_COUNTER.incrementAndGet();
+        try {
+            byte[] bytecode = new MapperClassWriter(className, donorClass, acceptorClass, copyPolicy)
+                    .write(inlinedProperties);
+            Class<?> mapperClass = new MapperClassLoader(donorClass, acceptorClass)
+                    .defineMapperClass(className, bytecode);
+            GeneratedMapper mapper = mapperClass.asSubclass(GeneratedMapper.class).getConstructor().newInstance();
+            plan.switchToGeneratedMapper(mapper, remainingSteps.toArray(new MappingStep[0]), copyPolicy);
+            log.debug(() -> String.format("Generated mapper from '%s' to '%s' with %d inlined properties.",
+                    donorClass.getName(), acceptorClass.getName(), inlinedProperties.size()));
+        } catch (LinkageError | ReflectiveOperationException | RuntimeException ex) {
+            log.warn(() -> String.format("Failed to generate mapper from '%s' to '%s', regular mapping will be used.",
+                    donorClass.getName(), acceptorClass.getName()), ex);
+        }
+    }
+
+    private static boolean isAccessible(Class<?> type) {
+        for (Class<?> currentType = type; currentType != null; currentType = currentType.getEnclosingClass()) {
+            if (!Modifier.isPublic(currentType.getModifiers())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Method getAcceptorGetter(ResolvedSetter resolvedSetter, PropertyCopyPolicy copyPolicy) {
+        // return type of acceptor getter is assignable to setter parameter so primitive types are always the same
+        return copyPolicy == PropertyCopyPolicy.SKIP_UNCHANGED ? resolvedSetter.getAcceptorGetter() : null;
+    }
+
+    private static InlinedProperty toInlinedProperty(MappingStep step, PropertyCopyPolicy copyPolicy) {
+        ResolvedSetter resolvedSetter = step.getSingleResolvedSetter();
+        if (resolvedSetter == null) {
+            return null;
+        }
+        MappedMethod mappedMethod = resolvedSetter.getMappedMethod();
+        if (mappedMethod == null || mappedMethod.getTypeConverter() != null) {
+            return null;
+        }
+        Method getter = step.getDonorMethod();
+        Method setter = mappedMethod.getAcceptorMethod();
+        Class<?> getterType = getter.getReturnType();
+        Class<?> setterType = setter.getParameterTypes()[0];
+        if (getterType.isPrimitive()) {
+            return getterType == setterType ? new InlinedProperty(getter, setter,
+                    getAcceptorGetter(resolvedSetter, copyPolicy)) : null;
+        }
+        if (Modifier.isFinal(getterType.getModifiers()) && resolvedSetter.getValueClass() == getterType && setterType
+                .isAssignableFrom(getterType)) {
+            return new InlinedProperty(getter, setter, getAcceptorGetter(resolvedSetter, copyPolicy));
+        }
+        return null;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.converter.parameterized.custom;
+
+import com.github.vladislavsevruk.converter.context.PropertyCopyPolicy;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Conversion plan for pair of donor class and acceptor type meta. Contains ordered steps for every potential getter of
+ * donor class and potential setters of acceptor type so they are collected only once per pair. Plan may be switched to
+ * mapper generated at runtime that copies part of properties directly. Mapper is generated again if property copy
+ * policy is changed after generation.
+ */
+final class MappingPlan {
+
+    private final List<Method> acceptorMethods;
+    private final TypeMeta<?> acceptorMeta;
+    private final Class<?> donorClass;
+    private volatile GeneratedTier generatedTier;
+    private final AtomicReference<PropertyCopyPolicy> generationRequestedPolicy = new AtomicReference<>();
+    private final AtomicInteger invocationsNumber = new AtomicInteger();
+    private final MappingStep[] steps;
+
+    MappingPlan(Class<?> donorClass, TypeMeta<?> acceptorMeta, List<Method> acceptorMethods, MappingStep[] steps) {
+        this.donorClass = donorClass;
+        this.acceptorMeta = acceptorMeta;
+        this.acceptorMethods = Collections.unmodifiableList(acceptorMethods);
+        this.steps = steps;
+    }
+
+    /**
+     * Returns unmodifiable list of potential setters of acceptor type.
+     */
+    List<Method> getAcceptorMethods() {
+        return acceptorMethods;
+    }
+
+    /**
+     * Returns acceptor type meta this plan was built for.
+     */
+    TypeMeta<?> getAcceptorMeta() {
+        return acceptorMeta;
+    }
+
+    /**
+     * Returns donor class this plan was built for.
+     */
+    Class<?> getDonorClass() {
+        return donorClass;
+    }
+
+    /**
+     * Returns mapper generated for this plan or <code>null</code> if plan wasn't switched to generated mapper.
+     */
+    GeneratedMapper getGeneratedMapper() {
+        GeneratedTier tier = generatedTier;
+        return tier != null ? tier.mapper : null;
+    }
+
+    /**
+     * Returns property copy policy that generated mapper evaluates or <code>null</code> if plan wasn't switched to
+     * generated mapper.
+     */
+    PropertyCopyPolicy getGeneratedMapperCopyPolicy() {
+        GeneratedTier tier = generatedTier;
+        return tier != null ? tier.copyPolicy : null;
+    }
+
+    /**
+     * Returns ordered steps that should be executed by regular mapping. If plan was switched to generated mapper only
+     * steps that weren't inlined are returned. Returned array shouldn't be modified.
+     */
+    MappingStep[] getRemainingSteps() {
+        GeneratedTier tier = generatedTier;
+        return tier != null ? tier.remainingSteps : steps;
+    }
+
+    /**
+     * Returns all ordered steps of this plan. Returned array shouldn't be modified.
+     */
+    MappingStep[] getSteps() {
+        return steps;
+    }
+
+    /**
+     * Registers plan invocation with received property copy policy and checks if mapper should be generated for this
+     * plan. Returns <code>true</code> only once when number of invocations with the same policy reaches received
+     * threshold, so mapper is requested again only after policy change.
+     *
+     * @param threshold  number of invocations after which mapper should be generated.
+     * @param copyPolicy <code>PropertyCopyPolicy</code> that is used for current invocation.
+     * @return <code>true</code> if mapper should be generated, <code>false</code> otherwise.
+     */
+    boolean registerInvocation(int threshold, PropertyCopyPolicy copyPolicy) {
+        PropertyCopyPolicy requestedPolicy = generationRequestedPolicy.get();
+        if (requestedPolicy == copyPolicy || invocationsNumber.incrementAndGet() < threshold) {
+            return false;
+        }
+        if (generationRequestedPolicy.compareAndSet(requestedPolicy, copyPolicy)) {
+            // invocations with new policy are counted from scratch
+            invocationsNumber.set(0);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Switches this plan to received generated mapper.
+     *
+     * @param mapper         <code>GeneratedMapper</code> that copies inlined properties.
+     * @param remainingSteps steps that weren't inlined to generated mapper.
+     * @param copyPolicy     <code>PropertyCopyPolicy</code> that generated mapper evaluates.
+     */
+    void switchToGeneratedMapper(GeneratedMapper mapper, MappingStep[] remainingSteps,
+            PropertyCopyPolicy copyPolicy) {
+        generatedTier = new GeneratedTier(mapper, remainingSteps, copyPolicy);
+    }
+
+    /**
+     * Generated mapper with steps that should be executed by regular mapping.
+     */
+    private static final class GeneratedTier {
+
+        private final PropertyCopyPolicy copyPolicy;
+        private final GeneratedMapper mapper;
+        private final MappingStep[] remainingSteps;
+
+        private GeneratedTier(GeneratedMapper mapper, MappingStep[] remainingSteps, PropertyCopyPolicy copyPolicy) {
+            this.mapper = mapper;
+            this.remainingSteps = remainingSteps;
+            this.copyPolicy = copyPolicy;
+        }
+    }
+}
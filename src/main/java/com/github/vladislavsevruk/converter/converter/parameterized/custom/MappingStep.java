@@ -0,0 +1,272 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.converter.parameterized.custom;
+
+import com.github.vladislavsevruk.converter.mapper.accessor.GetterAccessor;
+import com.github.vladislavsevruk.converter.mapper.accessor.MethodAccessorFactory;
+import com.github.vladislavsevruk.converter.mapper.accessor.PropertyCopyAccessor;
+import com.github.vladislavsevruk.converter.mapper.accessor.SetterAccessor;
+import com.github.vladislavsevruk.converter.mapper.method.MappedMethod;
+import com.github.vladislavsevruk.converter.util.MethodUtil;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.util.PrimitiveWrapperUtil;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Step of mapping plan for single donor getter. Memoizes mapped setter with converter for every class of donor method
+ * value as they depend on value type only, last resolved class is checked first as most of getters return values of
+ * the same class. Steps for primitive getters mapped to primitive setters may keep accessor that copies value without
+ * boxing. Setter for <code>null</code> values of getter is resolved by declared getter type on plan creation.
+ */
+final class MappingStep {
+
+    private final GetterAccessor donorAccessor;
+    private final Method donorMethod;
+    private volatile ResolvedSetter lastResolvedSetter;
+    private final Method nullValueSetter;
+    private volatile SetterAccessor nullValueSetterAccessor;
+    private volatile PropertyCopyAccessor primitiveCopyAccessor;
+    private final Map<Class<?>, ResolvedSetter> resolvedSetters = new ConcurrentHashMap<>();
+
+    MappingStep(Method donorMethod, Method nullValueSetter) {
+        this.donorMethod = donorMethod;
+        this.donorAccessor = MethodAccessorFactory.getterAccessor(donorMethod);
+        this.nullValueSetter = nullValueSetter;
+    }
+
+    /**
+     * Returns accessor for donor getter related to this step.
+     */
+    GetterAccessor getDonorAccessor() {
+        return donorAccessor;
+    }
+
+    /**
+     * Returns donor getter related to this step.
+     */
+    Method getDonorMethod() {
+        return donorMethod;
+    }
+
+    /**
+     * Returns acceptor setter for <code>null</code> values of donor getter or <code>null</code> if there is no such
+     * setter.
+     */
+    Method getNullValueSetter() {
+        return nullValueSetter;
+    }
+
+    /**
+     * Returns accessor for acceptor setter for <code>null</code> values of donor getter or <code>null</code> if there
+     * is no such setter. Is created on first call as <code>null</code> values are set only if all properties are
+     * copied.
+     */
+    SetterAccessor getNullValueSetterAccessor() {
+        SetterAccessor accessor = nullValueSetterAccessor;
+        if (accessor == null && nullValueSetter != null) {
+            accessor = MethodAccessorFactory.setterAccessor(nullValueSetter);
+            nullValueSetterAccessor = accessor;
+        }
+        return accessor;
+    }
+
+    /**
+     * Returns accessor that copies primitive value from donor getter to mapped setter or <code>null</code> if it wasn't
+     * set.
+     */
+    PropertyCopyAccessor getPrimitiveCopyAccessor() {
+        return primitiveCopyAccessor;
+    }
+
+    /**
+     * Returns setter resolved for received donor method value class or <code>null</code> if it wasn't resolved yet.
+     *
+     * @param valueClass <code>Class</code> of donor method value.
+     * @return <code>ResolvedSetter</code> with mapped setter or <code>null</code> if it wasn't resolved yet.
+     */
+    ResolvedSetter getResolvedSetter(Class<?> valueClass) {
+        ResolvedSetter lastSetter = lastResolvedSetter;
+        if (lastSetter != null && lastSetter.valueClass == valueClass) {
+            return lastSetter;
+        }
+        ResolvedSetter resolvedSetter = resolvedSetters.get(valueClass);
+        if (resolvedSetter != null) {
+            lastResolvedSetter = resolvedSetter;
+        }
+        return resolvedSetter;
+    }
+
+    /**
+     * Returns setter resolved for single class of donor method value if values of only one class were received by
+     * this step.
+     *
+     * @return the only <code>ResolvedSetter</code> of this step or <code>null</code> if there are none or several
+     * resolved setters.
+     */
+    ResolvedSetter getSingleResolvedSetter() {
+        if (resolvedSetters.size() != 1) {
+            return null;
+        }
+        return resolvedSetters.values().iterator().next();
+    }
+
+    /**
+     * Sets accessor that copies primitive value from donor getter to mapped setter.
+     *
+     * @param primitiveCopyAccessor <code>PropertyCopyAccessor</code> for donor getter and mapped setter.
+     */
+    void setPrimitiveCopyAccessor(PropertyCopyAccessor primitiveCopyAccessor) {
+        this.primitiveCopyAccessor = primitiveCopyAccessor;
+    }
+
+    /**
+     * Stores mapped setter resolved for received donor method value class.
+     *
+     * @param valueClass   <code>Class</code> of donor method value.
+     * @param mappedMethod <code>MappedMethod</code> with setter and converter or <code>null</code> if there is no
+     *                     matching setter.
+     * @return stored <code>ResolvedSetter</code>.
+     */
+    ResolvedSetter storeResolvedSetter(Class<?> valueClass, MappedMethod mappedMethod) {
+        ResolvedSetter resolvedSetter = new ResolvedSetter(valueClass, mappedMethod);
+        ResolvedSetter previousSetter = resolvedSetters.putIfAbsent(valueClass, resolvedSetter);
+        resolvedSetter = previousSetter != null ? previousSetter : resolvedSetter;
+        lastResolvedSetter = resolvedSetter;
+        return resolvedSetter;
+    }
+
+    /**
+     * Mapped setter resolved for certain class of donor method value.
+     */
+    static final class ResolvedSetter {
+
+        private static final String BOOLEAN_GETTER_PREFIX = "is";
+        private static final String GETTER_PREFIX = "get";
+        private static final String SETTER_PREFIX = "set";
+        private final MappedMethod mappedMethod;
+        private final SetterAccessor setterAccessor;
+        private final Class<?> valueClass;
+        private Method acceptorGetter;
+        private volatile GetterAccessor acceptorGetterAccessor;
+        private volatile boolean acceptorGetterResolved;
+        private volatile TypeMeta<?> parameterMeta;
+
+        private ResolvedSetter(Class<?> valueClass, MappedMethod mappedMethod) {
+            this.valueClass = valueClass;
+            this.mappedMethod = mappedMethod;
+            this.setterAccessor = mappedMethod != null ? MethodAccessorFactory
+                    .setterAccessor(mappedMethod.getAcceptorMethod()) : null;
+        }
+
+        /**
+         * Returns acceptor getter that returns value of the same property as mapped setter sets or <code>null</code>
+         * if there is no such getter. Is resolved on first call as it is used for conversion into existing instances
+         * and comparison with current acceptor values only.
+         */
+        Method getAcceptorGetter() {
+            if (!acceptorGetterResolved) {
+                acceptorGetter = findAcceptorGetter(mappedMethod.getAcceptorMethod());
+                acceptorGetterResolved = true;
+            }
+            return acceptorGetter;
+        }
+
+        /**
+         * Returns accessor for acceptor getter that returns value of the same property as mapped setter sets or
+         * <code>null</code> if there is no such getter.
+         */
+        GetterAccessor getAcceptorGetterAccessor() {
+            GetterAccessor accessor = acceptorGetterAccessor;
+            if (accessor == null) {
+                Method getter = getAcceptorGetter();
+                if (getter == null) {
+                    return null;
+                }
+                accessor = MethodAccessorFactory.getterAccessor(getter);
+                acceptorGetterAccessor = accessor;
+            }
+            return accessor;
+        }
+
+        /**
+         * Returns mapped setter with converter or <code>null</code> if there is no matching setter.
+         */
+        MappedMethod getMappedMethod() {
+            return mappedMethod;
+        }
+
+        /**
+         * Returns <code>TypeMeta</code> of mapped setter parameter class without generic types. Is created on first
+         * call as it is used for instrumentation only.
+         */
+        TypeMeta<?> getParameterMeta() {
+            TypeMeta<?> meta = parameterMeta;
+            if (meta == null) {
+                Class<?> parameterClass = mappedMethod.getAcceptorMethod().getParameterTypes()[0];
+                meta = new TypeMeta<>(PrimitiveWrapperUtil.wrap(parameterClass));
+                parameterMeta = meta;
+            }
+            return meta;
+        }
+
+        /**
+         * Returns accessor for mapped setter or <code>null</code> if there is no matching setter.
+         */
+        SetterAccessor getSetterAccessor() {
+            return setterAccessor;
+        }
+
+        /**
+         * Returns class of donor method value this setter was resolved for.
+         */
+        Class<?> getValueClass() {
+            return valueClass;
+        }
+
+        private Method findAcceptorGetter(Method acceptorSetter) {
+            String setterName = acceptorSetter.getName();
+            Class<?> parameterType = acceptorSetter.getParameterTypes()[0];
+            for (Method method : acceptorSetter.getDeclaringClass().getMethods()) {
+                if (MethodUtil.nonStatic(method) && MethodUtil.hasNoArgs(method) && parameterType
+                        .isAssignableFrom(method.getReturnType()) && isGetterName(setterName, method.getName())) {
+                    return method;
+                }
+            }
+            return null;
+        }
+
+        private boolean isGetterName(String setterName, String methodName) {
+            if (!setterName.startsWith(SETTER_PREFIX) || setterName.length() == SETTER_PREFIX.length()) {
+                // fluent setters have the same name as related getters
+                return setterName.equals(methodName);
+            }
+            String propertyName = setterName.substring(SETTER_PREFIX.length());
+            return methodName.equals(GETTER_PREFIX + propertyName) || methodName
+                    .equals(BOOLEAN_GETTER_PREFIX + propertyName);
+        }
+    }
+}
@@ -23,19 +23,31 @@
  */
 package com.github.vladislavsevruk.converter.converter.parameterized.enumeration;
 
+import com.github.vladislavsevruk.converter.annotation.EnumAlias;
 import com.github.vladislavsevruk.converter.context.ConversionContext;
 import com.github.vladislavsevruk.converter.converter.parameterized.AbstractParameterizedTypeConverter;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import lombok.extern.log4j.Log4j2;
 
 /**
- * Converts char sequence to enum.
+ * Converts char sequence to enum. Constants are matched by names and aliases declared by <code>EnumAlias</code>
+ * annotation using lookup table that is built once per enum type. If case-insensitive enum matching is enabled at
+ * <code>ConversionSettings</code> constants that match ignoring case are picked when there is no exact match.
  *
  * @param <T> enum type of conversion result.
+ * @see EnumAlias
  */
 @Log4j2
 public class CharSequenceToEnumConverter<T extends Enum<T>> extends AbstractParameterizedTypeConverter<T> {
 
+    private static final ClassValue<EnumLookupTable<?>> LOOKUP_TABLES = new ClassValue<EnumLookupTable<?>>() {
+        @Override
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        protected EnumLookupTable<?> computeValue(Class<?> type) {
+            return new EnumLookupTable(type);
+        }
+    };
+
     public CharSequenceToEnumConverter(ConversionContext conversionContext) {
         super(conversionContext);
     }
@@ -48,13 +60,13 @@ public class CharSequenceToEnumConverter<T extends Enum<T>> extends AbstractPara
     @SuppressWarnings("unchecked")
     @Override
     protected T convertNonNullObject(Object from, TypeMeta<? extends T> toMeta) {
-        try {
-            return Enum.valueOf((Class<T>) toMeta.getType(), from.toString());
-        } catch (IllegalArgumentException iaEx) {
+        boolean ignoreCase = getContext().getConversionSettings().isCaseInsensitiveEnumMatchingEnabled();
+        T constant = ((EnumLookupTable<T>) LOOKUP_TABLES.get(toMeta.getType())).find((CharSequence) from, ignoreCase);
+        if (constant == null) {
             log.warn(() -> String
                     .format("Failed to convert '\"%s\"' to '%s'. Returning null.", from, toMeta.getType().getName()));
-            return null;
         }
+        return constant;
     }
 
     @Override
@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.converter.parameterized.enumeration;
+
+import com.github.vladislavsevruk.converter.annotation.EnumAlias;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lookup table of enum constants by their names and aliases declared by <code>EnumAlias</code> annotation. Char
+ * sequences are matched by content without conversion to strings, matching may ignore case of characters.
+ *
+ * @param <T> enum type.
+ * @see EnumAlias
+ */
+@Log4j2
+final class EnumLookupTable<T extends Enum<T>> {
+
+    private final HashTable caseInsensitiveTable;
+    private final HashTable table;
+
+    EnumLookupTable(Class<T> enumType) {
+        List<String> keys = new ArrayList<>();
+        List<T> constants = new ArrayList<>();
+        T[] enumConstants = enumType.getEnumConstants();
+        // names are added first so they have priority over aliases
+        for (T constant : enumConstants) {
+            keys.add(constant.name());
+            constants.add(constant);
+        }
+        for (T constant : enumConstants) {
+            for (String alias : getAliases(enumType, constant)) {
+                keys.add(alias);
+                constants.add(constant);
+            }
+        }
+        table = new HashTable(keys, constants, false);
+        caseInsensitiveTable = new HashTable(keys, constants, true);
+    }
+
+    /**
+     * Finds enum constant with name or alias that matches received char sequence. Exact matches have priority over
+     * matches that ignore case.
+     *
+     * @param key        <code>CharSequence</code> with name or alias of enum constant.
+     * @param ignoreCase <code>true</code> if case of characters should be ignored, <code>false</code> otherwise.
+     * @return matching enum constant or <code>null</code> if there is no matching constant.
+     */
+    @SuppressWarnings("unchecked")
+    T find(CharSequence key, boolean ignoreCase) {
+        Object constant = table.get(key);
+        if (constant == null && ignoreCase) {
+            constant = caseInsensitiveTable.get(key);
+        }
+        return (T) constant;
+    }
+
+    private static char foldCase(char ch) {
+        // same folding as used by 'String.equalsIgnoreCase'
+        return Character.toLowerCase(Character.toUpperCase(ch));
+    }
+
+    private String[] getAliases(Class<T> enumType, T constant) {
+        try {
+            EnumAlias enumAlias = enumType.getField(constant.name()).getAnnotation(EnumAlias.class);
+            return enumAlias != null ? enumAlias.value() : new String[0];
+        } catch (NoSuchFieldException nsfEx) {
+            log.warn(() -> String.format("Failed to get aliases of '%s' constant.", constant.name()), nsfEx);
+            return new String[0];
+        }
+    }
+
+    /**
+     * Open addressing hash table with char sequence keys.
+     */
+    private static final class HashTable {
+
+        private final boolean ignoreCase;
+        private final String[] keys;
+        private final int mask;
+        private final Object[] values;
+
+        private HashTable(List<String> keys, List<?> values, boolean ignoreCase) {
+            int capacity = Integer.highestOneBit(Math.max(keys.size(), 1) * 2 + 1) << 1;
+            this.ignoreCase = ignoreCase;
+            this.keys = new String[capacity];
+            this.values = new Object[capacity];
+            this.mask = capacity - 1;
+            for (int i = 0; i < keys.size(); ++i) {
+                putIfAbsent(keys.get(i), values.get(i));
+            }
+        }
+
+        private Object get(CharSequence key) {
+            for (int index = hash(key) & mask; keys[index] != null; index = (index + 1) & mask) {
+                if (matches(keys[index], key)) {
+                    return values[index];
+                }
+            }
+            return null;
+        }
+
+        private int hash(CharSequence key) {
+            int hash = 0;
+            for (int i = 0; i < key.length(); ++i) {
+                hash = 31 * hash + (ignoreCase ? foldCase(key.charAt(i)) : key.charAt(i));
+            }
+            return hash ^ (hash >>> 16);
+        }
+
+        private boolean matches(String storedKey, CharSequence key) {
+            if (storedKey.length() != key.length()) {
+                return false;
+            }
+            for (int i = 0; i < storedKey.length(); ++i) {
+                char storedChar = storedKey.charAt(i);
+                char ch = key.charAt(i);
+                if (storedChar != ch && (!ignoreCase || foldCase(storedChar) != foldCase(ch))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void putIfAbsent(String key, Object value) {
+            int index = hash(key) & mask;
+            for (; keys[index] != null; index = (index + 1) & mask) {
+                if (matches(keys[index], key)) {
+                    if (!ignoreCase) {
+                        log.warn(() -> String
+                                .format("Enum constant name or alias '%s' is duplicated, ignoring it.", key));
+                    }
+                    return;
+                }
+            }
+            keys[index] = key;
+            values[index] = value;
+        }
+    }
+}
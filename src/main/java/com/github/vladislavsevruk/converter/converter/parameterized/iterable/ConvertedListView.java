@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.converter.parameterized.iterable;
+
+import com.github.vladislavsevruk.converter.converter.parameterized.ElementConverter;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Read-only list view that converts elements of source list on access. Converted elements may be memoized so every
+ * element is converted at most once. View reflects size changes of source list, elements appended after view creation
+ * are converted on every access and memoized elements aren't refreshed when source element is replaced.
+ *
+ * @param <T> type of converted elements.
+ */
+final class ConvertedListView<T> extends AbstractList<T> implements RandomAccess {
+
+    private static final Object NULL_ELEMENT = new Object();
+    private final AtomicReferenceArray<Object> convertedElements;
+    private final ElementConverter<T> elementConverter;
+    private final List<?> source;
+
+    ConvertedListView(List<?> source, ElementConverter<T> elementConverter, boolean memoize) {
+        this.source = source;
+        this.elementConverter = elementConverter;
+        this.convertedElements = memoize ? new AtomicReferenceArray<>(source.size()) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (convertedElements == null || index >= convertedElements.length()) {
+            return elementConverter.convert(source.get(index));
+        }
+        Object convertedElement = convertedElements.get(index);
+        if (convertedElement == null) {
+            convertedElement = elementConverter.convert(source.get(index));
+            convertedElements.set(index, convertedElement == null ? NULL_ELEMENT : convertedElement);
+        }
+        return convertedElement == NULL_ELEMENT ? null : (T) convertedElement;
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+}
@@ -25,13 +25,17 @@ package com.github.vladislavsevruk.converter.converter.parameterized.iterable;
 
 import com.github.vladislavsevruk.converter.context.ConversionContext;
 import com.github.vladislavsevruk.converter.converter.parameterized.AbstractParameterizedTypeConverter;
+import com.github.vladislavsevruk.converter.converter.parameterized.ElementConverter;
+import com.github.vladislavsevruk.converter.converter.parameterized.ParallelElementConverter;
 import com.github.vladislavsevruk.converter.exception.TypeConversionException;
 import com.github.vladislavsevruk.converter.util.ClassUtil;
+import com.github.vladislavsevruk.converter.util.CollectionUtil;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import lombok.extern.log4j.Log4j2;
 
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
 
 /**
  * Abstract converter with common logic for iterable type converters.
@@ -48,25 +52,47 @@ public abstract class IterableConverter<T> extends AbstractParameterizedTypeConv
     @Override
     protected T convertNonNullObject(Object from, TypeMeta<? extends T> toMeta) {
         Iterable<?> fromValue = (Iterable<?>) from;
-        Class<?> innerFromType = ClassUtil.getCommonClass(fromValue);
         TypeMeta<?> innerToTypeMeta = getGenericType(toMeta);
+        if (getContext().getConversionSettings().isSinglePassElementConversionEnabled()) {
+            return convertItemsInSinglePass(CollectionUtil.toCollection(fromValue), innerToTypeMeta, toMeta);
+        }
+        Class<?> innerFromType = ClassUtil.getCommonClass(fromValue);
         if (getEngine().canConvert(innerFromType, innerToTypeMeta)) {
-            return createFromStream(StreamSupport.stream(fromValue.spliterator(), false)
-                    .map(value -> getEngine().convert(value, innerToTypeMeta)), toMeta);
+            return convertItems(CollectionUtil.toCollection(fromValue), innerToTypeMeta, toMeta);
         }
-        log.warn(() -> String
-                .format("Cannot convert iterable inner type '%s' to '%s'. Returning null.", innerFromType.getName(),
-                        innerToTypeMeta.getType().getName()));
+        logInconvertibleType(innerFromType, innerToTypeMeta);
         return null;
     }
 
-    protected abstract <U> T createFromStream(Stream<U> itemsStream, TypeMeta<? extends T> toMeta);
+    /**
+     * Creates conversion result that will be filled by converted items.
+     *
+     * @param toMeta <code>TypeMeta</code> of conversion result.
+     * @param size   number of items that will be set to result.
+     * @return conversion result.
+     */
+    protected abstract T createTarget(TypeMeta<? extends T> toMeta, int size);
 
     @Override
     protected Class<? extends Iterable> getFromType() {
         return Iterable.class;
     }
 
+    /**
+     * Returns type meta of target elements.
+     *
+     * @param typeMeta <code>TypeMeta</code> of conversion result.
+     * @return <code>TypeMeta</code> of generic parameter, component type meta for arrays without generic types or
+     * <code>Object</code> type meta for raw types.
+     */
+    protected TypeMeta<?> getGenericType(TypeMeta<?> typeMeta) {
+        if (typeMeta.getGenericTypes().length != 0) {
+            return typeMeta.getGenericTypes()[0];
+        }
+        Class<?> componentType = typeMeta.getType().getComponentType();
+        return componentType == null ? TypeMeta.OBJECT_META : new TypeMeta<>(componentType);
+    }
+
     @Override
     protected void validateInput(Object from, TypeMeta<?> toMeta) {
         super.validateInput(from, toMeta);
@@ -78,7 +104,73 @@ public abstract class IterableConverter<T> extends AbstractParameterizedTypeConv
         }
     }
 
-    private TypeMeta<?> getGenericType(TypeMeta<?> typeMeta) {
-        return typeMeta.getGenericTypes().length == 0 ? TypeMeta.OBJECT_META : typeMeta.getGenericTypes()[0];
+    /**
+     * Sets converted item to conversion result.
+     *
+     * @param target conversion result created by <code>createTarget</code> method.
+     * @param index  index of item.
+     * @param item   converted item.
+     */
+    protected abstract void setItem(T target, int index, Object item);
+
+    private T convertItems(Collection<?> items, TypeMeta<?> innerToTypeMeta, TypeMeta<? extends T> toMeta) {
+        if (isParallelConversionApplicable(items)) {
+            return convertItemsInParallel((List<?>) items, innerToTypeMeta, toMeta);
+        }
+        T target = createTarget(toMeta, items.size());
+        if (items instanceof List && items instanceof RandomAccess) {
+            List<?> itemsList = (List<?>) items;
+            for (int i = 0; i < itemsList.size(); ++i) {
+                setItem(target, i, getEngine().convert(itemsList.get(i), innerToTypeMeta));
+            }
+        } else {
+            int index = 0;
+            for (Object item : items) {
+                setItem(target, index++, getEngine().convert(item, innerToTypeMeta));
+            }
+        }
+        return target;
+    }
+
+    private T convertItemsInParallel(List<?> items, TypeMeta<?> innerToTypeMeta, TypeMeta<? extends T> toMeta) {
+        Object[] convertedItems = new ParallelElementConverter(getContext(), innerToTypeMeta)
+                .convert(items::get, items.size());
+        if (convertedItems == null) {
+            return null;
+        }
+        T target = createTarget(toMeta, convertedItems.length);
+        for (int i = 0; i < convertedItems.length; ++i) {
+            setItem(target, i, convertedItems[i]);
+        }
+        return target;
+    }
+
+    private T convertItemsInSinglePass(Collection<?> items, TypeMeta<?> innerToTypeMeta,
+            TypeMeta<? extends T> toMeta) {
+        if (isParallelConversionApplicable(items)) {
+            return convertItemsInParallel((List<?>) items, innerToTypeMeta, toMeta);
+        }
+        ElementConverter<?> elementConverter = new ElementConverter<>(getContext(), innerToTypeMeta);
+        T target = createTarget(toMeta, items.size());
+        int index = 0;
+        for (Object item : items) {
+            if (!elementConverter.canConvert(item)) {
+                logInconvertibleType(item.getClass(), innerToTypeMeta);
+                return null;
+            }
+            setItem(target, index++, elementConverter.convert(item));
+        }
+        return target;
+    }
+
+    private boolean isParallelConversionApplicable(Collection<?> items) {
+        return items instanceof List && items instanceof RandomAccess && ParallelElementConverter
+                .isApplicable(getContext(), items.size());
+    }
+
+    private void logInconvertibleType(Class<?> innerFromType, TypeMeta<?> innerToTypeMeta) {
+        log.warn(() -> String
+                .format("Cannot convert iterable inner type '%s' to '%s'. Returning null.", innerFromType.getName(),
+                        innerToTypeMeta.getType().getName()));
     }
 }
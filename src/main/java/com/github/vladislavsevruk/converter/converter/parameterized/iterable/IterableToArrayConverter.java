@@ -27,7 +27,6 @@ import com.github.vladislavsevruk.converter.context.ConversionContext;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 
 import java.lang.reflect.Array;
-import java.util.stream.Stream;
 
 /**
  * Converts iterable to array with component type casting if necessary.
@@ -40,17 +39,21 @@ public final class IterableToArrayConverter extends IterableConverter<Object[]>
 
     @Override
     protected boolean checkToType(Class<?> toType) {
-        return toType.isArray();
+        return toType.isArray() && !toType.getComponentType().isPrimitive();
     }
 
     @Override
-    protected <U> Object[] createFromStream(Stream<U> itemsStream, TypeMeta<? extends Object[]> toMeta) {
-        return itemsStream
-                .toArray(length -> (Object[]) Array.newInstance(toMeta.getGenericTypes()[0].getType(), length));
+    protected Object[] createTarget(TypeMeta<? extends Object[]> toMeta, int size) {
+        return (Object[]) Array.newInstance(toMeta.getType().getComponentType(), size);
     }
 
     @Override
     protected Class<?> getToType() {
         return Object[].class;
     }
+
+    @Override
+    protected void setItem(Object[] target, int index, Object item) {
+        target[index] = item;
+    }
 }
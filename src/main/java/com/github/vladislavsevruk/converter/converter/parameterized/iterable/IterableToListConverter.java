@@ -24,18 +24,19 @@
 package com.github.vladislavsevruk.converter.converter.parameterized.iterable;
 
 import com.github.vladislavsevruk.converter.context.ConversionContext;
+import com.github.vladislavsevruk.converter.context.ConversionSettings;
+import com.github.vladislavsevruk.converter.converter.parameterized.ElementConverter;
 import com.github.vladislavsevruk.converter.util.InstanceCreationUtil;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 
 import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Supplier;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.RandomAccess;
 
 /**
- * Converts iterable to list with component type casting if necessary.
+ * Converts iterable to list with component type casting if necessary. If lazy views are enabled at
+ * <code>ConversionSettings</code> random access lists are converted to read-only views that convert elements on access.
  */
 public final class IterableToListConverter extends IterableConverter<List<?>> {
 
@@ -49,8 +50,24 @@ public final class IterableToListConverter extends IterableConverter<List<?>> {
     }
 
     @Override
-    protected <U> List<U> createFromStream(Stream<U> itemsStream, TypeMeta<? extends List<?>> toMeta) {
-        return itemsStream.collect(Collectors.toCollection(getTypeSupplier(toMeta.getType())));
+    protected List<?> convertNonNullObject(Object from, TypeMeta<? extends List<?>> toMeta) {
+        ConversionSettings settings = getContext().getConversionSettings();
+        if (settings.isLazyViewsEnabled() && from instanceof List && from instanceof RandomAccess && toMeta.getType()
+                .isAssignableFrom(AbstractList.class)) {
+            ElementConverter<?> elementConverter = new ElementConverter<>(getContext(), getGenericType(toMeta));
+            return new ConvertedListView<>((List<?>) from, elementConverter, settings.isLazyViewMemoizationEnabled());
+        }
+        return super.convertNonNullObject(from, toMeta);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected List<?> createTarget(TypeMeta<? extends List<?>> toMeta, int size) {
+        Class<?> type = toMeta.getType();
+        if (type.isAssignableFrom(AbstractList.class)) {
+            return new ArrayList<>(size);
+        }
+        return (List<?>) InstanceCreationUtil.createItem(type);
     }
 
     @Override
@@ -58,11 +75,9 @@ public final class IterableToListConverter extends IterableConverter<List<?>> {
         return List.class;
     }
 
+    @Override
     @SuppressWarnings("unchecked")
-    private <U> Supplier<List<U>> getTypeSupplier(Class<?> type) {
-        if (type.isAssignableFrom(AbstractList.class)) {
-            return ArrayList::new;
-        }
-        return () -> (List<U>) InstanceCreationUtil.createItem(type);
+    protected void setItem(List<?> target, int index, Object item) {
+        ((List<Object>) target).add(item);
     }
 }
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.converter.parameterized.iterable;
+
+import com.github.vladislavsevruk.converter.context.ConversionContext;
+import com.github.vladislavsevruk.converter.converter.parameterized.AbstractParameterizedTypeConverter;
+import com.github.vladislavsevruk.converter.converter.parameterized.array.PrimitiveArrayType;
+import com.github.vladislavsevruk.converter.util.ClassUtil;
+import com.github.vladislavsevruk.converter.util.CollectionUtil;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import lombok.extern.log4j.Log4j2;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+
+/**
+ * Converts iterable to array of primitive type. Elements of matching wrapper type are unboxed directly, other elements
+ * are converted using matching converters. <code>null</code> elements are left with default value.
+ */
+@Log4j2
+public final class IterableToPrimitiveArrayConverter extends AbstractParameterizedTypeConverter<Object> {
+
+    public IterableToPrimitiveArrayConverter(ConversionContext conversionContext) {
+        super(conversionContext);
+    }
+
+    @Override
+    protected boolean checkToType(Class<?> toType) {
+        return toType.isArray() && toType.getComponentType().isPrimitive();
+    }
+
+    @Override
+    protected Object convertNonNullObject(Object from, TypeMeta<?> toMeta) {
+        Collection<?> fromValue = CollectionUtil.toCollection((Iterable<?>) from);
+        PrimitiveArrayType toType = PrimitiveArrayType.of(toMeta.getType().getComponentType());
+        Class<?> innerFromType = ClassUtil.getCommonClass(fromValue);
+        TypeMeta<?> wrapperMeta = new TypeMeta<>(toType.getWrapperType());
+        if (!toType.getWrapperType().isAssignableFrom(innerFromType) && !getEngine()
+                .canConvert(innerFromType, wrapperMeta)) {
+            log.warn(() -> String.format("Cannot convert iterable inner type '%s' to '%s'. Returning null.",
+                    innerFromType.getName(), toType.getComponentType().getName()));
+            return null;
+        }
+        Object result = Array.newInstance(toType.getComponentType(), fromValue.size());
+        int index = 0;
+        for (Object value : fromValue) {
+            if (value != null) {
+                Object wrappedValue = toType.getWrapperType().isInstance(value) ? value
+                        : getEngine().convert(value, wrapperMeta);
+                if (wrappedValue != null) {
+                    toType.set(result, index, wrappedValue);
+                }
+            }
+            ++index;
+        }
+        return result;
+    }
+
+    @Override
+    protected Class<?> getFromType() {
+        return Iterable.class;
+    }
+
+    @Override
+    protected Class<?> getToType() {
+        return Object.class;
+    }
+}
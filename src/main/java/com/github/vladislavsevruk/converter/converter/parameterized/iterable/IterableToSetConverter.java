@@ -24,15 +24,13 @@
 package com.github.vladislavsevruk.converter.converter.parameterized.iterable;
 
 import com.github.vladislavsevruk.converter.context.ConversionContext;
+import com.github.vladislavsevruk.converter.util.CollectionUtil;
 import com.github.vladislavsevruk.converter.util.InstanceCreationUtil;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 
 import java.util.AbstractSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
-import java.util.function.Supplier;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Converts iterable to set with component type casting if necessary.
@@ -49,8 +47,11 @@ public final class IterableToSetConverter extends IterableConverter<Set<?>> {
     }
 
     @Override
-    protected <U> Set<U> createFromStream(Stream<U> itemsStream, TypeMeta<? extends Set<?>> toMeta) {
-        return itemsStream.collect(Collectors.toCollection(getTypeSupplier(toMeta.getType())));
+    protected Set<?> createTarget(TypeMeta<? extends Set<?>> toMeta, int size) {
+        if (toMeta.getType().isAssignableFrom(AbstractSet.class)) {
+            return new LinkedHashSet<>(CollectionUtil.getHashCapacity(size));
+        }
+        return InstanceCreationUtil.createItem(toMeta.getType());
     }
 
     @Override
@@ -58,11 +59,9 @@ public final class IterableToSetConverter extends IterableConverter<Set<?>> {
         return Set.class;
     }
 
+    @Override
     @SuppressWarnings("unchecked")
-    private <U> Supplier<Set<U>> getTypeSupplier(Class<?> type) {
-        if (type.isAssignableFrom(AbstractSet.class)) {
-            return LinkedHashSet::new;
-        }
-        return () -> (Set<U>) InstanceCreationUtil.createItem(type);
+    protected void setItem(Set<?> target, int index, Object item) {
+        ((Set<Object>) target).add(item);
     }
 }
@@ -0,0 +1,160 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.converter.parameterized.map;
+
+import com.github.vladislavsevruk.converter.converter.parameterized.ElementConverter;
+import com.github.vladislavsevruk.converter.util.CollectionUtil;
+import lombok.Value;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read-only map view that converts entries of source map on access. Index of converted keys is built on first lookup
+ * by key and is rebuilt when size of source map changes or indexed key is removed from source map. Values are converted
+ * on access and may be memoized so every value is converted at most once.
+ *
+ * @param <K> type of converted keys.
+ * @param <V> type of converted values.
+ */
+final class ConvertedMapView<K, V> extends AbstractMap<K, V> {
+
+    private final Map<Object, Object> convertedValues;
+    private final ElementConverter<K> keyConverter;
+    private final Map<?, ?> source;
+    private final ElementConverter<V> valueConverter;
+    private volatile SourceKeyIndex sourceKeyIndex;
+
+    ConvertedMapView(Map<?, ?> source, ElementConverter<K> keyConverter, ElementConverter<V> valueConverter,
+            boolean memoize) {
+        this.source = source;
+        this.keyConverter = keyConverter;
+        this.valueConverter = valueConverter;
+        this.convertedValues = memoize ? new HashMap<>() : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return getSourceKeys(key).containsKey(key);
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                Iterator<? extends Entry<?, ?>> sourceIterator = source.entrySet().iterator();
+                return new Iterator<Entry<K, V>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return sourceIterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<K, V> next() {
+                        Entry<?, ?> sourceEntry = sourceIterator.next();
+                        return new SimpleImmutableEntry<>(keyConverter.convert(sourceEntry.getKey()),
+                                convertValue(sourceEntry.getKey(), sourceEntry.getValue()));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return source.size();
+            }
+        };
+    }
+
+    @Override
+    public V get(Object key) {
+        Map<Object, Object> currentSourceKeys = getSourceKeys(key);
+        if (!currentSourceKeys.containsKey(key)) {
+            return null;
+        }
+        Object sourceKey = currentSourceKeys.get(key);
+        return convertValue(sourceKey, source.get(sourceKey));
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private V convertValue(Object sourceKey, Object sourceValue) {
+        if (convertedValues == null) {
+            return valueConverter.convert(sourceValue);
+        }
+        synchronized (convertedValues) {
+            if (convertedValues.containsKey(sourceKey)) {
+                return (V) convertedValues.get(sourceKey);
+            }
+        }
+        V convertedValue = valueConverter.convert(sourceValue);
+        synchronized (convertedValues) {
+            convertedValues.put(sourceKey, convertedValue);
+        }
+        return convertedValue;
+    }
+
+    private SourceKeyIndex buildSourceKeyIndex() {
+        int sourceSize = source.size();
+        Map<Object, Object> sourceKeys = new HashMap<>(CollectionUtil.getHashCapacity(sourceSize));
+        for (Object sourceKey : source.keySet()) {
+            Object key = keyConverter.convert(sourceKey);
+            if (sourceKeys.containsKey(key)) {
+                throw new IllegalStateException(String.format("Duplicate key %s", key));
+            }
+            sourceKeys.put(key, sourceKey);
+        }
+        SourceKeyIndex index = new SourceKeyIndex(sourceKeys, sourceSize);
+        sourceKeyIndex = index;
+        return index;
+    }
+
+    private Map<Object, Object> getSourceKeys(Object key) {
+        SourceKeyIndex index = sourceKeyIndex;
+        if (index == null || index.getSourceSize() != source.size() || isRemovedFromSource(index.getSourceKeys(),
+                key)) {
+            index = buildSourceKeyIndex();
+        }
+        return index.getSourceKeys();
+    }
+
+    private boolean isRemovedFromSource(Map<Object, Object> sourceKeys, Object key) {
+        return sourceKeys.containsKey(key) && !source.containsKey(sourceKeys.get(key));
+    }
+
+    @Value
+    private static class SourceKeyIndex {
+
+        Map<Object, Object> sourceKeys;
+        int sourceSize;
+    }
+}
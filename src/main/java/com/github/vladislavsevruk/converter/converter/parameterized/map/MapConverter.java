@@ -24,24 +24,24 @@
 package com.github.vladislavsevruk.converter.converter.parameterized.map;
 
 import com.github.vladislavsevruk.converter.context.ConversionContext;
+import com.github.vladislavsevruk.converter.context.ConversionSettings;
 import com.github.vladislavsevruk.converter.converter.parameterized.AbstractParameterizedTypeConverter;
+import com.github.vladislavsevruk.converter.converter.parameterized.ElementConverter;
 import com.github.vladislavsevruk.converter.exception.TypeConversionException;
 import com.github.vladislavsevruk.converter.util.ClassUtil;
+import com.github.vladislavsevruk.converter.util.CollectionUtil;
 import com.github.vladislavsevruk.converter.util.InstanceCreationUtil;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
-import lombok.Value;
 import lombok.extern.log4j.Log4j2;
 
 import java.util.AbstractMap;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.function.BinaryOperator;
-import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 /**
- * Converts map to another map with component type casting if necessary.
+ * Converts map to another map with component type casting if necessary. If lazy views are enabled at
+ * <code>ConversionSettings</code> maps are converted to read-only views that convert entries on access.
  */
 @Log4j2
 public final class MapConverter extends AbstractParameterizedTypeConverter<Map<?, ?>> {
@@ -59,26 +59,33 @@ public final class MapConverter extends AbstractParameterizedTypeConverter<Map<?
     @Override
     protected Map<?, ?> convertNonNullObject(Object from, TypeMeta<? extends Map<?, ?>> toMeta) {
         Map<?, ?> fromValue = (Map<?, ?>) from;
-        Class<?> fromKeyType = ClassUtil.getCommonClass(fromValue.keySet());
-        Class<?> fromValueType = ClassUtil.getCommonClass(fromValue.values());
         TypeMeta<?> toKeyTypeMeta = getKeyType(toMeta);
         TypeMeta<?> toValueTypeMeta = getValueType(toMeta);
+        ConversionSettings settings = getContext().getConversionSettings();
+        if (settings.isLazyViewsEnabled() && toMeta.getType().isAssignableFrom(AbstractMap.class)) {
+            return new ConvertedMapView<>(fromValue, new ElementConverter<>(getContext(), toKeyTypeMeta),
+                    new ElementConverter<>(getContext(), toValueTypeMeta), settings.isLazyViewMemoizationEnabled());
+        }
+        if (settings.isSinglePassElementConversionEnabled()) {
+            return convertEntriesInSinglePass(fromValue, toKeyTypeMeta, toValueTypeMeta, toMeta);
+        }
+        Class<?> fromKeyType = ClassUtil.getCommonClass(fromValue.keySet());
+        Class<?> fromValueType = ClassUtil.getCommonClass(fromValue.values());
         if (!getEngine().canConvert(fromKeyType, toKeyTypeMeta)) {
-            log.warn(() -> String
-                    .format("Cannot convert map key type '%s' to '%s'. Returning null.", fromKeyType.getName(),
-                            toKeyTypeMeta.getType().getName()));
+            logInconvertibleKeyType(fromKeyType, toKeyTypeMeta);
             return null;
         }
         if (!getEngine().canConvert(fromValueType, toValueTypeMeta)) {
-            log.warn(() -> String
-                    .format("Cannot convert map value type '%s' to '%s'. Returning null.", fromValueType.getName(),
-                            toValueTypeMeta.getType().getName()));
+            logInconvertibleValueType(fromValueType, toValueTypeMeta);
             return null;
         }
-        return (Map<?, ?>) fromValue.entrySet().stream()
-                .map(entry -> convertKeyValue(entry, toKeyTypeMeta, toValueTypeMeta)).collect(Collectors
-                        .toMap(KeyValuePair::getKey, KeyValuePair::getValue, throwingMerger(),
-                                getTypeSupplier(toMeta.getType())));
+        Map<Object, Object> result = (Map<Object, Object>) createMap(toMeta.getType(), fromValue.size());
+        for (Entry<?, ?> entry : fromValue.entrySet()) {
+            Object key = getEngine().convert(entry.getKey(), toKeyTypeMeta);
+            Object value = getEngine().convert(entry.getValue(), toValueTypeMeta);
+            putEntry(result, key, value);
+        }
+        return result;
     }
 
     @Override
@@ -102,35 +109,56 @@ public final class MapConverter extends AbstractParameterizedTypeConverter<Map<?
         }
     }
 
-    private static <T> BinaryOperator<T> throwingMerger() {
-        return (u, v) -> { throw new IllegalStateException(String.format("Duplicate key %s", u)); };
+    @SuppressWarnings("unchecked")
+    private Map<?, ?> convertEntriesInSinglePass(Map<?, ?> fromValue, TypeMeta<?> toKeyTypeMeta,
+            TypeMeta<?> toValueTypeMeta, TypeMeta<? extends Map<?, ?>> toMeta) {
+        ElementConverter<?> keyConverter = new ElementConverter<>(getContext(), toKeyTypeMeta);
+        ElementConverter<?> valueConverter = new ElementConverter<>(getContext(), toValueTypeMeta);
+        Map<Object, Object> result = (Map<Object, Object>) createMap(toMeta.getType(), fromValue.size());
+        for (Entry<?, ?> entry : fromValue.entrySet()) {
+            if (!keyConverter.canConvert(entry.getKey())) {
+                logInconvertibleKeyType(entry.getKey().getClass(), toKeyTypeMeta);
+                return null;
+            }
+            if (!valueConverter.canConvert(entry.getValue())) {
+                logInconvertibleValueType(entry.getValue().getClass(), toValueTypeMeta);
+                return null;
+            }
+            putEntry(result, keyConverter.convert(entry.getKey()), valueConverter.convert(entry.getValue()));
+        }
+        return result;
     }
 
-    private KeyValuePair convertKeyValue(Entry<?, ?> entry, TypeMeta<?> toKeyTypeMeta, TypeMeta<?> toValueTypeMeta) {
-        Object key = getEngine().convert(entry.getKey(), toKeyTypeMeta);
-        Object value = getEngine().convert(entry.getValue(), toValueTypeMeta);
-        return new KeyValuePair(key, value);
+    private Map<?, ?> createMap(Class<?> type, int size) {
+        if (type.isAssignableFrom(AbstractMap.class)) {
+            return new HashMap<>(CollectionUtil.getHashCapacity(size));
+        }
+        return (Map<?, ?>) InstanceCreationUtil.createItem(type);
     }
 
     private TypeMeta<?> getKeyType(TypeMeta<?> typeMeta) {
         return typeMeta.getGenericTypes().length == 0 ? TypeMeta.OBJECT_META : typeMeta.getGenericTypes()[0];
     }
 
-    private Supplier<Map> getTypeSupplier(Class<?> type) {
-        if (type.isAssignableFrom(AbstractMap.class)) {
-            return HashMap::new;
-        }
-        return () -> (Map) InstanceCreationUtil.createItem(type);
-    }
-
     private TypeMeta<?> getValueType(TypeMeta<?> typeMeta) {
         return typeMeta.getGenericTypes().length == 0 ? TypeMeta.OBJECT_META : typeMeta.getGenericTypes()[1];
     }
 
-    @Value
-    private static class KeyValuePair {
+    private void logInconvertibleKeyType(Class<?> fromKeyType, TypeMeta<?> toKeyTypeMeta) {
+        log.warn(() -> String.format("Cannot convert map key type '%s' to '%s'. Returning null.", fromKeyType.getName(),
+                toKeyTypeMeta.getType().getName()));
+    }
+
+    private void logInconvertibleValueType(Class<?> fromValueType, TypeMeta<?> toValueTypeMeta) {
+        log.warn(() -> String
+                .format("Cannot convert map value type '%s' to '%s'. Returning null.", fromValueType.getName(),
+                        toValueTypeMeta.getType().getName()));
+    }
 
-        Object key;
-        Object value;
+    private void putEntry(Map<Object, Object> result, Object key, Object value) {
+        if (result.containsKey(key)) {
+            throw new IllegalStateException(String.format("Duplicate key %s", key));
+        }
+        result.put(key, value);
     }
 }
@@ -23,6 +23,7 @@
  */
 package com.github.vladislavsevruk.converter.converter.picker;
 
+import com.github.vladislavsevruk.converter.converter.parameterized.MergingTypeConverter;
 import com.github.vladislavsevruk.converter.converter.simple.ClassTypeConverter;
 import com.github.vladislavsevruk.converter.mapper.method.MethodMeta;
 import com.github.vladislavsevruk.converter.mapper.method.MethodMetaConverterPair;
@@ -57,4 +58,19 @@ public interface TypeConverterPicker {
      */
     @SuppressWarnings("java:S1452")
     <T> MethodMetaConverterPair<?> pickConverter(Class<T> from, Iterable<MethodMeta> candidateMetas);
+
+    /**
+     * Picks type converter that can fill existing instance of target type for received types meta. Pickers that don't
+     * support conversion into existing instances don't pick any converter by default.
+     *
+     * @param from   <code>Class</code> to convert.
+     * @param toMeta <code>TypeMeta</code> with actual types for target type.
+     * @param <T>    the type represented by type meta to convert.
+     * @return <code>MergingTypeConverter</code> that can convert from received type into existing instance of target
+     * type or <code>null</code> if there is no suitable <code>MergingTypeConverter</code>.
+     */
+    @SuppressWarnings("java:S1452")
+    default <T> MergingTypeConverter<?> pickMergingConverter(Class<T> from, TypeMeta<?> toMeta) {
+        return null;
+    }
 }
@@ -23,48 +23,86 @@
  */
 package com.github.vladislavsevruk.converter.converter.picker;
 
+import com.github.vladislavsevruk.converter.cache.BoundedCache;
+import com.github.vladislavsevruk.converter.cache.TypePairKey;
 import com.github.vladislavsevruk.converter.context.ConversionContext;
 import com.github.vladislavsevruk.converter.converter.TypeConverter;
+import com.github.vladislavsevruk.converter.converter.TypeConverterIndex;
 import com.github.vladislavsevruk.converter.converter.parameterized.ClassTypeConverterAdapter;
+import com.github.vladislavsevruk.converter.converter.parameterized.MergingTypeConverter;
 import com.github.vladislavsevruk.converter.converter.parameterized.ParameterizedTypeConverter;
 import com.github.vladislavsevruk.converter.converter.parameterized.custom.CustomTypeConverter;
 import com.github.vladislavsevruk.converter.converter.simple.AssignableObjectConverter;
 import com.github.vladislavsevruk.converter.converter.simple.ClassTypeConverter;
+import com.github.vladislavsevruk.converter.instrumentation.ConversionInstrumentation;
+import com.github.vladislavsevruk.converter.jfr.ConverterResolutionEventRecorder;
+import com.github.vladislavsevruk.converter.jfr.JfrSupport;
 import com.github.vladislavsevruk.converter.mapper.method.MethodMeta;
 import com.github.vladislavsevruk.converter.mapper.method.MethodMetaConverterPair;
 import com.github.vladislavsevruk.converter.util.ClassUtil;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import com.github.vladislavsevruk.resolver.util.PrimitiveWrapperUtil;
+import lombok.Value;
 import lombok.extern.log4j.Log4j2;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
- * Implementation of <code>TypeConverterPicker</code>.
+ * Implementation of <code>TypeConverterPicker</code>. Memoizes picked converters (including missed ones) for pairs
+ * of source class and target type meta at bounded cache that is reset every time converters list at
+ * <code>TypeConverterStorage</code> is modified. Converters that weren't picked yet are looked up among candidates
+ * from <code>TypeConverterIndex</code> built for current converters list.
  *
  * @see TypeConverterPicker
  */
 @Log4j2
 public final class TypeConverterPickerImpl implements TypeConverterPicker {
 
+    private static final int DEFAULT_CACHE_SIZE = 4096;
+    private final ClassTypeConverter<?> assignableObjectConverter = new AssignableObjectConverter<>();
+    private final int cacheSize;
     private final ConversionContext conversionContext;
-    private final ParameterizedTypeConverter<?> customTypeConverter;
+    private final MergingTypeConverter<?> customTypeConverter;
+    private volatile TypeConverterIndex converterIndex;
+    private volatile PickedConverters pickedConverters;
 
     public TypeConverterPickerImpl(ConversionContext conversionContext) {
+        this(conversionContext, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates new instance with cache of received size for picked converters.
+     *
+     * @param conversionContext <code>ConversionContext</code> to use.
+     * @param cacheSize         maximum number of source and target types pairs to store picked converters for.
+     */
+    public TypeConverterPickerImpl(ConversionContext conversionContext, int cacheSize) {
         this.conversionContext = conversionContext;
+        this.cacheSize = cacheSize;
         customTypeConverter = new CustomTypeConverter(conversionContext);
+        pickedConverters = new PickedConverters(new BoundedCache<>(cacheSize),
+                conversionContext.getTypeConverterStorage().getModificationCount());
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
+    @SuppressWarnings("unchecked")
     public <T, U> ClassTypeConverter<U> pickConverter(Class<T> from, TypeMeta<U> toMeta) {
-        log.debug(() -> String.format("Trying to find matching converter from '%s' to '%s' type.", from.getName(),
-                toMeta.getType().getName()));
-        ClassTypeConverter<U> pickedConverter = doPickConverter(from, toMeta);
-        log.debug(() -> Objects.isNull(pickedConverter) ? "Didn't find any matching converter."
-                : "Found matching converter: " + pickedConverter.getName());
+        boolean tracing = conversionContext.isTracingEnabled();
+        if (tracing) {
+            log.debug("Trying to find matching converter from '{}' to '{}' type.", from.getName(),
+                    toMeta.getType().getName());
+        }
+        TypePairKey typePair = new TypePairKey(from, toMeta);
+        ClassTypeConverter<U> pickedConverter = JfrSupport.isAvailable() ? getCachedConverterWithEvent(typePair,
+                from, toMeta) : getCachedConverter(typePair, from, toMeta);
+        if (tracing) {
+            log.debug(() -> Objects.isNull(pickedConverter) ? "Didn't find any matching converter."
+                    : "Found matching converter: " + pickedConverter.getName());
+        }
         return pickedConverter;
     }
 
@@ -73,6 +111,7 @@ public final class TypeConverterPickerImpl implements TypeConverterPicker {
      */
     @Override
     public <T> MethodMetaConverterPair<?> pickConverter(Class<T> from, Iterable<MethodMeta> candidateMetas) {
+        boolean tracing = conversionContext.isTracingEnabled();
         ClassTypeConverter<?> pickedConverter = null;
         ClassTypeConverter<?> pickedCustomTypeConverter = null;
         MethodMeta pickedMeta = null;
@@ -97,27 +136,42 @@ public final class TypeConverterPickerImpl implements TypeConverterPicker {
         }
         if (pickedConverter == null) {
             if (pickedCustomTypeConverter == null) {
-                log.debug(() -> "Didn't find any matching converter for any getter method.");
+                if (tracing) {
+                    log.debug("Didn't find any matching converter for any getter method.");
+                }
                 return null;
             }
-            return getPair(pickedCustomTypeConverter, pickedMeta);
+            return getPair(pickedCustomTypeConverter, pickedMeta, tracing);
         }
-        return getPair(pickedConverter, pickedMeta);
+        return getPair(pickedConverter, pickedMeta, tracing);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> MergingTypeConverter<?> pickMergingConverter(Class<T> from, TypeMeta<?> toMeta) {
+        // only models filled using getters and setters can be updated in place
+        Class<?> toType = PrimitiveWrapperUtil.wrap(toMeta.getType());
+        return customTypeConverter.canConvert(from, toType) ? customTypeConverter : null;
+    }
+
+    @SuppressWarnings("unchecked")
     private <T, U> ClassTypeConverter<U> doPickConverter(Class<T> from, TypeMeta<U> toMeta) {
         Class<?> toType = PrimitiveWrapperUtil.wrap(toMeta.getType());
         ClassTypeConverter<U> pickedConverter = null;
         if (ClassUtil.nonParameterized(toMeta) && toMeta.getType().isAssignableFrom(from)) {
             // if non-parameterized then we guarantee won't have any casting issues for generic parameters
-            return new AssignableObjectConverter<>();
+            return (ClassTypeConverter<U>) assignableObjectConverter;
         }
-        for (TypeConverter converter : conversionContext.getTypeConverterStorage().getAll()) {
+        for (TypeConverter converter : getConverterIndex().getCandidates(from)) {
             if (converter.canConvert(from, toType)) {
                 if (!conversionContext.getTypeConverterStorage().isDefaultConverter(converter)) {
                     // if custom converter was set then use it
                     ClassTypeConverter<U> nonDefaultConverter = getClassTypeConverter(converter, toMeta);
-                    log.debug(() -> "Found matching non-default converter: " + nonDefaultConverter.getName());
+                    if (conversionContext.isTracingEnabled()) {
+                        log.debug("Found matching non-default converter: {}", nonDefaultConverter.getName());
+                    }
                     return nonDefaultConverter;
                 }
                 if (pickedConverter == null) {
@@ -129,6 +183,30 @@ public final class TypeConverterPickerImpl implements TypeConverterPicker {
         return Objects.nonNull(pickedConverter) ? pickedConverter : getCustomTypeConverter(from, toMeta);
     }
 
+    @SuppressWarnings("unchecked")
+    private <T, U> ClassTypeConverter<U> getCachedConverter(TypePairKey typePair, Class<T> from, TypeMeta<U> toMeta) {
+        BoundedCache<TypePairKey, ClassTypeConverter<?>> currentPickedConverters = getPickedConverters();
+        ConversionInstrumentation instrumentation = conversionContext.getConversionInstrumentation();
+        if (instrumentation.isEnabled()) {
+            instrumentation.recordConverterResolution(currentPickedConverters.containsKey(typePair));
+        }
+        return (ClassTypeConverter<U>) currentPickedConverters
+                .computeIfAbsent(typePair, key -> doPickConverter(from, toMeta));
+    }
+
+    private <T, U> ClassTypeConverter<U> getCachedConverterWithEvent(TypePairKey typePair, Class<T> from,
+            TypeMeta<U> toMeta) {
+        ConverterResolutionEventRecorder event = JfrSupport.getEventFactory().newConverterResolutionEvent();
+        if (!event.isEnabled()) {
+            return getCachedConverter(typePair, from, toMeta);
+        }
+        event.begin();
+        boolean cacheHit = getPickedConverters().containsKey(typePair);
+        ClassTypeConverter<U> pickedConverter = getCachedConverter(typePair, from, toMeta);
+        event.complete(from, toMeta, cacheHit, pickedConverter);
+        return pickedConverter;
+    }
+
     @SuppressWarnings("unchecked")
     private <U> ClassTypeConverter<U> getClassTypeConverter(TypeConverter converter, TypeMeta<U> toMeta) {
         if (ClassTypeConverter.class.isAssignableFrom(converter.getClass())) {
@@ -137,6 +215,17 @@ public final class TypeConverterPickerImpl implements TypeConverterPicker {
         return new ClassTypeConverterAdapter<>((ParameterizedTypeConverter<U>) converter, toMeta);
     }
 
+    private TypeConverterIndex getConverterIndex() {
+        List<TypeConverter> converters = conversionContext.getTypeConverterStorage().getAll();
+        TypeConverterIndex currentIndex = converterIndex;
+        if (currentIndex == null || !currentIndex.isBuiltFor(converters)) {
+            log.debug("Building index for current converters list.");
+            currentIndex = new TypeConverterIndex(converters);
+            converterIndex = currentIndex;
+        }
+        return currentIndex;
+    }
+
     private <T, U> ClassTypeConverter<U> getCustomTypeConverter(Class<T> from, TypeMeta<U> toMeta) {
         Class<?> toType = PrimitiveWrapperUtil.wrap(toMeta.getType());
         if (customTypeConverter.canConvert(from, toType)) {
@@ -145,11 +234,29 @@ public final class TypeConverterPickerImpl implements TypeConverterPicker {
         return null;
     }
 
-    private MethodMetaConverterPair<?> getPair(ClassTypeConverter<?> converter, MethodMeta methodMeta) {
-        MethodMetaConverterPair<?> pickedPair = new MethodMetaConverterPair<>(converter, methodMeta);
-        log.debug(() -> String
-                .format("Picked '%s' with '%s' converter.", pickedPair.getMethodMeta().getMethod().getName(),
-                        pickedPair.getConverter().getName()));
-        return pickedPair;
+    private MethodMetaConverterPair<?> getPair(ClassTypeConverter<?> converter, MethodMeta methodMeta,
+            boolean tracing) {
+        if (tracing) {
+            log.debug("Picked '{}' with '{}' converter.", methodMeta.getMethod().getName(), converter.getName());
+        }
+        return new MethodMetaConverterPair<>(converter, methodMeta);
+    }
+
+    private BoundedCache<TypePairKey, ClassTypeConverter<?>> getPickedConverters() {
+        long modificationCount = conversionContext.getTypeConverterStorage().getModificationCount();
+        PickedConverters currentPickedConverters = pickedConverters;
+        if (currentPickedConverters.getModificationCount() != modificationCount) {
+            log.debug("Converters list was modified, resetting cache of picked converters.");
+            currentPickedConverters = new PickedConverters(new BoundedCache<>(cacheSize), modificationCount);
+            pickedConverters = currentPickedConverters;
+        }
+        return currentPickedConverters.getCache();
+    }
+
+    @Value
+    private static class PickedConverters {
+
+        BoundedCache<TypePairKey, ClassTypeConverter<?>> cache;
+        long modificationCount;
     }
 }
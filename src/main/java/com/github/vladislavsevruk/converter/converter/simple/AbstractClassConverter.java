@@ -39,8 +39,12 @@ public abstract class AbstractClassConverter<T, U> extends AbstractTypeConverter
     @Override
     @SuppressWarnings("unchecked")
     public U convert(Object from) {
+        // class converters are context free so logger level is checked once per value instead of tracing flag
+        boolean tracing = log.isDebugEnabled();
         if (from == null) {
-            log.debug(() -> "Received value is 'null' so returning 'null' as well.");
+            if (tracing) {
+                log.debug("Received value is 'null' so returning 'null' as well.");
+            }
             return null;
         }
         if (!checkFromType(from.getClass())) {
@@ -48,10 +52,13 @@ public abstract class AbstractClassConverter<T, U> extends AbstractTypeConverter
                     getFromType().getName(), from.getClass().getName());
             throw new TypeConversionException(message);
         }
-        log.debug(
-                () -> String.format("Converting from '%s' to '%s'.", from.getClass().getName(), getToType().getName()));
+        if (tracing) {
+            log.debug("Converting from '{}' to '{}'.", from.getClass().getName(), getToType().getName());
+        }
         U value = convertNonNullObject((T) from);
-        log.debug(() -> String.format("Converted '%s' to '%s'.", from, value));
+        if (tracing) {
+            log.debug("Converted '{}' to '{}'.", from, value);
+        }
         return value;
     }
 
@@ -23,6 +23,8 @@
  */
 package com.github.vladislavsevruk.converter.converter.simple.string.number;
 
+import com.github.vladislavsevruk.converter.util.NumberParseUtil;
+
 /**
  * Converts char sequence to byte.
  */
@@ -34,7 +36,7 @@ public final class CharSequenceToByteConverter extends CharSequenceToNumberConve
     }
 
     @Override
-    protected Byte parseNumber(String from) {
-        return Byte.valueOf(from);
+    protected Byte parseNumber(CharSequence from) {
+        return NumberParseUtil.parseByte(from);
     }
 }
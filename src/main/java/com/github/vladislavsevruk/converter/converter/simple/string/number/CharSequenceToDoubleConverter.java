@@ -23,6 +23,8 @@
  */
 package com.github.vladislavsevruk.converter.converter.simple.string.number;
 
+import com.github.vladislavsevruk.converter.util.NumberParseUtil;
+
 /**
  * Converts char sequence to double.
  */
@@ -34,7 +36,7 @@ public final class CharSequenceToDoubleConverter extends CharSequenceToNumberCon
     }
 
     @Override
-    protected Double parseNumber(String from) {
-        return Double.valueOf(from);
+    protected Double parseNumber(CharSequence from) {
+        return NumberParseUtil.parseDouble(from);
     }
 }
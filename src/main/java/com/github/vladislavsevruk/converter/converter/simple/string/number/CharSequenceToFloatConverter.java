@@ -23,6 +23,8 @@
  */
 package com.github.vladislavsevruk.converter.converter.simple.string.number;
 
+import com.github.vladislavsevruk.converter.util.NumberParseUtil;
+
 /**
  * Converts char sequence to float.
  */
@@ -34,7 +36,7 @@ public final class CharSequenceToFloatConverter extends CharSequenceToNumberConv
     }
 
     @Override
-    protected Float parseNumber(String from) {
-        return Float.valueOf(from);
+    protected Float parseNumber(CharSequence from) {
+        return NumberParseUtil.parseFloat(from);
     }
 }
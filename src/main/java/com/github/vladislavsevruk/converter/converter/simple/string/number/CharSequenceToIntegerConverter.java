@@ -23,6 +23,8 @@
  */
 package com.github.vladislavsevruk.converter.converter.simple.string.number;
 
+import com.github.vladislavsevruk.converter.util.NumberParseUtil;
+
 /**
  * Converts char sequence to integer.
  */
@@ -34,7 +36,7 @@ public final class CharSequenceToIntegerConverter extends CharSequenceToNumberCo
     }
 
     @Override
-    protected Integer parseNumber(String from) {
-        return Integer.valueOf(from);
+    protected Integer parseNumber(CharSequence from) {
+        return NumberParseUtil.parseInteger(from);
     }
 }
@@ -23,6 +23,8 @@
  */
 package com.github.vladislavsevruk.converter.converter.simple.string.number;
 
+import com.github.vladislavsevruk.converter.util.NumberParseUtil;
+
 /**
  * Converts char sequence to long.
  */
@@ -34,7 +36,7 @@ public final class CharSequenceToLongConverter extends CharSequenceToNumberConve
     }
 
     @Override
-    protected Long parseNumber(String from) {
-        return Long.valueOf(from);
+    protected Long parseNumber(CharSequence from) {
+        return NumberParseUtil.parseLong(from);
     }
 }
@@ -24,26 +24,36 @@
 package com.github.vladislavsevruk.converter.converter.simple.string.number;
 
 import com.github.vladislavsevruk.converter.converter.simple.string.CharSequenceConverter;
+import com.github.vladislavsevruk.converter.util.NumberParseUtil;
 import lombok.extern.log4j.Log4j2;
 
 /**
- * Abstract converter with common logic for char sequence to number type converters.
+ * Abstract converter with common logic for char sequence to number type converters. Numbers are parsed directly from
+ * char sequence by <code>NumberParseUtil</code> methods without copying and exceptions for malformed input.
+ * Converters that parse numbers from strings may extend <code>StringParsingNumberConverter</code> instead.
  *
  * @param <T> type of conversion result.
+ * @see NumberParseUtil
+ * @see StringParsingNumberConverter
  */
 @Log4j2
 public abstract class CharSequenceToNumberConverter<T extends Number> extends CharSequenceConverter<T> {
 
     @Override
     protected T convertNonNullObject(CharSequence from) {
-        try {
-            return parseNumber(from.toString());
-        } catch (NumberFormatException nuFoEx) {
+        T value = parseNumber(from);
+        if (value == null) {
             log.warn(() -> String
                     .format("Failed to convert '\"%s\"' to '%s'. Returning null.", from, getToType().getName()));
-            return null;
         }
+        return value;
     }
 
-    protected abstract T parseNumber(String from);
+    /**
+     * Parses number from received char sequence.
+     *
+     * @param from <code>CharSequence</code> to parse.
+     * @return parsed number or <code>null</code> if received char sequence isn't valid number.
+     */
+    protected abstract T parseNumber(CharSequence from);
 }
@@ -23,6 +23,8 @@
  */
 package com.github.vladislavsevruk.converter.converter.simple.string.number;
 
+import com.github.vladislavsevruk.converter.util.NumberParseUtil;
+
 /**
  * Converts char sequence to short.
  */
@@ -34,7 +36,7 @@ public final class CharSequenceToShortConverter extends CharSequenceToNumberConv
     }
 
     @Override
-    protected Short parseNumber(String from) {
-        return Short.valueOf(from);
+    protected Short parseNumber(CharSequence from) {
+        return NumberParseUtil.parseShort(from);
     }
 }
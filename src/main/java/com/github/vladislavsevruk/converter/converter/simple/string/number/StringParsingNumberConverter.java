@@ -0,0 +1,55 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.converter.simple.string.number;
+
+/**
+ * Adapter for char sequence to number type converters that parse numbers from strings and throw
+ * <code>NumberFormatException</code> for malformed input like converters that extended
+ * <code>CharSequenceToNumberConverter</code> before it switched to parsing char sequences.
+ *
+ * @param <T> type of conversion result.
+ * @deprecated extend {@link CharSequenceToNumberConverter} and override
+ * {@link CharSequenceToNumberConverter#parseNumber(CharSequence)} instead.
+ */
+@Deprecated
+public abstract class StringParsingNumberConverter<T extends Number> extends CharSequenceToNumberConverter<T> {
+
+    @Override
+    protected final T parseNumber(CharSequence from) {
+        try {
+            return parseNumber(from.toString());
+        } catch (NumberFormatException nuFoEx) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses number from received string.
+     *
+     * @param from <code>String</code> to parse.
+     * @return parsed number.
+     * @throws NumberFormatException if received string isn't valid number.
+     */
+    protected abstract T parseNumber(String from);
+}
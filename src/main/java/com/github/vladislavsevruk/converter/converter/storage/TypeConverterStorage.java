@@ -93,10 +93,22 @@ public interface TypeConverterStorage {
     void addBefore(ParameterizedTypeConverter<?> customConverter, Class<? extends TypeConverter> targetType);
 
     /**
-     * Returns list of all <code>ClassTypeConverter</code>-s that are present at storage.
+     * Returns unmodifiable list of all <code>ClassTypeConverter</code>-s that are present at storage. Returned list
+     * isn't affected by further storage modifications.
      */
     List<TypeConverter> getAll();
 
+    /**
+     * Returns number of modifications of converters list made by one of <code>add*</code> methods. Picked converters
+     * and mapping plans are cached until this number changes, so storages that don't count modifications keep them
+     * cached regardless of list modifications.
+     *
+     * @return number of converters list modifications.
+     */
+    default long getModificationCount() {
+        return 0L;
+    }
+
     /**
      * Checks if converter is one of predefined ones.
      *
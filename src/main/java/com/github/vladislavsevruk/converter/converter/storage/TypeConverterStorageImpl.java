@@ -28,10 +28,14 @@ import com.github.vladislavsevruk.converter.converter.TypeConverter;
 import com.github.vladislavsevruk.converter.converter.parameterized.ParameterizedTypeConverter;
 import com.github.vladislavsevruk.converter.converter.parameterized.array.ArrayToArrayConverter;
 import com.github.vladislavsevruk.converter.converter.parameterized.array.ArrayToListConverter;
+import com.github.vladislavsevruk.converter.converter.parameterized.array.ArrayToPrimitiveArrayConverter;
 import com.github.vladislavsevruk.converter.converter.parameterized.array.ArrayToSetConverter;
+import com.github.vladislavsevruk.converter.converter.parameterized.array.PrimitiveArrayToArrayConverter;
+import com.github.vladislavsevruk.converter.converter.parameterized.array.PrimitiveArrayToListConverter;
 import com.github.vladislavsevruk.converter.converter.parameterized.enumeration.CharSequenceToEnumConverter;
 import com.github.vladislavsevruk.converter.converter.parameterized.iterable.IterableToArrayConverter;
 import com.github.vladislavsevruk.converter.converter.parameterized.iterable.IterableToListConverter;
+import com.github.vladislavsevruk.converter.converter.parameterized.iterable.IterableToPrimitiveArrayConverter;
 import com.github.vladislavsevruk.converter.converter.parameterized.iterable.IterableToSetConverter;
 import com.github.vladislavsevruk.converter.converter.parameterized.map.MapConverter;
 import com.github.vladislavsevruk.converter.converter.simple.ClassTypeConverter;
@@ -71,17 +75,19 @@ import com.github.vladislavsevruk.converter.converter.simple.string.number.CharS
 import com.github.vladislavsevruk.converter.util.ClassUtil;
 import lombok.extern.log4j.Log4j2;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import java.util.Set;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * Implementation of <code>TypeConverterStorage</code>.
+ * Implementation of <code>TypeConverterStorage</code>. Converters are kept at immutable snapshot that is replaced on
+ * every modification so reading converters list doesn't require locking or copying.
  *
  * @see TypeConverter
  * @see TypeConverterStorage
@@ -89,19 +95,22 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 @Log4j2
 public final class TypeConverterStorageImpl implements TypeConverterStorage {
 
-    private static final ReadWriteLock CONVERTERS_LOCK = new ReentrantReadWriteLock();
-    private List<TypeConverter> converters = new LinkedList<>();
+    private final Lock convertersLock = new ReentrantLock();
+    private volatile List<TypeConverter> converters;
     private Set<TypeConverter> defaultConverters = new LinkedHashSet<>();
+    private volatile long modificationCount;
 
     /**
-     * Sets up list of active converters and unmodifiable list of default converters.
+     * Sets up list of active converters and unmodifiable list of default converters. Converters from available
+     * <code>GeneratedConverterProvider</code> implementations are added to active converters.
      *
      * @param conversionContext <code>ConversionContext</code> to use.
      */
     public TypeConverterStorageImpl(ConversionContext conversionContext) {
         addDefaultConverters(conversionContext);
-        converters.addAll(defaultConverters);
+        converters = toSnapshot(defaultConverters.toArray(new TypeConverter[0]));
         defaultConverters = Collections.unmodifiableSet(defaultConverters);
+        addGeneratedConverters(conversionContext);
     }
 
     /**
@@ -109,9 +118,12 @@ public final class TypeConverterStorageImpl implements TypeConverterStorage {
      */
     @Override
     public void add(ClassTypeConverter<?> customConverter) {
-        CONVERTERS_LOCK.writeLock().lock();
-        add((TypeConverter) customConverter);
-        CONVERTERS_LOCK.writeLock().unlock();
+        convertersLock.lock();
+        try {
+            add((TypeConverter) customConverter);
+        } finally {
+            convertersLock.unlock();
+        }
     }
 
     /**
@@ -119,9 +131,12 @@ public final class TypeConverterStorageImpl implements TypeConverterStorage {
      */
     @Override
     public void add(ParameterizedTypeConverter<?> customConverter) {
-        CONVERTERS_LOCK.writeLock().lock();
-        add((TypeConverter) customConverter);
-        CONVERTERS_LOCK.writeLock().unlock();
+        convertersLock.lock();
+        try {
+            add((TypeConverter) customConverter);
+        } finally {
+            convertersLock.unlock();
+        }
     }
 
     /**
@@ -161,11 +176,15 @@ public final class TypeConverterStorageImpl implements TypeConverterStorage {
      */
     @Override
     public List<TypeConverter> getAll() {
-        CONVERTERS_LOCK.readLock().lock();
-        List<TypeConverter> convertersList = converters.isEmpty() ? Collections.emptyList()
-                : new ArrayList<>(converters);
-        CONVERTERS_LOCK.readLock().unlock();
-        return convertersList;
+        return converters;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
     }
 
     /**
@@ -185,41 +204,61 @@ public final class TypeConverterStorageImpl implements TypeConverterStorage {
             log.info("Received converter is null so it will not be added.");
             return;
         }
-        if (ClassUtil.getIndexOfType(converters, customConverter.getClass()) != -1) {
+        List<TypeConverter> currentConverters = converters;
+        if (ClassUtil.getIndexOfType(currentConverters, customConverter.getClass()) != -1) {
             log.info("Received converter is already present at list so it's copy will not be added.");
             return;
         }
-        converters.add(index, customConverter);
+        TypeConverter[] newConverters = new TypeConverter[currentConverters.size() + 1];
+        for (int i = 0; i < index; ++i) {
+            newConverters[i] = currentConverters.get(i);
+        }
+        newConverters[index] = customConverter;
+        for (int i = index; i < currentConverters.size(); ++i) {
+            newConverters[i + 1] = currentConverters.get(i);
+        }
+        converters = toSnapshot(newConverters);
+        // modifications are made under lock so increment of volatile field is safe
+        ++modificationCount;
     }
 
     private void addAfter(TypeConverter customConverter, Class<? extends TypeConverter> targetType) {
-        CONVERTERS_LOCK.writeLock().lock();
-        int targetTypeIndex = ClassUtil.getIndexOfType(converters, targetType);
-        if (targetTypeIndex == -1) {
-            log.info("Target type is not present at list, converter will be added to list end.");
-            add(customConverter);
-        } else {
-            add(targetTypeIndex + 1, customConverter);
+        convertersLock.lock();
+        try {
+            int targetTypeIndex = ClassUtil.getIndexOfType(converters, targetType);
+            if (targetTypeIndex == -1) {
+                log.info("Target type is not present at list, converter will be added to list end.");
+                add(customConverter);
+            } else {
+                add(targetTypeIndex + 1, customConverter);
+            }
+        } finally {
+            convertersLock.unlock();
         }
-        CONVERTERS_LOCK.writeLock().unlock();
     }
 
     private void addArrayConverters(ConversionContext conversionContext) {
         defaultConverters.add(new ArrayToListConverter(conversionContext));
         defaultConverters.add(new ArrayToSetConverter(conversionContext));
         defaultConverters.add(new ArrayToArrayConverter(conversionContext));
+        defaultConverters.add(new ArrayToPrimitiveArrayConverter(conversionContext));
+        defaultConverters.add(new PrimitiveArrayToArrayConverter(conversionContext));
+        defaultConverters.add(new PrimitiveArrayToListConverter(conversionContext));
     }
 
     private void addBefore(TypeConverter customConverter, Class<? extends TypeConverter> targetType) {
-        CONVERTERS_LOCK.writeLock().lock();
-        int targetTypeIndex = ClassUtil.getIndexOfType(converters, targetType);
-        if (targetTypeIndex == -1) {
-            log.info("Target type is not present at list, converter will be added to list end.");
-            add(customConverter);
-        } else {
-            add(targetTypeIndex, customConverter);
+        convertersLock.lock();
+        try {
+            int targetTypeIndex = ClassUtil.getIndexOfType(converters, targetType);
+            if (targetTypeIndex == -1) {
+                log.info("Target type is not present at list, converter will be added to list end.");
+                add(customConverter);
+            } else {
+                add(targetTypeIndex, customConverter);
+            }
+        } finally {
+            convertersLock.unlock();
         }
-        CONVERTERS_LOCK.writeLock().unlock();
     }
 
     private void addCharSequenceConverters(ConversionContext conversionContext) {
@@ -255,6 +294,17 @@ public final class TypeConverterStorageImpl implements TypeConverterStorage {
         addDateConverters();
     }
 
+    private void addGeneratedConverters(ConversionContext conversionContext) {
+        try {
+            for (GeneratedConverterProvider provider : ServiceLoader.load(GeneratedConverterProvider.class)) {
+                log.debug("Adding converters generated by '{}'.", provider.getClass().getName());
+                provider.getConverters(conversionContext).forEach(this::add);
+            }
+        } catch (ServiceConfigurationError scError) {
+            log.warn("Failed to load generated converters.", scError);
+        }
+    }
+
     private void addInstantConverters() {
         defaultConverters.add(new InstantToDateConverter());
         defaultConverters.add(new InstantToDoubleConverter());
@@ -269,6 +319,7 @@ public final class TypeConverterStorageImpl implements TypeConverterStorage {
         defaultConverters.add(new IterableToListConverter(conversionContext));
         defaultConverters.add(new IterableToSetConverter(conversionContext));
         defaultConverters.add(new IterableToArrayConverter(conversionContext));
+        defaultConverters.add(new IterableToPrimitiveArrayConverter(conversionContext));
     }
 
     private void addNumberConverters() {
@@ -283,4 +334,8 @@ public final class TypeConverterStorageImpl implements TypeConverterStorage {
         defaultConverters.add(new NumberToLongConverter());
         defaultConverters.add(new NumberToShortConverter());
     }
+
+    private List<TypeConverter> toSnapshot(TypeConverter[] convertersArray) {
+        return Collections.unmodifiableList(Arrays.asList(convertersArray));
+    }
 }
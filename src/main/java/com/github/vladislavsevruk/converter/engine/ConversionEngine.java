@@ -24,6 +24,7 @@
 package com.github.vladislavsevruk.converter.engine;
 
 import com.github.vladislavsevruk.converter.exception.InstanceCreationException;
+import com.github.vladislavsevruk.converter.exception.TypeConversionException;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 
 /**
@@ -52,4 +53,21 @@ public interface ConversionEngine {
      * @throws InstanceCreationException if target class is abstract or has no public constructor without arguments.
      */
     <T> T convert(Object from, TypeMeta<T> to);
+
+    /**
+     * Converts received object into received existing instance of target type. Engines that don't support conversion
+     * into existing instances throw <code>TypeConversionException</code> by default.
+     *
+     * @param from   object to convert.
+     * @param to     existing instance of target type to fill with converted values.
+     * @param toMeta <code>TypeMeta</code> with actual types for generic parameters of target type.
+     * @param <T>    the type of existing instance.
+     * @return received existing instance filled with converted values.
+     * @throws TypeConversionException if received object cannot be converted into existing instance of target type.
+     */
+    default <T> T convertInto(Object from, T to, TypeMeta<?> toMeta) {
+        String message = String.format("'%s' conversion engine doesn't support conversion into existing instances.",
+                getClass().getName());
+        throw new TypeConversionException(message);
+    }
 }
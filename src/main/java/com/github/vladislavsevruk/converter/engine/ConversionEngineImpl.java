@@ -25,8 +25,12 @@ package com.github.vladislavsevruk.converter.engine;
 
 import com.github.vladislavsevruk.converter.context.ConversionContext;
 import com.github.vladislavsevruk.converter.context.ConversionContextManager;
+import com.github.vladislavsevruk.converter.converter.parameterized.MergingTypeConverter;
 import com.github.vladislavsevruk.converter.converter.simple.ClassTypeConverter;
 import com.github.vladislavsevruk.converter.exception.TypeConversionException;
+import com.github.vladislavsevruk.converter.instrumentation.ConversionInstrumentation;
+import com.github.vladislavsevruk.converter.jfr.ConversionEventRecorder;
+import com.github.vladislavsevruk.converter.jfr.JfrSupport;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import lombok.extern.log4j.Log4j2;
 
@@ -63,6 +67,86 @@ public final class ConversionEngineImpl implements ConversionEngine {
      */
     @Override
     public <T> T convert(Object from, TypeMeta<T> toMeta) {
+        if (!conversionContext.getConversionSettings().isIdentityPreservingConversionEnabled() || !ConversionSession
+                .open()) {
+            return convertObserved(from, toMeta);
+        }
+        // top-level conversion owns session so it is closed even if conversion fails
+        try {
+            return convertObserved(from, toMeta);
+        } finally {
+            ConversionSession.close();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T convertInto(Object from, T to, TypeMeta<?> toMeta) {
+        MergingTypeConverter<Object> mergingConverter = (MergingTypeConverter<Object>) conversionContext
+                .getTypeConverterPicker().pickMergingConverter(from.getClass(), toMeta);
+        if (Objects.isNull(mergingConverter)) {
+            String message = String
+                    .format("Failed to find any converter that can convert from '%s' type into existing '%s' instance.",
+                            from.getClass().getName(), toMeta.getType().getName());
+            log.error(message);
+            throw new TypeConversionException(message);
+        }
+        if (!conversionContext.getConversionSettings().isIdentityPreservingConversionEnabled() || !ConversionSession
+                .open()) {
+            return mergingConverter.convertInto(from, to, toMeta);
+        }
+        try {
+            return mergingConverter.convertInto(from, to, toMeta);
+        } finally {
+            ConversionSession.close();
+        }
+    }
+
+    private <T> T convertInstrumented(Object from, TypeMeta<T> toMeta) {
+        ConversionInstrumentation instrumentation = conversionContext.getConversionInstrumentation();
+        if (!instrumentation.isEnabled()) {
+            return doConvert(from, toMeta);
+        }
+        long startTime = System.nanoTime();
+        T result;
+        try {
+            result = doConvert(from, toMeta);
+        } catch (RuntimeException rtEx) {
+            instrumentation.recordConversionFailure(from.getClass(), toMeta, System.nanoTime() - startTime);
+            throw rtEx;
+        }
+        instrumentation.recordConversion(from.getClass(), toMeta, System.nanoTime() - startTime, result == null);
+        return result;
+    }
+
+    private <T> T convertObserved(Object from, TypeMeta<T> toMeta) {
+        if (JfrSupport.isAvailable()) {
+            return convertWithEvent(from, toMeta);
+        }
+        return convertInstrumented(from, toMeta);
+    }
+
+    private <T> T convertWithEvent(Object from, TypeMeta<T> toMeta) {
+        ConversionEventRecorder event = JfrSupport.getEventFactory().newConversionEvent();
+        if (!event.isEnabled()) {
+            return convertInstrumented(from, toMeta);
+        }
+        event.begin();
+        T result;
+        try {
+            result = convertInstrumented(from, toMeta);
+        } catch (RuntimeException rtEx) {
+            event.complete(from, toMeta, true);
+            throw rtEx;
+        }
+        event.complete(from, toMeta, false);
+        return result;
+    }
+
+    private <T> T doConvert(Object from, TypeMeta<T> toMeta) {
         ClassTypeConverter<T> matchingConverter = conversionContext.getTypeConverterPicker()
                 .pickConverter(from.getClass(), toMeta);
         if (Objects.isNull(matchingConverter)) {
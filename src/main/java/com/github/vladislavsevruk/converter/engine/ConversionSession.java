@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.engine;
+
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+
+/**
+ * Conversion session of current thread that remembers results of models and containers conversions during single
+ * top-level conversion. Nested conversions of already converted source objects to the same target type return
+ * remembered results so shared references are converted once and cyclic references are reproduced at result. Session
+ * instance and its identity table are reused by all top-level conversions of the same thread.
+ */
+public final class ConversionSession {
+
+    private static final ThreadLocal<ConversionSession> SESSIONS = ThreadLocal.withInitial(ConversionSession::new);
+    private final IdentityTable convertedValues = new IdentityTable();
+    private boolean active;
+
+    private ConversionSession() {
+    }
+
+    /**
+     * Closes session of current thread discarding all remembered conversion results.
+     */
+    public static void close() {
+        ConversionSession session = SESSIONS.get();
+        session.convertedValues.clear();
+        session.active = false;
+    }
+
+    /**
+     * Returns active session of current thread or <code>null</code> if there is no active session.
+     */
+    public static ConversionSession current() {
+        ConversionSession session = SESSIONS.get();
+        return session.active ? session : null;
+    }
+
+    /**
+     * Opens session for current thread if there is no active one. Session should be closed by the same caller that
+     * opened it.
+     *
+     * @return <code>true</code> if new session was opened, <code>false</code> if session is already active.
+     */
+    public static boolean open() {
+        ConversionSession session = SESSIONS.get();
+        if (session.active) {
+            return false;
+        }
+        session.active = true;
+        return true;
+    }
+
+    /**
+     * Returns remembered result of conversion of received source object to target type or <code>null</code> if it
+     * wasn't converted at this session yet.
+     *
+     * @param source converted object.
+     * @param toMeta <code>TypeMeta</code> of conversion target type.
+     * @return remembered conversion result or <code>null</code>.
+     */
+    public Object getConverted(Object source, TypeMeta<?> toMeta) {
+        return convertedValues.get(source, toMeta);
+    }
+
+    /**
+     * Remembers result of conversion of received source object to target type. Models may be remembered before their
+     * properties are set so cyclic references to them are resolved to the same instance.
+     *
+     * @param source converted object.
+     * @param toMeta <code>TypeMeta</code> of conversion target type.
+     * @param target conversion result.
+     */
+    public void putConverted(Object source, TypeMeta<?> toMeta, Object target) {
+        convertedValues.put(source, toMeta, target);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.engine;
+
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.util.TypeMetaUtil;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash table that maps pairs of source object identity and target type to conversion results. Uses
+ * linear probing over parallel arrays so lookups and insertions don't allocate entries. Isn't thread-safe.
+ */
+final class IdentityTable {
+
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final int MAX_RETAINED_CAPACITY = 4096;
+    private Object[] sources = new Object[DEFAULT_CAPACITY];
+    private int size;
+    private Object[] targets = new Object[DEFAULT_CAPACITY];
+    private TypeMeta<?>[] targetTypes = new TypeMeta<?>[DEFAULT_CAPACITY];
+
+    /**
+     * Removes all entries. Table that has grown too large is replaced by table of default capacity so memory isn't
+     * retained between conversions.
+     */
+    void clear() {
+        if (size == 0) {
+            return;
+        }
+        if (sources.length > MAX_RETAINED_CAPACITY) {
+            allocate(DEFAULT_CAPACITY);
+        } else {
+            Arrays.fill(sources, null);
+            Arrays.fill(targets, null);
+            Arrays.fill(targetTypes, null);
+        }
+        size = 0;
+    }
+
+    /**
+     * Returns conversion result stored for received source object and target type or <code>null</code> if there is
+     * no such entry.
+     */
+    Object get(Object source, TypeMeta<?> targetType) {
+        int mask = sources.length - 1;
+        for (int i = hash(source, targetType) & mask; sources[i] != null; i = (i + 1) & mask) {
+            if (sources[i] == source && isSameType(targetTypes[i], targetType)) {
+                return targets[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Stores conversion result for received source object and target type replacing previous one if present.
+     */
+    void put(Object source, TypeMeta<?> targetType, Object target) {
+        int mask = sources.length - 1;
+        int i = hash(source, targetType) & mask;
+        for (; sources[i] != null; i = (i + 1) & mask) {
+            if (sources[i] == source && isSameType(targetTypes[i], targetType)) {
+                targets[i] = target;
+                return;
+            }
+        }
+        sources[i] = source;
+        targetTypes[i] = targetType;
+        targets[i] = target;
+        // load factor is kept at most 0.5 so probe sequences stay short
+        if (++size * 2 > sources.length) {
+            resize();
+        }
+    }
+
+    /**
+     * Returns number of stored entries.
+     */
+    int size() {
+        return size;
+    }
+
+    private static int hash(Object source, TypeMeta<?> targetType) {
+        int hash = System.identityHashCode(source) * 31 + targetType.getType().hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean isSameType(TypeMeta<?> storedType, TypeMeta<?> targetType) {
+        return storedType == targetType || TypeMetaUtil.isSameTypes(storedType, targetType);
+    }
+
+    private void allocate(int capacity) {
+        sources = new Object[capacity];
+        targets = new Object[capacity];
+        targetTypes = new TypeMeta<?>[capacity];
+    }
+
+    private void resize() {
+        Object[] oldSources = sources;
+        Object[] oldTargets = targets;
+        TypeMeta<?>[] oldTargetTypes = targetTypes;
+        allocate(oldSources.length * 2);
+        int mask = sources.length - 1;
+        for (int j = 0; j < oldSources.length; ++j) {
+            if (oldSources[j] != null) {
+                int i = hash(oldSources[j], oldTargetTypes[j]) & mask;
+                while (sources[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                sources[i] = oldSources[j];
+                targetTypes[i] = oldTargetTypes[j];
+                targets[i] = oldTargets[j];
+            }
+        }
+    }
+}
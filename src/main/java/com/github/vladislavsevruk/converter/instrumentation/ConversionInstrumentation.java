@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.instrumentation;
+
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+
+/**
+ * Receives measurements of conversions and converters resolution. Implementations are called from conversion paths
+ * so they should be thread-safe and lightweight.
+ */
+public interface ConversionInstrumentation {
+
+    /**
+     * Checks if this instrumentation collects measurements. Conversion paths don't measure time and don't report
+     * anything to instrumentation that is disabled.
+     *
+     * @return <code>true</code> if measurements should be reported, <code>false</code> otherwise.
+     */
+    boolean isEnabled();
+
+    /**
+     * Records conversion that completed without exception.
+     *
+     * @param fromType      class of converted value.
+     * @param toMeta        <code>TypeMeta</code> of conversion target type.
+     * @param durationNanos conversion duration in nanoseconds.
+     * @param nullResult    <code>true</code> if conversion returned <code>null</code>, <code>false</code> otherwise.
+     */
+    void recordConversion(Class<?> fromType, TypeMeta<?> toMeta, long durationNanos, boolean nullResult);
+
+    /**
+     * Records conversion that completed with exception.
+     *
+     * @param fromType      class of converted value.
+     * @param toMeta        <code>TypeMeta</code> of conversion target type.
+     * @param durationNanos conversion duration in nanoseconds.
+     */
+    void recordConversionFailure(Class<?> fromType, TypeMeta<?> toMeta, long durationNanos);
+
+    /**
+     * Records resolution of converter for pair of source class and target type.
+     *
+     * @param cacheHit <code>true</code> if converter was taken from cache of picked converters, <code>false</code> if
+     *                 it was looked up among converters.
+     */
+    void recordConverterResolution(boolean cacheHit);
+}
@@ -0,0 +1,53 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.instrumentation;
+
+import java.util.List;
+
+/**
+ * Management interface that exposes conversion metrics collected by <code>InMemoryConversionInstrumentation</code>
+ * via JMX.
+ */
+public interface ConversionMetricsMXBean {
+
+    /**
+     * Returns number of converters resolutions that were served from cache of picked converters.
+     */
+    long getConverterCacheHits();
+
+    /**
+     * Returns number of converters resolutions that required lookup among converters.
+     */
+    long getConverterCacheMisses();
+
+    /**
+     * Returns snapshots of metrics for every pair of source class and target type that was converted.
+     */
+    List<TypePairMetricsSnapshot> getTypePairMetrics();
+
+    /**
+     * Discards all collected metrics.
+     */
+    void reset();
+}
@@ -0,0 +1,168 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.instrumentation;
+
+import com.github.vladislavsevruk.converter.cache.TypePairKey;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import lombok.extern.log4j.Log4j2;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of <code>ConversionInstrumentation</code> that keeps invocations, failures, <code>null</code>
+ * results counters and latency histograms per pair of source class and target type at memory. Counters are striped
+ * so concurrent conversions don't contend on them. Collected metrics can be exposed via JMX using
+ * {@link #registerMBean()}.
+ *
+ * @see ConversionInstrumentation
+ * @see ConversionMetricsMXBean
+ */
+@Log4j2
+public final class InMemoryConversionInstrumentation implements ConversionInstrumentation, ConversionMetricsMXBean {
+
+    public static final String DEFAULT_OBJECT_NAME = "com.github.vladislavsevruk.converter:type=ConversionMetrics";
+    private final LongAdder converterCacheHits = new LongAdder();
+    private final LongAdder converterCacheMisses = new LongAdder();
+    private final Map<TypePairKey, TypePairMetrics> typePairMetrics = new ConcurrentHashMap<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getConverterCacheHits() {
+        return converterCacheHits.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getConverterCacheMisses() {
+        return converterCacheMisses.sum();
+    }
+
+    /**
+     * Returns snapshot of metrics for received pair of source class and target type or <code>null</code> if there
+     * were no such conversions.
+     *
+     * @param fromType class of converted values.
+     * @param toMeta   <code>TypeMeta</code> of conversion target type.
+     * @return snapshot of metrics or <code>null</code>.
+     */
+    public TypePairMetricsSnapshot getTypePairMetrics(Class<?> fromType, TypeMeta<?> toMeta) {
+        TypePairMetrics metrics = typePairMetrics.get(new TypePairKey(fromType, toMeta));
+        return metrics == null ? null : metrics.toSnapshot();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<TypePairMetricsSnapshot> getTypePairMetrics() {
+        return typePairMetrics.values().stream().map(TypePairMetrics::toSnapshot).collect(Collectors.toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordConversion(Class<?> fromType, TypeMeta<?> toMeta, long durationNanos, boolean nullResult) {
+        getMetrics(fromType, toMeta).recordConversion(durationNanos, nullResult);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordConversionFailure(Class<?> fromType, TypeMeta<?> toMeta, long durationNanos) {
+        getMetrics(fromType, toMeta).recordFailure(durationNanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordConverterResolution(boolean cacheHit) {
+        (cacheHit ? converterCacheHits : converterCacheMisses).increment();
+    }
+
+    /**
+     * Registers this instance at platform MBean server using default object name.
+     *
+     * @return object name this instance was registered with.
+     * @throws JMException if MBean with default name is already registered or registration failed.
+     */
+    public ObjectName registerMBean() throws JMException {
+        return registerMBean(DEFAULT_OBJECT_NAME);
+    }
+
+    /**
+     * Registers this instance at platform MBean server using received object name.
+     *
+     * @param objectName object name to register this instance with.
+     * @return object name this instance was registered with.
+     * @throws JMException if object name is malformed, MBean with such name is already registered or registration
+     *                     failed.
+     */
+    public ObjectName registerMBean(String objectName) throws JMException {
+        ObjectName name = new ObjectName(objectName);
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+        log.info("Registered conversion metrics MBean as '{}'.", name);
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        typePairMetrics.clear();
+        converterCacheHits.reset();
+        converterCacheMisses.reset();
+    }
+
+    private TypePairMetrics getMetrics(Class<?> fromType, TypeMeta<?> toMeta) {
+        TypePairKey typePair = new TypePairKey(fromType, toMeta);
+        TypePairMetrics metrics = typePairMetrics.get(typePair);
+        if (metrics == null) {
+            metrics = typePairMetrics.computeIfAbsent(typePair, TypePairMetrics::new);
+        }
+        return metrics;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.instrumentation;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe histogram of latencies with log-linear buckets. Every power of two range is split into the same number
+ * of equal buckets so relative error of recorded values doesn't exceed 1/16 for any magnitude. Buckets counters are
+ * striped and created lazily on first value that falls into them.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+    private final AtomicReferenceArray<LongAdder> buckets = new AtomicReferenceArray<>(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Long::max, 0L);
+    private final LongAdder sum = new LongAdder();
+
+    /**
+     * Returns index of bucket received non-negative value falls into.
+     */
+    static int getBucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int magnitude = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the highest value that falls into bucket with received index.
+     */
+    static long getBucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = SUB_BUCKET_COUNT + (long) (index % SUB_BUCKET_COUNT);
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * Returns number of recorded values.
+     */
+    long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns maximum recorded value or <code>0</code> if there are no values.
+     */
+    long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns mean of recorded values or <code>0</code> if there are no values.
+     */
+    long getMean() {
+        long currentCount = count.sum();
+        return currentCount == 0 ? 0 : sum.sum() / currentCount;
+    }
+
+    /**
+     * Returns value that received percentage of recorded values doesn't exceed or <code>0</code> if there are no
+     * values. Result is upper bound of bucket percentile falls into but never exceeds maximum recorded value.
+     *
+     * @param percentile percentile in range from <code>0</code> to <code>100</code>.
+     */
+    long getValueAtPercentile(double percentile) {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; ++i) {
+            LongAdder bucket = buckets.get(i);
+            if (bucket != null) {
+                counts[i] = bucket.sum();
+                total += counts[i];
+            }
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long targetCount = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long accumulatedCount = 0;
+        for (int i = 0; i < BUCKET_COUNT; ++i) {
+            accumulatedCount += counts[i];
+            if (accumulatedCount >= targetCount) {
+                return Math.min(getBucketUpperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Records received value. Negative values are recorded as <code>0</code>.
+     *
+     * @param value value to record.
+     */
+    void record(long value) {
+        long nonNegativeValue = Math.max(0, value);
+        getBucket(getBucketIndex(nonNegativeValue)).increment();
+        count.increment();
+        sum.add(nonNegativeValue);
+        max.accumulate(nonNegativeValue);
+    }
+
+    private LongAdder getBucket(int index) {
+        LongAdder bucket = buckets.get(index);
+        if (bucket == null) {
+            buckets.compareAndSet(index, null, new LongAdder());
+            bucket = buckets.get(index);
+        }
+        return bucket;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.instrumentation;
+
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+
+/**
+ * Default implementation of <code>ConversionInstrumentation</code> that is always disabled and ignores all
+ * measurements.
+ *
+ * @see ConversionInstrumentation
+ */
+public final class NoOpConversionInstrumentation implements ConversionInstrumentation {
+
+    public static final NoOpConversionInstrumentation INSTANCE = new NoOpConversionInstrumentation();
+
+    private NoOpConversionInstrumentation() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordConversion(Class<?> fromType, TypeMeta<?> toMeta, long durationNanos, boolean nullResult) {
+        // measurements are ignored
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordConversionFailure(Class<?> fromType, TypeMeta<?> toMeta, long durationNanos) {
+        // measurements are ignored
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordConverterResolution(boolean cacheHit) {
+        // measurements are ignored
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.instrumentation;
+
+import com.github.vladislavsevruk.converter.cache.TypePairKey;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects metrics of conversions between pair of source class and target type.
+ */
+final class TypePairMetrics {
+
+    private static final double MEDIAN_PERCENTILE = 50;
+    private static final double UPPER_PERCENTILE = 99;
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder invocations = new LongAdder();
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final LongAdder nullResults = new LongAdder();
+    private final TypePairKey typePair;
+
+    TypePairMetrics(TypePairKey typePair) {
+        this.typePair = typePair;
+    }
+
+    /**
+     * Records conversion with received duration and result.
+     */
+    void recordConversion(long durationNanos, boolean nullResult) {
+        invocations.increment();
+        if (nullResult) {
+            nullResults.increment();
+        }
+        latencies.record(durationNanos);
+    }
+
+    /**
+     * Records failed conversion with received duration.
+     */
+    void recordFailure(long durationNanos) {
+        invocations.increment();
+        failures.increment();
+        latencies.record(durationNanos);
+    }
+
+    /**
+     * Creates snapshot of current metrics values.
+     */
+    TypePairMetricsSnapshot toSnapshot() {
+        return new TypePairMetricsSnapshot(failures.sum(), invocations.sum(), latencies.getMax(), latencies.getMean(),
+                latencies.getValueAtPercentile(MEDIAN_PERCENTILE), nullResults.sum(),
+                latencies.getValueAtPercentile(UPPER_PERCENTILE), typePair.getFrom().getName(),
+                typePair.getToMeta().toString());
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.jfr;
+
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+
+/**
+ * Records Java Flight Recorder event for conversion of value to target type.
+ */
+public interface ConversionEventRecorder {
+
+    /**
+     * Marks start of conversion.
+     */
+    void begin();
+
+    /**
+     * Fills event fields and commits event provided it passes recording settings.
+     *
+     * @param from   converted value.
+     * @param toMeta <code>TypeMeta</code> of conversion target type.
+     * @param failed <code>true</code> if conversion completed with exception, <code>false</code> otherwise.
+     */
+    void complete(Object from, TypeMeta<?> toMeta, boolean failed);
+
+    /**
+     * Checks if event is enabled by recording settings.
+     *
+     * @return <code>true</code> if event is enabled, <code>false</code> otherwise.
+     */
+    boolean isEnabled();
+}
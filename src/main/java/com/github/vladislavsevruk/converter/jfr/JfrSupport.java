@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.jfr;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Checks availability of Java Flight Recorder API at runtime. Event classes are compiled separately against Java 11
+ * API and are loaded reflectively only if API is available so library keeps working at Java 8 runtimes without Java
+ * Flight Recorder.
+ */
+@Log4j2
+public final class JfrSupport {
+
+    private static final String EVENT_FACTORY_CLASS_NAME
+            = "com.github.vladislavsevruk.converter.jfr.FlightRecorderEventFactory";
+    private static final JfrEventFactory EVENT_FACTORY = loadEventFactory();
+
+    private JfrSupport() {
+    }
+
+    /**
+     * Returns factory of Java Flight Recorder events. Should be called only if {@link #isAvailable()} returns
+     * <code>true</code>.
+     *
+     * @return <code>JfrEventFactory</code> or <code>null</code> if Java Flight Recorder API isn't available.
+     */
+    public static JfrEventFactory getEventFactory() {
+        return EVENT_FACTORY;
+    }
+
+    /**
+     * Checks if Java Flight Recorder events can be emitted at current runtime.
+     *
+     * @return <code>true</code> if Java Flight Recorder API and event classes are available, <code>false</code>
+     * otherwise.
+     */
+    public static boolean isAvailable() {
+        return EVENT_FACTORY != null;
+    }
+
+    private static JfrEventFactory loadEventFactory() {
+        ClassLoader classLoader = JfrSupport.class.getClassLoader();
+        try {
+            Class.forName("jdk.jfr.Event", false, classLoader);
+            return (JfrEventFactory) Class.forName(EVENT_FACTORY_CLASS_NAME, true, classLoader).getConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError ex) {
+            log.debug("Java Flight Recorder API isn't available, conversion events won't be emitted.");
+            return null;
+        }
+    }
+}
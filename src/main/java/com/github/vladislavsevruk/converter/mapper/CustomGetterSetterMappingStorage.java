@@ -66,6 +66,18 @@ public interface CustomGetterSetterMappingStorage {
      */
     void addGetterSetterMapping(Method donorMethod, Method acceptorMethod, TypeProvider<?> acceptorTypeProvider);
 
+    /**
+     * Returns setter that is custom mapped to received getter method from donor model regardless of getter value.
+     *
+     * @param donorMethod  getter <code>Method</code> from donor model.
+     * @param acceptorMeta acceptor <code>TypeMeta</code> with actual types for generic parameters.
+     * @return custom mapped setter <code>Method</code> from acceptor model or <code>null</code> if there are no custom
+     * mapping at this storage.
+     */
+    default Method getMappedSetter(Method donorMethod, TypeMeta<?> acceptorMeta) {
+        return null;
+    }
+
     /**
      * Returns custom mapping for received getter method from donor model.
      *
@@ -76,4 +88,14 @@ public interface CustomGetterSetterMappingStorage {
      * mapping at this storage.
      */
     MappedMethod getMapping(Method donorMethod, Object donorMethodValue, TypeMeta<?> acceptorMeta);
+
+    /**
+     * Returns number of custom getter setter pairs added to this storage. Mapping plans are cached until this number
+     * changes, so storages that don't count modifications keep them cached regardless of added pairs.
+     *
+     * @return number of storage modifications.
+     */
+    default long getModificationCount() {
+        return 0L;
+    }
 }
@@ -55,6 +55,7 @@ public final class CustomGetterSetterMappingStorageImpl implements CustomGetterS
     private final ConversionContext conversionContext;
     private List<MappingNode<?>> mappingNodes = new ArrayList<>();
     private final ReadWriteLock mappingsLock = new ReentrantReadWriteLock();
+    private volatile long modificationCount;
 
     public CustomGetterSetterMappingStorageImpl(ConversionContext conversionContext) {
         this.conversionContext = conversionContext;
@@ -87,6 +88,8 @@ public final class CustomGetterSetterMappingStorageImpl implements CustomGetterS
         validateMethods(donorMethod, acceptorMethod, acceptorMeta);
         mappingsLock.writeLock().lock();
         getOrCreateNode(acceptorMeta).mappings.put(donorMethod, acceptorMethod);
+        // modifications are made under write lock so increment of volatile field is safe
+        ++modificationCount;
         mappingsLock.writeLock().unlock();
         log.info("Added custom getter setter mapping for {}: {} -> {}.", acceptorMeta, donorMethod, acceptorMethod);
     }
@@ -100,6 +103,17 @@ public final class CustomGetterSetterMappingStorageImpl implements CustomGetterS
         addGetterSetterMapping(donorMethod, acceptorMethod, acceptorTypeProvider.getTypeMeta());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Method getMappedSetter(Method donorMethod, TypeMeta<?> acceptorMeta) {
+        mappingsLock.readLock().lock();
+        Method customMapping = getCustomMapping(donorMethod, acceptorMeta);
+        mappingsLock.readLock().unlock();
+        return customMapping;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -112,6 +126,14 @@ public final class CustomGetterSetterMappingStorageImpl implements CustomGetterS
         return mappedMethod;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     private <T> MappingNode<T> addNewNode(TypeMeta<T> typeMeta) {
         MappingNode<T> newNode = new MappingNode<>(typeMeta);
         int index = mappingNodes.size();
@@ -30,7 +30,8 @@ import java.lang.reflect.Method;
 import java.util.List;
 
 /**
- * Maps getters from donor type to setters from acceptor type.
+ * Maps getters from donor type to setters from acceptor type. Mapping results are memoized by conversion plans for
+ * every class of donor method value so they are expected to depend on value type only.
  */
 public interface GetterSetterMapper {
 
@@ -46,4 +47,19 @@ public interface GetterSetterMapper {
      */
     MappedMethod mapMatchingSetter(Method donorMethod, Object donorMethodValue, TypeMeta<?> acceptorMeta,
             List<Method> acceptorMethods);
+
+    /**
+     * Maps getter from donor type to setter from acceptor type that receives <code>null</code> values of getter. As
+     * there is no value to pick setter by, setter is picked by declared return type of getter so result doesn't
+     * depend on previously mapped values.
+     *
+     * @param donorMethod     getter <code>Method</code> from donor type.
+     * @param acceptorMeta    acceptor <code>TypeMeta</code> with actual types for generic parameters.
+     * @param acceptorMethods <code>List</code> of possible acceptor setters.
+     * @return setter <code>Method</code> with non-primitive parameter from acceptor type or <code>null</code> if
+     * there is no such setter.
+     */
+    default Method mapNullValueSetter(Method donorMethod, TypeMeta<?> acceptorMeta, List<Method> acceptorMethods) {
+        return null;
+    }
 }
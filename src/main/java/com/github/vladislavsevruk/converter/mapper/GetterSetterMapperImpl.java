@@ -61,9 +61,12 @@ public final class GetterSetterMapperImpl implements GetterSetterMapper {
     @Override
     public MappedMethod mapMatchingSetter(Method donorMethod, Object donorMethodValue, TypeMeta<?> acceptorMeta,
             List<Method> acceptorMethods) {
-        log.debug("Trying to pick matching setter for '{}' donor method.", donorMethod.getName());
+        boolean tracing = conversionContext.isTracingEnabled();
+        if (tracing) {
+            log.debug("Trying to pick matching setter for '{}' donor method.", donorMethod.getName());
+        }
         MappedMethod mappedMethod = doMapMatchingSetter(donorMethod, donorMethodValue, acceptorMeta, acceptorMethods);
-        if (Objects.nonNull(mappedMethod)) {
+        if (tracing && Objects.nonNull(mappedMethod)) {
             log.debug(() -> {
                 String messagePart = mappedMethod.getTypeConverter() == null ? ""
                         : " with type converter " + mappedMethod.getTypeConverter().getName();
@@ -74,6 +77,36 @@ public final class GetterSetterMapperImpl implements GetterSetterMapper {
         return mappedMethod;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Method mapNullValueSetter(Method donorMethod, TypeMeta<?> acceptorMeta, List<Method> acceptorMethods) {
+        if (donorMethod.getReturnType().isPrimitive()) {
+            return null;
+        }
+        Method customSetter = conversionContext.getCustomGetterSetterMappingStorage()
+                .getMappedSetter(donorMethod, acceptorMeta);
+        if (Objects.nonNull(customSetter)) {
+            return customSetter.getParameterTypes()[0].isPrimitive() ? null : customSetter;
+        }
+        Method nameMatchingSetter = null;
+        for (Method acceptorMethod : acceptorMethods) {
+            Class<?> parameterType = acceptorMethod.getParameterTypes()[0];
+            if (parameterType.isPrimitive() || !isNamesMatch(donorMethod.getName(), acceptorMethod.getName())) {
+                continue;
+            }
+            // setter that accepts declared getter type is preferred the same way as for non-null values
+            if (parameterType.isAssignableFrom(donorMethod.getReturnType())) {
+                return acceptorMethod;
+            }
+            if (Objects.isNull(nameMatchingSetter)) {
+                nameMatchingSetter = acceptorMethod;
+            }
+        }
+        return nameMatchingSetter;
+    }
+
     private MappedMethod doMapMatchingSetter(Method donorMethod, Object donorMethodValue, TypeMeta<?> acceptorMeta,
             List<Method> acceptorMethods) {
         MappedMethod mappedMethod = conversionContext.getCustomGetterSetterMappingStorage()
@@ -0,0 +1,150 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.mapper.accessor;
+
+import com.github.vladislavsevruk.converter.cache.BoundedCache;
+import lombok.extern.log4j.Log4j2;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Creates accessors for getter and setter methods. Accessors are backed by <code>MethodHandle</code> adapted to generic
+ * signature so they avoid access checks and varargs arrays creation of <code>Method.invoke</code>. Methods that cannot
+ * be unreflected using public lookup fall back to reflective call. Created accessors are cached per method. Getters and
+ * setters of primitive numeric types may be combined to accessors that copy values with primitive casts.
+ */
+@Log4j2
+public final class MethodAccessorFactory {
+
+    private static final int CACHE_SIZE = 4096;
+    private static final MethodType COPY_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final BoundedCache<Method, GetterAccessor> GETTERS = new BoundedCache<>(CACHE_SIZE);
+    private static final BoundedCache<Method, SetterAccessor> SETTERS = new BoundedCache<>(CACHE_SIZE);
+
+    private MethodAccessorFactory() {
+    }
+
+    /**
+     * Returns accessor for received getter method.
+     *
+     * @param method getter <code>Method</code> without parameters.
+     * @return <code>GetterAccessor</code> for received method.
+     */
+    public static GetterAccessor getterAccessor(Method method) {
+        return GETTERS.computeIfAbsent(method, MethodAccessorFactory::createGetterAccessor);
+    }
+
+    /**
+     * Creates accessor that copies value of received getter to received setter with primitive cast if both methods
+     * have primitive numeric types. Cast follows the same rules as <code>Number</code> methods that return primitive
+     * values.
+     *
+     * @param getter getter <code>Method</code> without parameters.
+     * @param setter setter <code>Method</code> with single parameter.
+     * @return <code>PropertyCopyAccessor</code> for received methods or <code>null</code> if methods types aren't
+     * primitive numeric types or methods cannot be unreflected using public lookup.
+     */
+    public static PropertyCopyAccessor primitiveCopyAccessor(Method getter, Method setter) {
+        Class<?> getterType = getter.getReturnType();
+        Class<?> setterType = setter.getParameterTypes()[0];
+        if (!isPrimitiveNumber(getterType) || !isPrimitiveNumber(setterType)) {
+            return null;
+        }
+        MethodHandle getterHandle = unreflect(getter, MethodType.methodType(getterType, Object.class));
+        MethodHandle setterHandle = unreflect(setter, MethodType.methodType(void.class, Object.class, setterType));
+        if (getterHandle == null || setterHandle == null) {
+            return null;
+        }
+        MethodHandle castGetterHandle = MethodHandles
+                .explicitCastArguments(getterHandle, MethodType.methodType(setterType, Object.class));
+        // (acceptor, donor) -> setter(acceptor, getter(donor)) with arguments swapped to (donor, acceptor)
+        MethodHandle copyHandle = MethodHandles
+                .permuteArguments(MethodHandles.filterArguments(setterHandle, 1, castGetterHandle), COPY_TYPE, 1, 0);
+        return (donor, acceptor) -> {
+            try {
+                copyHandle.invokeExact(donor, acceptor);
+            } catch (Throwable throwable) {
+                throw new InvocationTargetException(throwable);
+            }
+        };
+    }
+
+    /**
+     * Returns accessor for received setter method.
+     *
+     * @param method setter <code>Method</code> with single parameter.
+     * @return <code>SetterAccessor</code> for received method.
+     */
+    public static SetterAccessor setterAccessor(Method method) {
+        return SETTERS.computeIfAbsent(method, MethodAccessorFactory::createSetterAccessor);
+    }
+
+    private static GetterAccessor createGetterAccessor(Method method) {
+        MethodHandle methodHandle = unreflect(method, GETTER_TYPE);
+        if (methodHandle == null) {
+            return target -> method.invoke(target);
+        }
+        return target -> {
+            try {
+                return methodHandle.invokeExact(target);
+            } catch (Throwable throwable) {
+                throw new InvocationTargetException(throwable);
+            }
+        };
+    }
+
+    private static SetterAccessor createSetterAccessor(Method method) {
+        MethodHandle methodHandle = unreflect(method, SETTER_TYPE);
+        if (methodHandle == null) {
+            return (target, value) -> method.invoke(target, value);
+        }
+        return (target, value) -> {
+            try {
+                methodHandle.invokeExact(target, value);
+            } catch (Throwable throwable) {
+                throw new InvocationTargetException(throwable);
+            }
+        };
+    }
+
+    private static boolean isPrimitiveNumber(Class<?> type) {
+        return type.isPrimitive() && type != boolean.class && type != char.class && type != void.class;
+    }
+
+    private static MethodHandle unreflect(Method method, MethodType methodType) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method).asType(methodType);
+        } catch (IllegalAccessException iaEx) {
+            log.debug(() -> String.format("Failed to unreflect '%s' method, reflective call will be used instead.",
+                    method.getName()));
+            return null;
+        }
+    }
+}
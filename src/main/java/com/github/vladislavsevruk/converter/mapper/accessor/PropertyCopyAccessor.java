@@ -0,0 +1,45 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.mapper.accessor;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Copies value from donor model getter to acceptor model setter without intermediate boxing.
+ */
+@FunctionalInterface
+public interface PropertyCopyAccessor {
+
+    /**
+     * Calls related getter method on received donor model and passes its result to related setter method of received
+     * acceptor model.
+     *
+     * @param donor    model to get value from.
+     * @param acceptor model to set value to.
+     * @throws ReflectiveOperationException if getter or setter method throws exception. Exceptions thrown by methods
+     *                                      themselves are wrapped into <code>InvocationTargetException</code>.
+     * @see InvocationTargetException
+     */
+    void copyValue(Object donor, Object acceptor) throws ReflectiveOperationException;
+}
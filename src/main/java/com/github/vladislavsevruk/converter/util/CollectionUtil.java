@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Contains utility methods for collections creation.
+ */
+public final class CollectionUtil {
+
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    private CollectionUtil() {
+    }
+
+    /**
+     * Calculates initial capacity for hash based collection that allows to store received number of elements without
+     * rehashing using default load factor.
+     *
+     * @param expectedSize expected number of elements.
+     * @return initial capacity for hash based collection.
+     */
+    public static int getHashCapacity(int expectedSize) {
+        if (expectedSize < 3) {
+            return expectedSize + 1;
+        }
+        if (expectedSize >= 1 << 30) {
+            return Integer.MAX_VALUE;
+        }
+        return (int) (expectedSize / DEFAULT_LOAD_FACTOR + 1.0f);
+    }
+
+    /**
+     * Returns received iterable as collection so its size is known. Iterables that aren't collections are copied to
+     * new list.
+     *
+     * @param iterable <code>Iterable</code> to get collection for.
+     * @param <T>      type of iterable elements.
+     * @return received iterable if it is <code>Collection</code> or new <code>List</code> with its elements otherwise.
+     */
+    public static <T> Collection<T> toCollection(Iterable<T> iterable) {
+        if (iterable instanceof Collection) {
+            return (Collection<T>) iterable;
+        }
+        List<T> items = new ArrayList<>();
+        iterable.forEach(items::add);
+        return items;
+    }
+}
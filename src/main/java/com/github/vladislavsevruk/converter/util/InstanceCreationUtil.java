@@ -24,18 +24,36 @@
 package com.github.vladislavsevruk.converter.util;
 
 import com.github.vladislavsevruk.converter.exception.InstanceCreationException;
+import com.github.vladislavsevruk.converter.jfr.InstanceCreationEventRecorder;
+import com.github.vladislavsevruk.converter.jfr.JfrSupport;
 import lombok.extern.log4j.Log4j2;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
+import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.function.Supplier;
 
 /**
- * Utility methods for instance creation.
+ * Utility methods for instance creation. Instantiators are resolved once per class and backed by
+ * <code>MethodHandle</code> of public constructor without arguments. Classes that cannot be instantiated are cached as
+ * well so lookup and error logging aren't repeated for them.
  */
 @Log4j2
 public final class InstanceCreationUtil {
 
+    private static final String CREATION_FAILED_MESSAGE = "Failed to create target model.";
+    private static final MethodType INSTANTIATOR_TYPE = MethodType.methodType(Object.class);
+    private static final ClassValue<Supplier<?>> INSTANTIATORS = new ClassValue<Supplier<?>>() {
+        @Override
+        protected Supplier<?> computeValue(Class<?> type) {
+            return createInstantiator(type);
+        }
+    };
+
     private InstanceCreationUtil() {
     }
 
@@ -49,24 +67,69 @@ public final class InstanceCreationUtil {
      */
     @SuppressWarnings("unchecked")
     public static <T> T createItem(Class<T> clazz) {
+        // utility is context free so logger level is checked once per instance instead of tracing flag
+        boolean tracing = log.isDebugEnabled();
+        if (tracing) {
+            log.debug("Trying to create {} instance.", clazz.getName());
+        }
+        Object instance = JfrSupport.isAvailable() ? createInstanceWithEvent(clazz) : INSTANTIATORS.get(clazz).get();
+        if (tracing) {
+            log.debug("Successfully created {} instance.", clazz.getName());
+        }
+        return (T) instance;
+    }
+
+    private static Object createInstanceWithEvent(Class<?> clazz) {
+        InstanceCreationEventRecorder event = JfrSupport.getEventFactory().newInstanceCreationEvent();
+        if (!event.isEnabled()) {
+            return INSTANTIATORS.get(clazz).get();
+        }
+        event.begin();
+        Object instance = INSTANTIATORS.get(clazz).get();
+        event.complete(clazz);
+        return instance;
+    }
+
+    private static Supplier<?> createInstantiator(Class<?> clazz) {
+        Constructor<?> constructor = Arrays.stream(clazz.getConstructors()).filter(InstanceCreationUtil::hasNoArgs)
+                .findAny().orElse(null);
+        if (constructor == null) {
+            return failedInstantiator("Target model should have public constructor without arguments.", null);
+        }
+        if (Modifier.isAbstract(clazz.getModifiers())) {
+            return failedInstantiator(CREATION_FAILED_MESSAGE, new InstantiationException(clazz.getName()));
+        }
         try {
-            log.debug(() -> String.format("Trying to create %s instance.", clazz.getName()));
-            Object instance = getNonArgsConstructor(clazz.getConstructors()).newInstance();
-            log.debug(() -> String.format("Successfully created %s instance.", clazz.getName()));
-            return (T) instance;
-        } catch (ReflectiveOperationException reOpEx) {
-            String message = "Failed to create target model.";
-            log.error(message, reOpEx);
-            throw new InstanceCreationException(message, reOpEx);
+            MethodHandle methodHandle = MethodHandles.publicLookup().unreflectConstructor(constructor)
+                    .asType(INSTANTIATOR_TYPE);
+            return () -> {
+                try {
+                    return methodHandle.invokeExact();
+                } catch (Throwable throwable) {
+                    log.error(CREATION_FAILED_MESSAGE, throwable);
+                    throw new InstanceCreationException(CREATION_FAILED_MESSAGE, throwable);
+                }
+            };
+        } catch (IllegalAccessException iaEx) {
+            log.debug(() -> String.format("Failed to unreflect %s constructor, reflective call will be used instead.",
+                    clazz.getName()));
+            return () -> {
+                try {
+                    return constructor.newInstance();
+                } catch (ReflectiveOperationException reOpEx) {
+                    log.error(CREATION_FAILED_MESSAGE, reOpEx);
+                    throw new InstanceCreationException(CREATION_FAILED_MESSAGE, reOpEx);
+                }
+            };
         }
     }
 
-    private static Constructor<?> getNonArgsConstructor(Constructor<?>[] constructors) {
-        return Arrays.stream(constructors).filter(InstanceCreationUtil::hasNoArgs).findAny().orElseThrow(() -> {
-            String message = "Target model should have public constructor without arguments.";
-            log.error(message);
-            return new InstanceCreationException(message);
-        });
+    private static Supplier<?> failedInstantiator(String message, Throwable cause) {
+        // error is logged only once, further attempts just throw exception
+        log.error(message, cause);
+        return () -> {
+            throw new InstanceCreationException(message, cause);
+        };
     }
 
     private static boolean hasNoArgs(Executable executable) {
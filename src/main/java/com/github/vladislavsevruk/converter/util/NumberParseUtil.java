@@ -0,0 +1,292 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.util;
+
+/**
+ * Contains utility methods for parsing numbers directly from char sequences. Methods accept same formats as
+ * <code>valueOf</code> methods of corresponding number types but don't copy received char sequences and return
+ * <code>null</code> instead of throwing exception for malformed input.
+ */
+public final class NumberParseUtil {
+
+    private static final float[] FLOAT_POWERS_OF_TEN = { 1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f,
+            1e10f };
+    private static final long INVALID = Long.MIN_VALUE;
+    private static final String LONG_MIN_VALUE_DIGITS = "9223372036854775808";
+    private static final int MAX_EXACT_DOUBLE_EXPONENT = 22;
+    private static final long MAX_EXACT_DOUBLE_MANTISSA = 1L << 53;
+    private static final int MAX_EXACT_FLOAT_EXPONENT = 10;
+    private static final long MAX_EXACT_FLOAT_MANTISSA = 1L << 24;
+    private static final int MAX_EXPONENT = 100000;
+    private static final int MAX_MANTISSA_DIGITS = 18;
+    private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12,
+            1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+    private NumberParseUtil() {
+    }
+
+    /**
+     * Parses byte from received char sequence.
+     *
+     * @param from <code>CharSequence</code> to parse.
+     * @return parsed <code>Byte</code> or <code>null</code> if received char sequence isn't valid byte.
+     */
+    public static Byte parseByte(CharSequence from) {
+        long value = parseIntegral(from, Byte.MIN_VALUE, Byte.MAX_VALUE);
+        return value == INVALID ? null : Byte.valueOf((byte) value);
+    }
+
+    /**
+     * Parses double from received char sequence. Decimal numbers with up to 18 significant digits and decimal exponent
+     * that fits exact double powers of ten are calculated directly, other valid formats like hexadecimal numbers,
+     * <code>NaN</code> or <code>Infinity</code> are delegated to <code>Double.valueOf</code>.
+     *
+     * @param from <code>CharSequence</code> to parse.
+     * @return parsed <code>Double</code> or <code>null</code> if received char sequence isn't valid double.
+     */
+    public static Double parseDouble(CharSequence from) {
+        return (Double) parseDecimal(from, false);
+    }
+
+    /**
+     * Parses float from received char sequence. Decimal numbers with significand that fits exact float and decimal
+     * exponent that fits exact float powers of ten are calculated directly, other valid formats like hexadecimal
+     * numbers, <code>NaN</code> or <code>Infinity</code> are delegated to <code>Float.valueOf</code>.
+     *
+     * @param from <code>CharSequence</code> to parse.
+     * @return parsed <code>Float</code> or <code>null</code> if received char sequence isn't valid float.
+     */
+    public static Float parseFloat(CharSequence from) {
+        return (Float) parseDecimal(from, true);
+    }
+
+    /**
+     * Parses integer from received char sequence.
+     *
+     * @param from <code>CharSequence</code> to parse.
+     * @return parsed <code>Integer</code> or <code>null</code> if received char sequence isn't valid integer.
+     */
+    public static Integer parseInteger(CharSequence from) {
+        long value = parseIntegral(from, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        return value == INVALID ? null : Integer.valueOf((int) value);
+    }
+
+    /**
+     * Parses long from received char sequence.
+     *
+     * @param from <code>CharSequence</code> to parse.
+     * @return parsed <code>Long</code> or <code>null</code> if received char sequence isn't valid long.
+     */
+    public static Long parseLong(CharSequence from) {
+        long value = parseIntegral(from, Long.MIN_VALUE, Long.MAX_VALUE);
+        if (value == INVALID) {
+            // minimal long value matches invalid marker so it's checked separately
+            return isLongMinValue(from) ? Long.MIN_VALUE : null;
+        }
+        return value;
+    }
+
+    /**
+     * Parses short from received char sequence.
+     *
+     * @param from <code>CharSequence</code> to parse.
+     * @return parsed <code>Short</code> or <code>null</code> if received char sequence isn't valid short.
+     */
+    public static Short parseShort(CharSequence from) {
+        long value = parseIntegral(from, Short.MIN_VALUE, Short.MAX_VALUE);
+        return value == INVALID ? null : Short.valueOf((short) value);
+    }
+
+    private static boolean isLongMinValue(CharSequence from) {
+        int length = from.length();
+        if (length == 0 || from.charAt(0) != '-') {
+            return false;
+        }
+        int index = 1;
+        while (index < length - 1 && from.charAt(index) == '0') {
+            ++index;
+        }
+        return LONG_MIN_VALUE_DIGITS.contentEquals(from.subSequence(index, length));
+    }
+
+    private static boolean isTypeSuffix(char ch) {
+        return ch == 'f' || ch == 'F' || ch == 'd' || ch == 'D';
+    }
+
+    private static Number parseDecimal(CharSequence from, boolean toFloat) {
+        int start = 0;
+        int end = from.length();
+        // whitespaces are trimmed same way as by 'valueOf' methods
+        while (start < end && from.charAt(start) <= ' ') {
+            ++start;
+        }
+        while (end > start && from.charAt(end - 1) <= ' ') {
+            --end;
+        }
+        int index = start;
+        boolean negative = false;
+        if (index < end && (from.charAt(index) == '-' || from.charAt(index) == '+')) {
+            negative = from.charAt(index) == '-';
+            ++index;
+        }
+        if (index == end) {
+            return null;
+        }
+        char firstChar = from.charAt(index);
+        if (firstChar == 'N' || firstChar == 'I' || (firstChar == '0' && index + 1 < end && (
+                from.charAt(index + 1) == 'x' || from.charAt(index + 1) == 'X'))) {
+            return parseDecimalFallback(from, start, end, toFloat);
+        }
+        long mantissa = 0L;
+        int significantDigits = 0;
+        int exponent = 0;
+        boolean hasDigits = false;
+        boolean hasDot = false;
+        boolean truncated = false;
+        for (; index < end; ++index) {
+            char ch = from.charAt(index);
+            if (ch >= '0' && ch <= '9') {
+                hasDigits = true;
+                if (significantDigits < MAX_MANTISSA_DIGITS) {
+                    mantissa = mantissa * 10 + (ch - '0');
+                    if (mantissa != 0) {
+                        ++significantDigits;
+                    }
+                    if (hasDot) {
+                        --exponent;
+                    }
+                } else {
+                    truncated = true;
+                    if (!hasDot) {
+                        ++exponent;
+                    }
+                }
+            } else if (ch == '.' && !hasDot) {
+                hasDot = true;
+            } else {
+                break;
+            }
+        }
+        if (!hasDigits) {
+            return null;
+        }
+        if (index < end && (from.charAt(index) == 'e' || from.charAt(index) == 'E')) {
+            ++index;
+            boolean negativeExponent = false;
+            if (index < end && (from.charAt(index) == '-' || from.charAt(index) == '+')) {
+                negativeExponent = from.charAt(index) == '-';
+                ++index;
+            }
+            int exponentStart = index;
+            int exponentValue = 0;
+            for (; index < end && from.charAt(index) >= '0' && from.charAt(index) <= '9'; ++index) {
+                if (exponentValue < MAX_EXPONENT) {
+                    exponentValue = exponentValue * 10 + (from.charAt(index) - '0');
+                }
+            }
+            if (index == exponentStart) {
+                return null;
+            }
+            exponent += negativeExponent ? -exponentValue : exponentValue;
+        }
+        if (index == end - 1 && isTypeSuffix(from.charAt(index))) {
+            ++index;
+        }
+        if (index != end) {
+            return null;
+        }
+        if (truncated) {
+            return parseDecimalFallback(from, start, end, toFloat);
+        }
+        if (toFloat) {
+            if (mantissa > MAX_EXACT_FLOAT_MANTISSA || Math.abs(exponent) > MAX_EXACT_FLOAT_EXPONENT) {
+                return parseDecimalFallback(from, start, end, true);
+            }
+            float value = exponent < 0 ? mantissa / FLOAT_POWERS_OF_TEN[-exponent]
+                    : mantissa * FLOAT_POWERS_OF_TEN[exponent];
+            return negative ? -value : value;
+        }
+        if (mantissa > MAX_EXACT_DOUBLE_MANTISSA || Math.abs(exponent) > MAX_EXACT_DOUBLE_EXPONENT) {
+            return parseDecimalFallback(from, start, end, false);
+        }
+        double value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+        return negative ? -value : value;
+    }
+
+    private static Number parseDecimalFallback(CharSequence from, int start, int end, boolean toFloat) {
+        String value = from.subSequence(start, end).toString();
+        try {
+            return toFloat ? (Number) Float.valueOf(value) : (Number) Double.valueOf(value);
+        } catch (NumberFormatException nuFoEx) {
+            return null;
+        }
+    }
+
+    private static long parseIntegral(CharSequence from, long minValue, long maxValue) {
+        int length = from.length();
+        if (length == 0) {
+            return INVALID;
+        }
+        int index = 0;
+        boolean negative = false;
+        char firstChar = from.charAt(0);
+        if (firstChar == '-' || firstChar == '+') {
+            negative = firstChar == '-';
+            if (length == 1) {
+                return INVALID;
+            }
+            ++index;
+        }
+        // accumulating negatively to cover minimal value of range
+        long limit = negative ? minValue : -maxValue;
+        long multiplicationLimit = limit / 10;
+        long result = 0L;
+        for (; index < length; ++index) {
+            char ch = from.charAt(index);
+            if (ch < '0' || ch > '9') {
+                return Character.isDigit(ch) ? parseIntegralFallback(from, minValue, maxValue) : INVALID;
+            }
+            int digit = ch - '0';
+            if (result < multiplicationLimit) {
+                return INVALID;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return INVALID;
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    private static long parseIntegralFallback(CharSequence from, long minValue, long maxValue) {
+        // non-ASCII digits are rare so they are parsed by 'Long.parseLong' that supports them
+        try {
+            long value = Long.parseLong(from.toString());
+            return value < minValue || value > maxValue ? INVALID : value;
+        } catch (NumberFormatException nuFoEx) {
+            return INVALID;
+        }
+    }
+}
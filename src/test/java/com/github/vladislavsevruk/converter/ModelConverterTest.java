@@ -23,8 +23,21 @@
  */
 package com.github.vladislavsevruk.converter;
 
+import com.github.vladislavsevruk.converter.context.ContextUtil;
 import com.github.vladislavsevruk.converter.context.ConversionContextManager;
+import com.github.vladislavsevruk.converter.context.ConversionModuleFactory;
+import com.github.vladislavsevruk.converter.context.ConversionSettings;
+import com.github.vladislavsevruk.converter.context.PropertyCopyPolicy;
+import com.github.vladislavsevruk.converter.converter.picker.TypeConverterPicker;
+import com.github.vladislavsevruk.converter.converter.simple.ClassTypeConverter;
+import com.github.vladislavsevruk.converter.engine.ConversionEngine;
+import com.github.vladislavsevruk.converter.exception.TypeConversionException;
+import com.github.vladislavsevruk.converter.instrumentation.InMemoryConversionInstrumentation;
+import com.github.vladislavsevruk.converter.instrumentation.TypePairMetricsSnapshot;
 import com.github.vladislavsevruk.converter.mapper.CustomGetterSetterMappingStorage;
+import com.github.vladislavsevruk.converter.mapper.method.MethodMeta;
+import com.github.vladislavsevruk.converter.mapper.method.MethodMetaConverterPair;
+import com.github.vladislavsevruk.converter.test.AliasedTestEnum;
 import com.github.vladislavsevruk.converter.test.TestEnum;
 import com.github.vladislavsevruk.converter.test.acceptor.AbstractElementSequenceAcceptorModel;
 import com.github.vladislavsevruk.converter.test.acceptor.AcceptorSuperclassModel;
@@ -36,13 +49,19 @@ import com.github.vladislavsevruk.converter.test.acceptor.FromInstantAcceptorMod
 import com.github.vladislavsevruk.converter.test.acceptor.FromIterableAcceptorModel;
 import com.github.vladislavsevruk.converter.test.acceptor.FromMapAcceptorModel;
 import com.github.vladislavsevruk.converter.test.acceptor.FromNumberAcceptorModel;
+import com.github.vladislavsevruk.converter.test.acceptor.FromPrimitiveArrayAcceptorModel;
 import com.github.vladislavsevruk.converter.test.acceptor.FromStringAcceptorModel;
 import com.github.vladislavsevruk.converter.test.acceptor.FromStringToBooleanAcceptorModel;
 import com.github.vladislavsevruk.converter.test.acceptor.GenericTestAcceptorModel;
 import com.github.vladislavsevruk.converter.test.acceptor.MethodPrefixesAcceptorModel;
 import com.github.vladislavsevruk.converter.test.acceptor.NegativeAcceptorModel;
+import com.github.vladislavsevruk.converter.test.acceptor.OrderAcceptorModel;
+import com.github.vladislavsevruk.converter.test.acceptor.OrderLineAcceptorModel;
+import com.github.vladislavsevruk.converter.test.acceptor.PartialUpdateAcceptorModel;
 import com.github.vladislavsevruk.converter.test.acceptor.PrimitiveTypesAcceptorModel;
+import com.github.vladislavsevruk.converter.test.acceptor.ProductAcceptorModel;
 import com.github.vladislavsevruk.converter.test.acceptor.SeveralCandidatesAcceptorModel;
+import com.github.vladislavsevruk.converter.test.acceptor.TreeNodeAcceptorModel;
 import com.github.vladislavsevruk.converter.test.donor.AbstractElementSequenceDonorModel;
 import com.github.vladislavsevruk.converter.test.donor.CustomMappingDonorModel;
 import com.github.vladislavsevruk.converter.test.donor.DonorSuperclassModel;
@@ -53,13 +72,20 @@ import com.github.vladislavsevruk.converter.test.donor.FromInstantDonorModel;
 import com.github.vladislavsevruk.converter.test.donor.FromIterableDonorModel;
 import com.github.vladislavsevruk.converter.test.donor.FromMapDonorModel;
 import com.github.vladislavsevruk.converter.test.donor.FromNumberDonorModel;
+import com.github.vladislavsevruk.converter.test.donor.FromPrimitiveArrayDonorModel;
 import com.github.vladislavsevruk.converter.test.donor.FromStringDonorModel;
 import com.github.vladislavsevruk.converter.test.donor.FromStringToBooleanDonorModel;
 import com.github.vladislavsevruk.converter.test.donor.GenericTestDonorModel;
 import com.github.vladislavsevruk.converter.test.donor.MethodPrefixesDonorModel;
 import com.github.vladislavsevruk.converter.test.donor.NegativeDonorModel;
+import com.github.vladislavsevruk.converter.test.donor.OrderDonorModel;
+import com.github.vladislavsevruk.converter.test.donor.OrderLineDonorModel;
+import com.github.vladislavsevruk.converter.test.donor.PartialUpdateDonorModel;
 import com.github.vladislavsevruk.converter.test.donor.PrimitiveTypesDonorModel;
+import com.github.vladislavsevruk.converter.test.donor.ProductDonorModel;
 import com.github.vladislavsevruk.converter.test.donor.SeveralCandidatesDonorModel;
+import com.github.vladislavsevruk.converter.test.donor.TreeNodeDonorModel;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import com.github.vladislavsevruk.resolver.type.TypeProvider;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -69,13 +95,17 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 class ModelConverterTest {
@@ -118,6 +148,296 @@ class ModelConverterTest {
         Assertions.assertNull(result.setToAbstractListNonMatchingTypeWithoutConverter());
     }
 
+    @Test
+    void alwaysCopyPolicyOnFreshPlanTest() {
+        // fresh context guarantees that mapping plan has no setters resolved by previous conversions
+        ContextUtil.resetModulesAndContext();
+        ConversionSettings settings = ConversionContextManager.getContext().getConversionSettings();
+        settings.setPropertyCopyPolicy(PropertyCopyPolicy.ALWAYS);
+        try {
+            OrderAcceptorModel acceptor = new ModelConverter()
+                    .convertInto(new OrderDonorModel(), new OrderAcceptorModel().number("old"));
+            Assertions.assertNull(acceptor.number());
+        } finally {
+            settings.setPropertyCopyPolicy(PropertyCopyPolicy.SKIP_NULL);
+        }
+    }
+
+    @Test
+    void alwaysCopyPolicyTest() {
+        PartialUpdateDonorModel donor = new PartialUpdateDonorModel();
+        donor.setName("name");
+        PartialUpdateAcceptorModel acceptor = modelConverter.convert(donor, PartialUpdateAcceptorModel.class);
+        Assertions.assertEquals("name", acceptor.getName());
+        ConversionSettings settings = ConversionContextManager.getContext().getConversionSettings();
+        settings.setPropertyCopyPolicy(PropertyCopyPolicy.ALWAYS);
+        try {
+            donor.setName(null);
+            modelConverter.convertInto(donor, acceptor);
+            Assertions.assertNull(acceptor.getName());
+        } finally {
+            settings.setPropertyCopyPolicy(PropertyCopyPolicy.SKIP_NULL);
+        }
+    }
+
+    @Test
+    void conversionMetricsOfElementsTest() {
+        InMemoryConversionInstrumentation instrumentation = new InMemoryConversionInstrumentation();
+        ConversionContextManager.enableContextAutoRefresh();
+        ConversionModuleFactory.replaceConversionInstrumentation(context -> instrumentation);
+        ConversionSettings settings = ConversionContextManager.getContext().getConversionSettings();
+        try {
+            ModelConverter instrumentedConverter = new ModelConverter();
+            instrumentedConverter.convertAll(Arrays.asList("1", "2"), Long.class);
+            instrumentedConverter.convertLazily(Stream.of("3"), Long.class).collect(Collectors.toList());
+            settings.setLazyViewsEnabled(true);
+            instrumentedConverter.convert(Collections.singletonList("4"), new TypeProvider<List<Long>>() {}).get(0);
+            TypePairMetricsSnapshot elementMetrics = instrumentation
+                    .getTypePairMetrics(String.class, new TypeMeta<>(Long.class));
+            Assertions.assertNotNull(elementMetrics);
+            Assertions.assertEquals(4, elementMetrics.getInvocations());
+            Assertions.assertEquals(0, elementMetrics.getFailures());
+        } finally {
+            settings.setLazyViewsEnabled(false);
+            ContextUtil.resetModulesAndContext();
+        }
+    }
+
+    @Test
+    void conversionMetricsOfPrimitivePropertiesTest() {
+        InMemoryConversionInstrumentation instrumentation = new InMemoryConversionInstrumentation();
+        ConversionContextManager.enableContextAutoRefresh();
+        ConversionModuleFactory.replaceConversionInstrumentation(context -> instrumentation);
+        try {
+            ModelConverter instrumentedConverter = new ModelConverter();
+            instrumentedConverter.convert(new PrimitiveTypesDonorModel(), PrimitiveTypesAcceptorModel.class);
+            instrumentedConverter.convert(new PrimitiveTypesDonorModel(), PrimitiveTypesAcceptorModel.class);
+            TypePairMetricsSnapshot propertyMetrics = instrumentation
+                    .getTypePairMetrics(Integer.class, new TypeMeta<>(Short.class));
+            Assertions.assertNotNull(propertyMetrics);
+            Assertions.assertEquals(6, propertyMetrics.getInvocations());
+        } finally {
+            ContextUtil.resetModulesAndContext();
+        }
+    }
+
+    @Test
+    void conversionMetricsTest() {
+        InMemoryConversionInstrumentation instrumentation = new InMemoryConversionInstrumentation();
+        ConversionContextManager.enableContextAutoRefresh();
+        ConversionModuleFactory.replaceConversionInstrumentation(context -> instrumentation);
+        try {
+            ModelConverter instrumentedConverter = new ModelConverter();
+            instrumentedConverter.convert(new FromNumberDonorModel(), FromNumberAcceptorModel.class);
+            instrumentedConverter.convert(new FromNumberDonorModel(), FromNumberAcceptorModel.class);
+            TypePairMetricsSnapshot modelMetrics = instrumentation
+                    .getTypePairMetrics(FromNumberDonorModel.class, new TypeMeta<>(FromNumberAcceptorModel.class));
+            Assertions.assertNotNull(modelMetrics);
+            Assertions.assertEquals(2, modelMetrics.getInvocations());
+            Assertions.assertEquals(0, modelMetrics.getFailures());
+            Assertions.assertEquals(0, modelMetrics.getNullResults());
+            Assertions.assertTrue(modelMetrics.getMaxLatencyNanos() > 0);
+            TypePairMetricsSnapshot propertyMetrics = instrumentation
+                    .getTypePairMetrics(Long.class, new TypeMeta<>(Date.class));
+            Assertions.assertNotNull(propertyMetrics);
+            Assertions.assertEquals(2, propertyMetrics.getInvocations());
+            Assertions.assertTrue(instrumentation.getConverterCacheHits() > 0);
+            Assertions.assertTrue(instrumentation.getConverterCacheMisses() > 0);
+        } finally {
+            ContextUtil.resetModulesAndContext();
+        }
+    }
+
+    @Test
+    void convertAllArrayTest() {
+        Object[] donor = new Object[]{ "1", null, 3 };
+        assertIterable(Arrays.asList(1L, null, 3L), modelConverter.convertAll(donor, Long.class));
+        assertIterable(Arrays.asList(1L, null, 3L), modelConverter.convertAll(donor, new TypeProvider<Long>() {}));
+        Assertions.assertNull(modelConverter.convertAll((Object[]) null, Long.class));
+    }
+
+    @Test
+    void convertAllModelsTest() {
+        List<PrimitiveTypesDonorModel> donor = Arrays
+                .asList(new PrimitiveTypesDonorModel(), new PrimitiveTypesDonorModel());
+        List<PrimitiveTypesAcceptorModel> result = modelConverter.convertAll(donor, PrimitiveTypesAcceptorModel.class);
+        Assertions.assertEquals(2, result.size());
+        for (PrimitiveTypesAcceptorModel acceptor : result) {
+            Assertions.assertEquals(donor.get(0).primitiveMethod(), acceptor.primitiveMethod());
+        }
+    }
+
+    @Test
+    void convertAllToReceivedListTest() {
+        List<Long> result = new ArrayList<>(Collections.singletonList(0L));
+        Assertions.assertSame(result, modelConverter.convertAll(Arrays.asList("1", "2"), Long.class, result));
+        Assertions.assertSame(result,
+                modelConverter.convertAll(Collections.singleton(3), new TypeProvider<Long>() {}, result));
+        Assertions.assertSame(result, modelConverter.convertAll(null, Long.class, result));
+        assertIterable(Arrays.asList(0L, 1L, 2L, 3L), result);
+    }
+
+    @Test
+    void convertAllWithTypeProviderTest() {
+        List<List<?>> donor = Arrays.asList(Arrays.asList("1", "2"), Collections.singletonList(3L));
+        List<List<Integer>> result = modelConverter.convertAll(donor, new TypeProvider<List<Integer>>() {});
+        Assertions.assertEquals(2, result.size());
+        assertIterable(Arrays.asList(1, 2), result.get(0));
+        assertIterable(Collections.singletonList(3), result.get(1));
+        Assertions.assertNull(modelConverter.convertAll((Iterable<?>) null, new TypeProvider<List<Integer>>() {}));
+    }
+
+    @Test
+    void convertIntoNotCustomTypeTest() {
+        List<String> existingList = new ArrayList<>();
+        Assertions.assertThrows(TypeConversionException.class, () -> modelConverter.convertInto("1", existingList));
+    }
+
+    @Test
+    void convertIntoNullTest() {
+        OrderAcceptorModel existingOrder = new OrderAcceptorModel().number("0");
+        Assertions.assertSame(existingOrder, modelConverter.convertInto(null, existingOrder));
+        Assertions.assertEquals("0", existingOrder.number());
+    }
+
+    @Test
+    void convertIntoTest() {
+        OrderDonorModel order = new OrderDonorModel().number("1");
+        order.lines(Arrays.asList(new OrderLineDonorModel().product(new ProductDonorModel().name("product1")),
+                new OrderLineDonorModel().product(new ProductDonorModel().name("product2"))));
+        List<OrderLineAcceptorModel> existingLines = new ArrayList<>();
+        OrderAcceptorModel existingOrder = new OrderAcceptorModel().number("0").lines(existingLines);
+        OrderAcceptorModel result = modelConverter.convertInto(order, existingOrder);
+        Assertions.assertSame(existingOrder, result);
+        Assertions.assertEquals("1", result.number());
+        Assertions.assertNotSame(existingLines, result.lines());
+        Assertions.assertEquals(2, result.lines().size());
+        Assertions.assertEquals("product1", result.lines().get(0).product().name());
+        Assertions.assertEquals("product2", result.lines().get(1).product().name());
+    }
+
+    @Test
+    void convertIntoWithCustomEngineTest() {
+        ConversionContextManager.enableContextAutoRefresh();
+        ConversionModuleFactory.replaceConversionEngine(context -> new ConversionEngine() {
+            @Override
+            public boolean canConvert(Class<?> from, TypeMeta<?> to) {
+                return false;
+            }
+
+            @Override
+            public <T> T convert(Object from, TypeMeta<T> to) {
+                return null;
+            }
+        });
+        try {
+            ModelConverter customEngineConverter = new ModelConverter();
+            OrderAcceptorModel existingOrder = new OrderAcceptorModel();
+            Assertions.assertThrows(TypeConversionException.class,
+                    () -> customEngineConverter.convertInto(new OrderDonorModel(), existingOrder));
+        } finally {
+            ContextUtil.resetModulesAndContext();
+        }
+    }
+
+    @Test
+    void convertIntoWithCustomPickerTest() {
+        ConversionContextManager.enableContextAutoRefresh();
+        ConversionModuleFactory.replaceTypeConverterPicker(context -> new TypeConverterPicker() {
+            @Override
+            public <T, U> ClassTypeConverter<U> pickConverter(Class<T> from, TypeMeta<U> toMeta) {
+                return null;
+            }
+
+            @Override
+            public <T> MethodMetaConverterPair<?> pickConverter(Class<T> from, Iterable<MethodMeta> candidateMetas) {
+                return null;
+            }
+        });
+        try {
+            ModelConverter customPickerConverter = new ModelConverter();
+            OrderAcceptorModel existingOrder = new OrderAcceptorModel();
+            Assertions.assertThrows(TypeConversionException.class,
+                    () -> customPickerConverter.convertInto(new OrderDonorModel(), existingOrder));
+        } finally {
+            ContextUtil.resetModulesAndContext();
+        }
+    }
+
+    @Test
+    void convertIntoWithNestedValuesReuseTest() {
+        OrderDonorModel order = new OrderDonorModel().number("1");
+        order.lines(Collections.singletonList(new OrderLineDonorModel().product(new ProductDonorModel().name("new"))));
+        List<OrderLineAcceptorModel> existingLines = new ArrayList<>();
+        existingLines.add(new OrderLineAcceptorModel());
+        OrderAcceptorModel existingOrder = new OrderAcceptorModel().lines(existingLines);
+        ProductAcceptorModel existingProduct = new ProductAcceptorModel().name("old");
+        OrderLineAcceptorModel existingLine = new OrderLineAcceptorModel().product(existingProduct);
+        ConversionSettings settings = ConversionContextManager.getContext().getConversionSettings();
+        settings.setNestedValuesReuseEnabled(true);
+        try {
+            modelConverter.convertInto(order, existingOrder);
+            Assertions.assertSame(existingLines, existingOrder.lines());
+            Assertions.assertEquals(1, existingLines.size());
+            Assertions.assertEquals("new", existingLines.get(0).product().name());
+            modelConverter.convertInto(order.lines().get(0), existingLine);
+            Assertions.assertSame(existingProduct, existingLine.product());
+            Assertions.assertEquals("new", existingProduct.name());
+        } finally {
+            settings.setNestedValuesReuseEnabled(false);
+        }
+    }
+
+    @Test
+    void convertLazilyIterableTest() {
+        Stream<Long> result = modelConverter.convertLazily(Arrays.asList("1", null, 3), Long.class);
+        Assertions.assertTrue(result.spliterator().hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED));
+        assertIterable(Arrays.asList(1L, null, 3L), modelConverter
+                .convertLazily(Arrays.asList("1", null, 3), new TypeProvider<Long>() {})
+                .collect(Collectors.toList()));
+        Assertions.assertNull(modelConverter.convertLazily((Iterable<?>) null, Long.class));
+    }
+
+    @Test
+    void convertLazilyIteratorTest() {
+        Iterator<Long> result = modelConverter.convertLazily(Arrays.asList("1", 2).iterator(), Long.class);
+        Assertions.assertEquals(1L, result.next());
+        Assertions.assertEquals(2L, result.next());
+        Assertions.assertFalse(result.hasNext());
+        Iterator<List<Integer>> genericResult = modelConverter
+                .convertLazily(Collections.singleton(Collections.singleton("4")).iterator(),
+                        new TypeProvider<List<Integer>>() {});
+        assertIterable(Collections.singletonList(4), genericResult.next());
+        Assertions.assertFalse(genericResult.hasNext());
+    }
+
+    @Test
+    void convertLazilyStreamTest() {
+        List<Long> expected = IntStream.range(0, 1000).mapToObj(Long::valueOf).collect(Collectors.toList());
+        assertIterable(expected, modelConverter
+                .convertLazily(IntStream.range(0, 1000).mapToObj(String::valueOf).parallel(), Long.class)
+                .collect(Collectors.toList()));
+        assertIterable(expected, modelConverter
+                .convertLazily(IntStream.range(0, 1000).boxed(), new TypeProvider<Long>() {})
+                .collect(Collectors.toList()));
+        Assertions.assertNull(modelConverter.convertLazily((Stream<?>) null, Long.class));
+    }
+
+    @Test
+    void convertMapWithDuplicateNullValueKeysTest() {
+        Map<String, String> donor = new HashMap<>();
+        donor.put("1", null);
+        donor.put("01", null);
+        TypeProvider<Map<Integer, String>> typeProvider = new TypeProvider<Map<Integer, String>>() {};
+        ConversionSettings settings = ConversionContextManager.getContext().getConversionSettings();
+        settings.setSinglePassElementConversionEnabled(true);
+        try {
+            Assertions.assertThrows(IllegalStateException.class, () -> modelConverter.convert(donor, typeProvider));
+        } finally {
+            settings.setSinglePassElementConversionEnabled(false);
+        }
+    }
+
     @Test
     void convertNullToClassTest() {
         PrimitiveTypesDonorModel result = modelConverter.convert(null, PrimitiveTypesDonorModel.class);
@@ -137,6 +457,12 @@ class ModelConverterTest {
         Assertions.assertEquals(donor.toString(), result);
     }
 
+    @Test
+    void convertToArrayClassTest() {
+        assertArray(new Long[]{ 1L, 2L }, modelConverter.convert(new Integer[]{ 1, 2 }, Long[].class));
+        assertArray(new Long[]{ 1L, 2L }, modelConverter.convert(Arrays.asList("1", "2"), Long[].class));
+    }
+
     @Test
     void convertWithCustomMappingsTest() throws Throwable {
         CustomGetterSetterMappingStorage storage = ConversionContextManager.getContext()
@@ -219,6 +545,26 @@ class ModelConverterTest {
                 result.arrayMismatchingWildcardTypeDonorNeg());
     }
 
+    @Test
+    void fromContainerModelsWithSinglePassElementConversionTest() {
+        ConversionSettings settings = ConversionContextManager.getContext().getConversionSettings();
+        settings.setSinglePassElementConversionEnabled(true);
+        try {
+            assertIterable(Arrays.asList(1L, null, 3L),
+                    modelConverter.convert(Arrays.asList("1", null, 3), new TypeProvider<List<Long>>() {}));
+            Assertions.assertNull(modelConverter.convert(Arrays.asList("1", '2'), new TypeProvider<List<Long>>() {}));
+            assertArray(new Long[]{ 1L, 2L },
+                    modelConverter.convert(new Object[]{ "1", 2 }, new TypeProvider<Long[]>() {}));
+            Assertions.assertNull(modelConverter.convert(new Object[]{ '1' }, new TypeProvider<Long[]>() {}));
+            assertMap(Collections.singletonMap("1", 2L),
+                    modelConverter.convert(Collections.singletonMap(1, "2"), new TypeProvider<Map<String, Long>>() {}));
+            Assertions.assertNull(modelConverter
+                    .convert(Collections.singletonMap(1, '2'), new TypeProvider<Map<String, Long>>() {}));
+        } finally {
+            settings.setSinglePassElementConversionEnabled(false);
+        }
+    }
+
     @Test
     void fromDateModelTest() {
         FromDateDonorModel donor = new FromDateDonorModel();
@@ -314,6 +660,24 @@ class ModelConverterTest {
         Assertions.assertEquals(donor.toStringVal().toString(), result.toStringVal());
     }
 
+    @Test
+    void fromPrimitiveArrayModelTest() {
+        FromPrimitiveArrayDonorModel donor = new FromPrimitiveArrayDonorModel();
+        FromPrimitiveArrayAcceptorModel result = modelConverter.convert(donor, FromPrimitiveArrayAcceptorModel.class);
+        Assertions.assertNotNull(result);
+        Assertions.assertArrayEquals(new int[]{ 97, 98 }, result.charArrayToIntArray());
+        Assertions.assertArrayEquals(new int[]{ 1, -2 }, result.doubleArrayToIntArray());
+        Assertions.assertArrayEquals(new int[]{ 1, 2 }, result.intArrayToIntArray());
+        Assertions.assertArrayEquals(new Integer[]{ 3, 4 }, result.intArrayToIntegerArray());
+        assertIterable(Arrays.asList(5, 6), result.intArrayToIntegerList());
+        Assertions.assertArrayEquals(new long[]{ 7L, 8L }, result.intArrayToLongArray());
+        Assertions.assertArrayEquals(new String[]{ "9", "10" }, result.intArrayToStringArray());
+        Assertions.assertArrayEquals(new int[]{ 11, 0, 12 }, result.integerArrayToIntArray());
+        Assertions.assertArrayEquals(new long[]{ 13L, 14L }, result.integerListToLongArray());
+        assertIterable(Arrays.asList("15", "16"), result.longArrayToStringList());
+        Assertions.assertArrayEquals(new int[]{ 17, 18 }, result.stringArrayToIntArray());
+    }
+
     @Test
     void fromStringModelTest() {
         FromStringDonorModel donor = new FromStringDonorModel();
@@ -363,6 +727,20 @@ class ModelConverterTest {
         Assertions.assertNull(result.negVal());
     }
 
+    @Test
+    void fromStringToEnumTest() {
+        Assertions.assertEquals(AliasedTestEnum.ACTIVE, modelConverter.convert("1", AliasedTestEnum.class));
+        Assertions.assertNull(modelConverter.convert("inactive", AliasedTestEnum.class));
+        ConversionSettings settings = ConversionContextManager.getContext().getConversionSettings();
+        settings.setCaseInsensitiveEnumMatchingEnabled(true);
+        try {
+            Assertions.assertEquals(AliasedTestEnum.INACTIVE,
+                    modelConverter.convert(new StringBuilder("inactive"), AliasedTestEnum.class));
+        } finally {
+            settings.setCaseInsensitiveEnumMatchingEnabled(false);
+        }
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     void genericModelMatchingTypesTest() {
@@ -422,6 +800,129 @@ class ModelConverterTest {
         assertIterable(Collections.singleton(null), result.innerGenericType());
     }
 
+    @Test
+    void identityPreservingConversionTest() {
+        ProductDonorModel product = new ProductDonorModel().name("product");
+        OrderDonorModel order = new OrderDonorModel().number("1");
+        order.lines(Arrays.asList(new OrderLineDonorModel().order(order).product(product),
+                new OrderLineDonorModel().order(order).product(product)));
+        ConversionSettings settings = ConversionContextManager.getContext().getConversionSettings();
+        settings.setIdentityPreservingConversionEnabled(true);
+        try {
+            OrderAcceptorModel result = modelConverter.convert(order, OrderAcceptorModel.class);
+            Assertions.assertEquals("1", result.number());
+            Assertions.assertEquals(2, result.lines().size());
+            for (OrderLineAcceptorModel line : result.lines()) {
+                Assertions.assertSame(result, line.order());
+                Assertions.assertEquals("product", line.product().name());
+            }
+            Assertions.assertSame(result.lines().get(0).product(), result.lines().get(1).product());
+            OrderAcceptorModel secondResult = modelConverter.convert(order, OrderAcceptorModel.class);
+            Assertions.assertNotSame(result, secondResult);
+            Assertions.assertSame(secondResult, secondResult.lines().get(0).order());
+        } finally {
+            settings.setIdentityPreservingConversionEnabled(false);
+        }
+    }
+
+    @Test
+    void identityPreservingElementsConversionTest() {
+        OrderDonorModel order = new OrderDonorModel().number("1");
+        order.lines(Collections.singletonList(new OrderLineDonorModel().order(order)));
+        ConversionSettings settings = ConversionContextManager.getContext().getConversionSettings();
+        settings.setIdentityPreservingConversionEnabled(true);
+        try {
+            OrderAcceptorModel result = modelConverter.convertAll(Collections.singletonList(order),
+                    OrderAcceptorModel.class).get(0);
+            Assertions.assertSame(result, result.lines().get(0).order());
+            result = modelConverter.convertLazily(Stream.of(order), OrderAcceptorModel.class).findAny()
+                    .orElse(null);
+            Assertions.assertNotNull(result);
+            Assertions.assertSame(result, result.lines().get(0).order());
+            // nested lists are lazy views as well so cyclic reference is checked on direct model property
+            settings.setLazyViewsEnabled(true);
+            TreeNodeDonorModel root = new TreeNodeDonorModel().name("root");
+            root.parent(root);
+            TreeNodeAcceptorModel rootResult = modelConverter
+                    .convert(Collections.singletonList(root), new TypeProvider<List<TreeNodeAcceptorModel>>() {})
+                    .get(0);
+            Assertions.assertEquals("root", rootResult.name());
+            Assertions.assertSame(rootResult, rootResult.parent());
+        } finally {
+            settings.setLazyViewsEnabled(false);
+            settings.setIdentityPreservingConversionEnabled(false);
+        }
+    }
+
+    @Test
+    void lazyViewsOfModifiedSourceTest() {
+        ConversionSettings settings = ConversionContextManager.getContext().getConversionSettings();
+        settings.setLazyViewsEnabled(true);
+        settings.setLazyViewMemoizationEnabled(true);
+        try {
+            List<String> sourceList = new ArrayList<>(Arrays.asList("1", "2"));
+            List<Long> list = modelConverter.convert(sourceList, new TypeProvider<List<Long>>() {});
+            Assertions.assertEquals(1L, list.get(0));
+            sourceList.add("3");
+            Assertions.assertEquals(3, list.size());
+            Assertions.assertEquals(3L, list.get(2));
+            sourceList.remove(2);
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+            Map<String, String> sourceMap = new HashMap<>();
+            sourceMap.put("1", "1");
+            Map<Long, Long> map = modelConverter.convert(sourceMap, new TypeProvider<Map<Long, Long>>() {});
+            Assertions.assertEquals(1L, map.get(1L));
+            sourceMap.put("2", "2");
+            Assertions.assertEquals(2L, map.get(2L));
+            sourceMap.remove("1");
+            sourceMap.put("01", "3");
+            Assertions.assertEquals(3L, map.get(1L));
+            Assertions.assertEquals(2L, map.get(2L));
+        } finally {
+            settings.setLazyViewMemoizationEnabled(false);
+            settings.setLazyViewsEnabled(false);
+        }
+    }
+
+    @Test
+    void lazyViewsTest() {
+        ConversionSettings settings = ConversionContextManager.getContext().getConversionSettings();
+        settings.setLazyViewsEnabled(true);
+        try {
+            List<Long> list = modelConverter.convert(Arrays.asList("1", null, 3), new TypeProvider<List<Long>>() {});
+            Assertions.assertFalse(list instanceof ArrayList);
+            assertIterable(Arrays.asList(1L, null, 3L), list);
+            Assertions.assertThrows(UnsupportedOperationException.class, () -> list.add(4L));
+            Assertions.assertTrue(modelConverter.convert(Arrays.asList("1", "2"),
+                    new TypeProvider<ArrayList<Long>>() {}) instanceof ArrayList);
+            Map<String, Long> map = new HashMap<>();
+            map.put("1", 1L);
+            map.put("2", 2L);
+            Map<Long, String> convertedMap = modelConverter.convert(map, new TypeProvider<Map<Long, String>>() {});
+            Assertions.assertFalse(convertedMap instanceof HashMap);
+            Assertions.assertEquals(2, convertedMap.size());
+            Assertions.assertEquals("2", convertedMap.get(2L));
+            Assertions.assertNull(convertedMap.get(3L));
+            Assertions.assertTrue(convertedMap.containsKey(1L));
+            Assertions.assertEquals(map.size(), new HashMap<>(convertedMap).size());
+            List<PrimitiveTypesDonorModel> donors = Collections.singletonList(new PrimitiveTypesDonorModel());
+            List<PrimitiveTypesAcceptorModel> acceptors = modelConverter
+                    .convert(donors, new TypeProvider<List<PrimitiveTypesAcceptorModel>>() {});
+            Assertions.assertNotSame(acceptors.get(0), acceptors.get(0));
+            settings.setLazyViewMemoizationEnabled(true);
+            List<PrimitiveTypesAcceptorModel> memoizedAcceptors = modelConverter
+                    .convert(donors, new TypeProvider<List<PrimitiveTypesAcceptorModel>>() {});
+            Assertions.assertSame(memoizedAcceptors.get(0), memoizedAcceptors.get(0));
+            Map<String, PrimitiveTypesAcceptorModel> memoizedMap = modelConverter
+                    .convert(Collections.singletonMap("key", donors.get(0)),
+                            new TypeProvider<Map<String, PrimitiveTypesAcceptorModel>>() {});
+            Assertions.assertSame(memoizedMap.get("key"), memoizedMap.values().iterator().next());
+        } finally {
+            settings.setLazyViewMemoizationEnabled(false);
+            settings.setLazyViewsEnabled(false);
+        }
+    }
+
     @Test
     void matchingTypesTest() {
         Integer donor = 1;
@@ -451,6 +952,33 @@ class ModelConverterTest {
         Assertions.assertNull(NegativeAcceptorModel.getStaticIndicator());
     }
 
+    @Test
+    void parallelConversionTest() {
+        ConversionSettings settings = ConversionContextManager.getContext().getConversionSettings();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        settings.setParallelConversionPool(pool);
+        settings.setParallelConversionThreshold(100);
+        settings.setParallelConversionEnabled(true);
+        try {
+            List<String> donor = IntStream.range(0, 5000).mapToObj(String::valueOf).collect(Collectors.toList());
+            List<Long> expected = IntStream.range(0, 5000).mapToObj(Long::valueOf).collect(Collectors.toList());
+            assertIterable(expected, modelConverter.convert(donor, new TypeProvider<List<Long>>() {}));
+            assertArray(expected.toArray(),
+                    modelConverter.convert(donor.toArray(new String[0]), new TypeProvider<Long[]>() {}));
+            settings.setSinglePassElementConversionEnabled(true);
+            assertIterable(expected, modelConverter.convert(donor, new TypeProvider<List<Long>>() {}));
+            List<Object> inconvertibleDonor = new ArrayList<>(donor);
+            inconvertibleDonor.add('0');
+            Assertions.assertNull(modelConverter.convert(inconvertibleDonor, new TypeProvider<List<Long>>() {}));
+        } finally {
+            settings.setSinglePassElementConversionEnabled(false);
+            settings.setParallelConversionEnabled(false);
+            settings.setParallelConversionThreshold(ConversionSettings.DEFAULT_PARALLEL_CONVERSION_THRESHOLD);
+            settings.setParallelConversionPool(ForkJoinPool.commonPool());
+            pool.shutdown();
+        }
+    }
+
     @Test
     void primitiveMethodCalledTest() {
         PrimitiveTypesDonorModel donor = new PrimitiveTypesDonorModel();
@@ -466,6 +994,44 @@ class ModelConverterTest {
         Assertions.assertEquals(donor.nonMatchingPrimitiveMethod(), result.nonMatchingPrimitiveMethod());
     }
 
+    @Test
+    void primitiveMethodCalledSeveralTimesTest() {
+        PrimitiveTypesDonorModel donor = new PrimitiveTypesDonorModel();
+        for (int i = 0; i < 3; ++i) {
+            PrimitiveTypesAcceptorModel result = modelConverter.convert(donor, PrimitiveTypesAcceptorModel.class);
+            Assertions.assertNotNull(result);
+            Assertions.assertEquals(donor.primitiveMethod(), result.primitiveMethod());
+            Assertions.assertEquals(donor.nonMatchingPrimitiveMethod(), result.nonMatchingPrimitiveMethod());
+            Assertions.assertEquals(donor.donorMatchingPrimitiveMethod(), result.donorMatchingPrimitiveMethod());
+            Assertions.assertEquals((short) donor.donorNonMatchingPrimitiveMethod(),
+                    result.donorNonMatchingPrimitiveMethod());
+        }
+    }
+
+    @Test
+    void primitiveMethodCalledWithBytecodeMappersTest() {
+        ConversionSettings settings = ConversionContextManager.getContext().getConversionSettings();
+        settings.setBytecodeMapperThreshold(1);
+        settings.setBytecodeMappersEnabled(true);
+        try {
+            PrimitiveTypesDonorModel donor = new PrimitiveTypesDonorModel();
+            modelConverter.convert(donor, PrimitiveTypesAcceptorModel.class);
+            PrimitiveTypesAcceptorModel result = modelConverter.convert(donor, PrimitiveTypesAcceptorModel.class);
+            Assertions.assertNotNull(result);
+            Assertions.assertEquals(donor.acceptorMatchingPrimitiveMethod(), result.acceptorMatchingPrimitiveMethod());
+            Assertions.assertEquals(donor.acceptorNonMatchingPrimitiveMethod().shortValue(),
+                    result.acceptorNonMatchingPrimitiveMethod());
+            Assertions.assertEquals(donor.donorMatchingPrimitiveMethod(), result.donorMatchingPrimitiveMethod());
+            Assertions.assertEquals((short) donor.donorNonMatchingPrimitiveMethod(),
+                    result.donorNonMatchingPrimitiveMethod());
+            Assertions.assertEquals(donor.primitiveMethod(), result.primitiveMethod());
+            Assertions.assertEquals(donor.nonMatchingPrimitiveMethod(), result.nonMatchingPrimitiveMethod());
+        } finally {
+            settings.setBytecodeMappersEnabled(false);
+            settings.setBytecodeMapperThreshold(ConversionSettings.DEFAULT_BYTECODE_MAPPER_THRESHOLD);
+        }
+    }
+
     @Test
     void severalCandidateMethodTest() {
         SeveralCandidatesDonorModel donor = new SeveralCandidatesDonorModel();
@@ -476,6 +1042,53 @@ class ModelConverterTest {
         Assertions.assertNotNull(result.getExpectedIndicator2());
     }
 
+    @Test
+    void skipUnchangedCopyPolicyTest() {
+        PartialUpdateDonorModel donor = new PartialUpdateDonorModel();
+        donor.setCount(1);
+        donor.setName("name");
+        donor.setTotal(2L);
+        ConversionSettings settings = ConversionContextManager.getContext().getConversionSettings();
+        settings.setPropertyCopyPolicy(PropertyCopyPolicy.SKIP_UNCHANGED);
+        try {
+            PartialUpdateAcceptorModel acceptor = new PartialUpdateAcceptorModel();
+            acceptor.setName("name");
+            modelConverter.convertInto(donor, acceptor);
+            Assertions.assertEquals(1, acceptor.getCount());
+            Assertions.assertEquals(2L, acceptor.getTotal());
+            Assertions.assertEquals(3, acceptor.getSetterCalls());
+            settings.setBytecodeMapperThreshold(1);
+            settings.setBytecodeMappersEnabled(true);
+            donor.setCount(3);
+            modelConverter.convertInto(donor, acceptor);
+            modelConverter.convertInto(donor, acceptor);
+            Assertions.assertEquals(3, acceptor.getCount());
+            Assertions.assertEquals(4, acceptor.getSetterCalls());
+        } finally {
+            settings.setBytecodeMappersEnabled(false);
+            settings.setBytecodeMapperThreshold(ConversionSettings.DEFAULT_BYTECODE_MAPPER_THRESHOLD);
+            settings.setPropertyCopyPolicy(PropertyCopyPolicy.SKIP_NULL);
+        }
+    }
+
+    @Test
+    void tracingTest() {
+        ConversionSettings settings = ConversionContextManager.getContext().getConversionSettings();
+        settings.setTracingEnabled(true);
+        try {
+            Assertions.assertNull(modelConverter.convert(null, Long.class));
+            assertIterable(Arrays.asList(1L, 2L, 3L),
+                    modelConverter.convert(Arrays.asList("1", "2", "3"), new TypeProvider<List<Long>>() {}));
+            FromNumberDonorModel donor = new FromNumberDonorModel();
+            FromNumberAcceptorModel result = modelConverter.convert(donor, FromNumberAcceptorModel.class);
+            Assertions.assertNotNull(result);
+            Assertions.assertEquals(donor.toInteger().intValue(), result.toInteger());
+            Assertions.assertEquals(donor.toStringVal().toString(), result.toStringVal());
+        } finally {
+            settings.setTracingEnabled(false);
+        }
+    }
+
     private void assertArray(Object[] expected, Object[] actual) {
         Assertions.assertNotNull(actual);
         Assertions.assertEquals(expected.length, actual.length);
@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class BoundedCacheTest {
+
+    @Test
+    void computeIfAbsentCachesNullValueTest() {
+        BoundedCache<String, String> cache = new BoundedCache<>(2);
+        AtomicInteger calls = new AtomicInteger();
+        Assertions.assertNull(cache.computeIfAbsent("key", key -> {
+            calls.incrementAndGet();
+            return null;
+        }));
+        Assertions.assertNull(cache.computeIfAbsent("key", key -> {
+            calls.incrementAndGet();
+            return "value";
+        }));
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    void computeIfAbsentCachesValueTest() {
+        BoundedCache<String, String> cache = new BoundedCache<>(2);
+        Assertions.assertEquals("value1", cache.computeIfAbsent("key", key -> "value1"));
+        Assertions.assertEquals("value1", cache.computeIfAbsent("key", key -> "value2"));
+        Assertions.assertEquals(1, cache.size());
+    }
+
+    @Test
+    void computeIfAbsentEvictsEldestEntryTest() {
+        BoundedCache<String, String> cache = new BoundedCache<>(2);
+        cache.computeIfAbsent("key1", key -> "value1");
+        cache.computeIfAbsent("key2", key -> "value2");
+        cache.computeIfAbsent("key3", key -> "value3");
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals("newValue1", cache.computeIfAbsent("key1", key -> "newValue1"));
+        Assertions.assertEquals("value3", cache.computeIfAbsent("key3", key -> "newValue3"));
+    }
+
+    @Test
+    void containsKeyTest() {
+        BoundedCache<String, String> cache = new BoundedCache<>(2);
+        Assertions.assertFalse(cache.containsKey("key"));
+        cache.computeIfAbsent("key", key -> null);
+        Assertions.assertTrue(cache.containsKey("key"));
+    }
+
+    @Test
+    void nonPositiveMaxSizeTest() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BoundedCache<>(0));
+    }
+}
@@ -28,6 +28,7 @@ public final class ContextUtil {
     public static void resetModulesAndContext() {
         ConversionContextManager.disableContextAutoRefresh();
         ConversionModuleFactory.replaceConversionEngine(null);
+        ConversionModuleFactory.replaceConversionInstrumentation(null);
         ConversionModuleFactory.replaceCustomGetterSetterMappingStorage(null);
         ConversionModuleFactory.replaceGetterSetterMapper(null);
         ConversionModuleFactory.replaceExecutableTypeResolver(null);
@@ -29,6 +29,8 @@ import com.github.vladislavsevruk.converter.converter.storage.TypeConverterStora
 import com.github.vladislavsevruk.converter.converter.storage.TypeConverterStorageImpl;
 import com.github.vladislavsevruk.converter.engine.ConversionEngine;
 import com.github.vladislavsevruk.converter.engine.ConversionEngineImpl;
+import com.github.vladislavsevruk.converter.instrumentation.ConversionInstrumentation;
+import com.github.vladislavsevruk.converter.instrumentation.NoOpConversionInstrumentation;
 import com.github.vladislavsevruk.converter.mapper.CustomGetterSetterMappingStorage;
 import com.github.vladislavsevruk.converter.mapper.CustomGetterSetterMappingStorageImpl;
 import com.github.vladislavsevruk.converter.mapper.GetterSetterMapper;
@@ -48,6 +50,8 @@ class ConversionContextImplTest {
     @Mock
     private ConversionEngine conversionEngine;
     @Mock
+    private ConversionInstrumentation conversionInstrumentation;
+    @Mock
     private CustomGetterSetterMappingStorage customGetterSetterMappingStorage;
     @Mock
     private ExecutableTypeResolver<TypeMeta<?>> executableTypeResolver;
@@ -85,6 +89,22 @@ class ConversionContextImplTest {
         Assertions.assertEquals(TypeConverterStorageImpl.class, conversionContext.getTypeConverterStorage().getClass());
     }
 
+    @Test
+    void customConversionInstrumentationFactoryMethodReturnsNullTest() {
+        ConversionContext conversionContext = new ConversionContextImpl(null, null, null, null, null, null,
+                context -> null);
+        Assertions.assertSame(NoOpConversionInstrumentation.INSTANCE, conversionContext.getConversionInstrumentation());
+        Assertions.assertEquals(ConversionEngineImpl.class, conversionContext.getConversionEngine().getClass());
+    }
+
+    @Test
+    void customConversionInstrumentationTest() {
+        ConversionContext conversionContext = new ConversionContextImpl(null, null, null, null, null, null,
+                context -> conversionInstrumentation);
+        Assertions.assertEquals(conversionInstrumentation, conversionContext.getConversionInstrumentation());
+        Assertions.assertEquals(ConversionEngineImpl.class, conversionContext.getConversionEngine().getClass());
+    }
+
     @Test
     void customCustomGetterSetterMappingStorageFactoryMethodReturnsNullTest() {
         ConversionContext conversionContext = new ConversionContextImpl(null, context -> null, null, null, null, null);
@@ -251,6 +271,7 @@ class ConversionContextImplTest {
     void defaultModulesTest() {
         ConversionContext conversionContext = new ConversionContextImpl(null, null, null, null, null, null);
         Assertions.assertEquals(ConversionEngineImpl.class, conversionContext.getConversionEngine().getClass());
+        Assertions.assertSame(NoOpConversionInstrumentation.INSTANCE, conversionContext.getConversionInstrumentation());
         Assertions.assertEquals(CustomGetterSetterMappingStorageImpl.class,
                 conversionContext.getCustomGetterSetterMappingStorage().getClass());
         Assertions.assertEquals(GetterSetterMapperImpl.class, conversionContext.getGetterSetterMapper().getClass());
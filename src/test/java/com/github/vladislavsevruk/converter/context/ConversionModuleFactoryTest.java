@@ -26,6 +26,7 @@ package com.github.vladislavsevruk.converter.context;
 import com.github.vladislavsevruk.converter.converter.picker.TypeConverterPicker;
 import com.github.vladislavsevruk.converter.converter.storage.TypeConverterStorage;
 import com.github.vladislavsevruk.converter.engine.ConversionEngine;
+import com.github.vladislavsevruk.converter.instrumentation.ConversionInstrumentation;
 import com.github.vladislavsevruk.converter.mapper.CustomGetterSetterMappingStorage;
 import com.github.vladislavsevruk.converter.mapper.GetterSetterMapper;
 import com.github.vladislavsevruk.resolver.resolver.executable.ExecutableTypeResolver;
@@ -48,6 +49,8 @@ class ConversionModuleFactoryTest {
     @Mock
     private ConversionEngine conversionEngine;
     @Mock
+    private ConversionInstrumentation conversionInstrumentation;
+    @Mock
     private CustomGetterSetterMappingStorage customGetterSetterMappingStorage;
     @Mock
     private ExecutableTypeResolver<TypeMeta<?>> executableTypeResolver;
@@ -74,6 +77,7 @@ class ConversionModuleFactoryTest {
     @Test
     void defaultModulesTest() {
         Assertions.assertNull(ConversionModuleFactory.conversionEngine());
+        Assertions.assertNull(ConversionModuleFactory.conversionInstrumentation());
         Assertions.assertNull(ConversionModuleFactory.customGetterSetterMappingStorage());
         Assertions.assertNull(ConversionModuleFactory.getterSetterMapper());
         Assertions.assertNull(ConversionModuleFactory.executableTypeResolver());
@@ -88,6 +92,13 @@ class ConversionModuleFactoryTest {
         Assertions.assertEquals(factoryMethod, ConversionModuleFactory.conversionEngine());
     }
 
+    @Test
+    void replaceConversionInstrumentationTest() {
+        ConversionModuleFactoryMethod<ConversionInstrumentation> factoryMethod = context -> conversionInstrumentation;
+        ConversionModuleFactory.replaceConversionInstrumentation(factoryMethod);
+        Assertions.assertEquals(factoryMethod, ConversionModuleFactory.conversionInstrumentation());
+    }
+
     @Test
     void replaceCustomGetterSetterMappingStorageTest() {
         ConversionModuleFactoryMethod<CustomGetterSetterMappingStorage> factoryMethod
@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.context;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.ForkJoinPool;
+
+class ConversionSettingsTest {
+
+    @Test
+    void defaultSettingsTest() {
+        ConversionSettings settings = new ConversionSettings();
+        Assertions.assertFalse(settings.isBytecodeMappersEnabled());
+        Assertions.assertEquals(ConversionSettings.DEFAULT_BYTECODE_MAPPER_THRESHOLD,
+                settings.getBytecodeMapperThreshold());
+        Assertions.assertFalse(settings.isCaseInsensitiveEnumMatchingEnabled());
+        Assertions.assertFalse(settings.isIdentityPreservingConversionEnabled());
+        Assertions.assertFalse(settings.isLazyViewMemoizationEnabled());
+        Assertions.assertFalse(settings.isLazyViewsEnabled());
+        Assertions.assertFalse(settings.isNestedValuesReuseEnabled());
+        Assertions.assertFalse(settings.isParallelConversionEnabled());
+        Assertions.assertSame(ForkJoinPool.commonPool(), settings.getParallelConversionPool());
+        Assertions.assertEquals(ConversionSettings.DEFAULT_PARALLEL_CONVERSION_THRESHOLD,
+                settings.getParallelConversionThreshold());
+        Assertions.assertEquals(PropertyCopyPolicy.SKIP_NULL, settings.getPropertyCopyPolicy());
+        Assertions.assertFalse(settings.isSinglePassElementConversionEnabled());
+        Assertions.assertFalse(settings.isTracingEnabled());
+    }
+
+    @Test
+    void setNegativeBytecodeMapperThresholdTest() {
+        ConversionSettings settings = new ConversionSettings();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> settings.setBytecodeMapperThreshold(-1));
+    }
+
+    @Test
+    void setNonPositiveParallelConversionThresholdTest() {
+        ConversionSettings settings = new ConversionSettings();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> settings.setParallelConversionThreshold(0));
+    }
+
+    @Test
+    void setNullParallelConversionPoolTest() {
+        ConversionSettings settings = new ConversionSettings();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> settings.setParallelConversionPool(null));
+    }
+
+    @Test
+    void setNullPropertyCopyPolicyTest() {
+        ConversionSettings settings = new ConversionSettings();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> settings.setPropertyCopyPolicy(null));
+    }
+
+    @Test
+    void sharedDefaultSettingsOfCustomContextsTest() {
+        ConversionContext customContext1 = Mockito.mock(ConversionContext.class, Mockito.CALLS_REAL_METHODS);
+        ConversionContext customContext2 = Mockito.mock(ConversionContext.class, Mockito.CALLS_REAL_METHODS);
+        Assertions.assertNotNull(customContext1.getConversionSettings());
+        Assertions.assertSame(customContext1.getConversionSettings(), customContext2.getConversionSettings());
+        Assertions.assertFalse(customContext1.isTracingEnabled());
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.converter;
+
+import com.github.vladislavsevruk.converter.context.ConversionContext;
+import com.github.vladislavsevruk.converter.converter.parameterized.array.ArrayToListConverter;
+import com.github.vladislavsevruk.converter.converter.simple.ClassTypeConverter;
+import com.github.vladislavsevruk.converter.converter.simple.number.NumberToIntegerConverter;
+import com.github.vladislavsevruk.converter.converter.simple.string.ObjectToStringConverter;
+import com.github.vladislavsevruk.converter.converter.simple.string.number.CharSequenceToIntegerConverter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class TypeConverterIndexTest {
+
+    private TypeConverter arrayToListConverter;
+    private TypeConverter charSequenceToIntegerConverter;
+    @Mock
+    private ClassTypeConverter<?> classTypeConverter;
+    @Mock
+    private ConversionContext conversionContext;
+    private List<TypeConverter> converters;
+    private TypeConverter numberToIntegerConverter;
+    private TypeConverter objectToStringConverter;
+
+    @BeforeEach
+    void setUp() {
+        arrayToListConverter = new ArrayToListConverter(conversionContext);
+        charSequenceToIntegerConverter = new CharSequenceToIntegerConverter();
+        numberToIntegerConverter = new NumberToIntegerConverter();
+        objectToStringConverter = new ObjectToStringConverter();
+        converters = Arrays.asList(charSequenceToIntegerConverter, classTypeConverter, numberToIntegerConverter,
+                arrayToListConverter, objectToStringConverter);
+    }
+
+    @Test
+    void getCandidatesForArrayTest() {
+        TypeConverterIndex index = new TypeConverterIndex(converters);
+        Assertions.assertEquals(converters, index.getCandidates(String[].class));
+    }
+
+    @Test
+    void getCandidatesForClassTest() {
+        TypeConverterIndex index = new TypeConverterIndex(converters);
+        List<TypeConverter> expected = Arrays
+                .asList(classTypeConverter, numberToIntegerConverter, arrayToListConverter, objectToStringConverter);
+        Assertions.assertEquals(expected, index.getCandidates(Long.class));
+    }
+
+    @Test
+    void getCandidatesForInterfaceTest() {
+        TypeConverterIndex index = new TypeConverterIndex(converters);
+        List<TypeConverter> expected = Arrays.asList(charSequenceToIntegerConverter, classTypeConverter,
+                arrayToListConverter, objectToStringConverter);
+        Assertions.assertEquals(expected, index.getCandidates(CharSequence.class));
+    }
+
+    @Test
+    void getCandidatesForInterfaceImplementationTest() {
+        TypeConverterIndex index = new TypeConverterIndex(converters);
+        List<TypeConverter> expected = Arrays.asList(charSequenceToIntegerConverter, classTypeConverter,
+                arrayToListConverter, objectToStringConverter);
+        Assertions.assertEquals(expected, index.getCandidates(String.class));
+    }
+
+    @Test
+    void getCandidatesForPrimitiveTest() {
+        TypeConverterIndex index = new TypeConverterIndex(converters);
+        List<TypeConverter> expected = Arrays.asList(classTypeConverter, arrayToListConverter);
+        Assertions.assertEquals(expected, index.getCandidates(int.class));
+    }
+
+    @Test
+    void isBuiltForAnotherListTest() {
+        TypeConverterIndex index = new TypeConverterIndex(converters);
+        Assertions.assertFalse(index.isBuiltFor(Arrays.asList(converters.toArray(new TypeConverter[0]))));
+    }
+
+    @Test
+    void isBuiltForSameListTest() {
+        TypeConverterIndex index = new TypeConverterIndex(converters);
+        Assertions.assertTrue(index.isBuiltFor(converters));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.converter.parameterized.array;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class PrimitiveArrayTypeTest {
+
+    @Test
+    void copyFloatingPointToIntegralTest() {
+        double[] from = new double[]{ 1.7, -3.2, 300.0 };
+        byte[] to = new byte[from.length];
+        PrimitiveArrayType.copyNumeric(from, PrimitiveArrayType.DOUBLE, to, PrimitiveArrayType.BYTE);
+        Assertions.assertArrayEquals(new byte[]{ 1, -3, (byte) 300 }, to);
+    }
+
+    @Test
+    void copyIntegralToFloatingPointTest() {
+        long[] from = new long[]{ 1L, -2L };
+        float[] to = new float[from.length];
+        PrimitiveArrayType.copyNumeric(from, PrimitiveArrayType.LONG, to, PrimitiveArrayType.FLOAT);
+        Assertions.assertArrayEquals(new float[]{ 1f, -2f }, to);
+    }
+
+    @Test
+    void copyIntegralToIntegralTest() {
+        char[] from = new char[]{ 'a', 'b' };
+        short[] to = new short[from.length];
+        PrimitiveArrayType.copyNumeric(from, PrimitiveArrayType.CHAR, to, PrimitiveArrayType.SHORT);
+        Assertions.assertArrayEquals(new short[]{ 97, 98 }, to);
+    }
+
+    @Test
+    void getNumericValueOfBooleanArrayTest() {
+        boolean[] array = new boolean[]{ true };
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> PrimitiveArrayType.BOOLEAN.getLong(array, 0));
+    }
+
+    @Test
+    void ofNonPrimitiveTypeTest() {
+        Assertions.assertNull(PrimitiveArrayType.of(Integer.class));
+    }
+
+    @Test
+    void ofPrimitiveTypeTest() {
+        Assertions.assertEquals(PrimitiveArrayType.INT, PrimitiveArrayType.of(int.class));
+        Assertions.assertEquals(Integer.class, PrimitiveArrayType.INT.getWrapperType());
+    }
+
+    @Test
+    void setAndGetBoxedValueTest() {
+        int[] array = new int[1];
+        PrimitiveArrayType.INT.set(array, 0, 5);
+        Assertions.assertEquals(5, PrimitiveArrayType.INT.get(array, 0));
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.converter.parameterized.custom;
+
+import com.github.vladislavsevruk.converter.context.ConversionContext;
+import com.github.vladislavsevruk.converter.context.ConversionSettings;
+import com.github.vladislavsevruk.converter.converter.storage.TypeConverterStorage;
+import com.github.vladislavsevruk.converter.instrumentation.NoOpConversionInstrumentation;
+import com.github.vladislavsevruk.converter.mapper.CustomGetterSetterMappingStorage;
+import com.github.vladislavsevruk.converter.mapper.GetterSetterMapper;
+import com.github.vladislavsevruk.converter.mapper.method.MappedMethod;
+import com.github.vladislavsevruk.converter.test.acceptor.MethodPrefixesAcceptorModel;
+import com.github.vladislavsevruk.converter.test.donor.MethodPrefixesDonorModel;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Method;
+
+@ExtendWith(MockitoExtension.class)
+class CustomTypeConverterTest {
+
+    private static final int DONOR_GETTERS_NUMBER = 6;
+    @Mock
+    private ConversionContext conversionContext;
+    private ConversionSettings conversionSettings = new ConversionSettings();
+    @Mock
+    private CustomGetterSetterMappingStorage customGetterSetterMappingStorage;
+    @Mock
+    private GetterSetterMapper getterSetterMapper;
+    @Mock
+    private TypeConverterStorage typeConverterStorage;
+
+    @BeforeEach
+    void setUpContext() {
+        Mockito.lenient().when(conversionContext.getConversionInstrumentation())
+                .thenReturn(NoOpConversionInstrumentation.INSTANCE);
+        Mockito.when(conversionContext.getConversionSettings()).thenReturn(conversionSettings);
+        Mockito.when(conversionContext.getCustomGetterSetterMappingStorage())
+                .thenReturn(customGetterSetterMappingStorage);
+        Mockito.when(conversionContext.getGetterSetterMapper()).thenReturn(getterSetterMapper);
+        Mockito.when(conversionContext.getTypeConverterStorage()).thenReturn(typeConverterStorage);
+    }
+
+    @Test
+    void convertAfterCustomMappingsModificationTest() {
+        Mockito.when(customGetterSetterMappingStorage.getModificationCount()).thenReturn(0L, 0L, 1L);
+        CustomTypeConverter converter = new CustomTypeConverter(conversionContext);
+        TypeMeta<MethodPrefixesAcceptorModel> toMeta = new TypeMeta<>(MethodPrefixesAcceptorModel.class);
+        converter.convert(new MethodPrefixesDonorModel(), toMeta);
+        converter.convert(new MethodPrefixesDonorModel(), toMeta);
+        Mockito.verify(getterSetterMapper, Mockito.times(DONOR_GETTERS_NUMBER * 2))
+                .mapMatchingSetter(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(),
+                        ArgumentMatchers.any());
+    }
+
+    @Test
+    void convertAfterTypeConvertersModificationTest() {
+        Mockito.when(typeConverterStorage.getModificationCount()).thenReturn(0L, 0L, 1L);
+        CustomTypeConverter converter = new CustomTypeConverter(conversionContext);
+        TypeMeta<MethodPrefixesAcceptorModel> toMeta = new TypeMeta<>(MethodPrefixesAcceptorModel.class);
+        converter.convert(new MethodPrefixesDonorModel(), toMeta);
+        converter.convert(new MethodPrefixesDonorModel(), toMeta);
+        Mockito.verify(getterSetterMapper, Mockito.times(DONOR_GETTERS_NUMBER * 2))
+                .mapMatchingSetter(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(),
+                        ArgumentMatchers.any());
+    }
+
+    @Test
+    void convertIntoExistingInstanceTest() throws NoSuchMethodException {
+        Method donorMethod = MethodPrefixesDonorModel.class.getMethod("methodsWithoutPrefixes");
+        MappedMethod mappedMethod = new MappedMethod(
+                MethodPrefixesAcceptorModel.class.getMethod("methodsWithoutPrefixes", String.class));
+        Mockito.when(getterSetterMapper
+                .mapMatchingSetter(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(),
+                        ArgumentMatchers.any()))
+                .thenAnswer(invocation -> donorMethod.equals(invocation.getArgument(0)) ? mappedMethod : null);
+        CustomTypeConverter converter = new CustomTypeConverter(conversionContext);
+        TypeMeta<MethodPrefixesAcceptorModel> toMeta = new TypeMeta<>(MethodPrefixesAcceptorModel.class);
+        MethodPrefixesDonorModel donor = new MethodPrefixesDonorModel();
+        MethodPrefixesAcceptorModel acceptor = new MethodPrefixesAcceptorModel();
+        acceptor.setMethodsWithPrefixes("existingValue");
+        MethodPrefixesAcceptorModel result = converter.convertInto(donor, acceptor, toMeta);
+        Assertions.assertSame(acceptor, result);
+        Assertions.assertEquals(donor.methodsWithoutPrefixes(), result.getMethodsWithoutPrefixes());
+        Assertions.assertEquals("existingValue", result.getMethodsWithPrefixes());
+    }
+
+    @Test
+    void convertWithCachedMappingPlanTest() throws NoSuchMethodException {
+        Method donorMethod = MethodPrefixesDonorModel.class.getMethod("methodsWithoutPrefixes");
+        MappedMethod mappedMethod = new MappedMethod(
+                MethodPrefixesAcceptorModel.class.getMethod("methodsWithoutPrefixes", String.class));
+        Mockito.when(getterSetterMapper
+                .mapMatchingSetter(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(),
+                        ArgumentMatchers.any()))
+                .thenAnswer(invocation -> donorMethod.equals(invocation.getArgument(0)) ? mappedMethod : null);
+        CustomTypeConverter converter = new CustomTypeConverter(conversionContext);
+        TypeMeta<MethodPrefixesAcceptorModel> toMeta = new TypeMeta<>(MethodPrefixesAcceptorModel.class);
+        MethodPrefixesDonorModel donor = new MethodPrefixesDonorModel();
+        MethodPrefixesAcceptorModel result1 = (MethodPrefixesAcceptorModel) converter.convert(donor, toMeta);
+        MethodPrefixesAcceptorModel result2 = (MethodPrefixesAcceptorModel) converter.convert(donor, toMeta);
+        Assertions.assertEquals(donor.methodsWithoutPrefixes(), result1.getMethodsWithoutPrefixes());
+        Assertions.assertEquals(donor.methodsWithoutPrefixes(), result2.getMethodsWithoutPrefixes());
+        Assertions.assertNull(result2.getMethodsWithPrefixes());
+        Mockito.verify(getterSetterMapper, Mockito.times(DONOR_GETTERS_NUMBER))
+                .mapMatchingSetter(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(),
+                        ArgumentMatchers.any());
+    }
+}
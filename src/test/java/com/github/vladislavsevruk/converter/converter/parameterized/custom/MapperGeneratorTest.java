@@ -0,0 +1,222 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.converter.parameterized.custom;
+
+import com.github.vladislavsevruk.converter.context.PropertyCopyPolicy;
+import com.github.vladislavsevruk.converter.converter.simple.ClassTypeConverter;
+import com.github.vladislavsevruk.converter.mapper.method.MappedMethod;
+import com.github.vladislavsevruk.converter.test.acceptor.InterfaceAcceptorModel;
+import com.github.vladislavsevruk.converter.test.acceptor.MethodPrefixesAcceptorModel;
+import com.github.vladislavsevruk.converter.test.acceptor.PartialUpdateAcceptorModel;
+import com.github.vladislavsevruk.converter.test.acceptor.PrimitiveTypesAcceptorModel;
+import com.github.vladislavsevruk.converter.test.donor.MethodPrefixesDonorModel;
+import com.github.vladislavsevruk.converter.test.donor.PartialUpdateDonorModel;
+import com.github.vladislavsevruk.converter.test.donor.PrimitiveTypesDonorModel;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Collections;
+
+class MapperGeneratorTest {
+
+    @Test
+    void generateForInterfaceAcceptorTypeTest() throws NoSuchMethodException {
+        MappingStep step = new MappingStep(PartialUpdateDonorModel.class.getMethod("getName"), null);
+        step.storeResolvedSetter(String.class,
+                new MappedMethod(InterfaceAcceptorModel.class.getMethod("setName", String.class)));
+        MappingPlan plan = new MappingPlan(PartialUpdateDonorModel.class, new TypeMeta<>(InterfaceAcceptorModel.class),
+                Collections.emptyList(), new MappingStep[]{ step });
+        MapperGenerator.generate(plan, PropertyCopyPolicy.SKIP_NULL);
+        Assertions.assertNull(plan.getGeneratedMapper());
+    }
+
+    @Test
+    void generateForNonPublicTypesTest() throws NoSuchMethodException {
+        MappingStep step = new MappingStep(NonPublicModel.class.getMethod("getValue"), null);
+        step.storeResolvedSetter(String.class,
+                new MappedMethod(NonPublicModel.class.getMethod("setValue", String.class)));
+        MappingPlan plan = new MappingPlan(NonPublicModel.class, new TypeMeta<>(NonPublicModel.class),
+                Collections.emptyList(), new MappingStep[]{ step });
+        MapperGenerator.generate(plan, PropertyCopyPolicy.SKIP_NULL);
+        Assertions.assertNull(plan.getGeneratedMapper());
+        Assertions.assertArrayEquals(new MappingStep[]{ step }, plan.getRemainingSteps());
+    }
+
+    @Test
+    void generateAlwaysCopyingMapperTest() throws NoSuchMethodException {
+        MappingPlan plan = createPartialUpdatePlan();
+        MapperGenerator.generate(plan, PropertyCopyPolicy.ALWAYS);
+        GeneratedMapper mapper = plan.getGeneratedMapper();
+        Assertions.assertNotNull(mapper);
+        Assertions.assertEquals(PropertyCopyPolicy.ALWAYS, plan.getGeneratedMapperCopyPolicy());
+        PartialUpdateAcceptorModel acceptor = new PartialUpdateAcceptorModel();
+        acceptor.setName("name");
+        mapper.map(new PartialUpdateDonorModel(), acceptor);
+        Assertions.assertNull(acceptor.getName());
+        Assertions.assertEquals(5, acceptor.getSetterCalls());
+    }
+
+    @Test
+    void generatePrimitiveTypesMapperTest() throws NoSuchMethodException {
+        MappingStep primitiveStep = new MappingStep(PrimitiveTypesDonorModel.class.getMethod("primitiveMethod"), null);
+        primitiveStep.storeResolvedSetter(Integer.class, new MappedMethod(
+                PrimitiveTypesAcceptorModel.class.getMethod("primitiveMethod", int.class)));
+        MappingStep wrapperStep = new MappingStep(
+                PrimitiveTypesDonorModel.class.getMethod("donorMatchingPrimitiveMethod"), null);
+        wrapperStep.storeResolvedSetter(Integer.class, new MappedMethod(
+                PrimitiveTypesAcceptorModel.class.getMethod("donorMatchingPrimitiveMethod", Integer.class)));
+        MappingPlan plan = new MappingPlan(PrimitiveTypesDonorModel.class,
+                new TypeMeta<>(PrimitiveTypesAcceptorModel.class), Collections.emptyList(),
+                new MappingStep[]{ primitiveStep, wrapperStep });
+        MapperGenerator.generate(plan, PropertyCopyPolicy.SKIP_NULL);
+        GeneratedMapper mapper = plan.getGeneratedMapper();
+        Assertions.assertNotNull(mapper);
+        Assertions.assertArrayEquals(new MappingStep[]{ wrapperStep }, plan.getRemainingSteps());
+        PrimitiveTypesDonorModel donor = new PrimitiveTypesDonorModel();
+        PrimitiveTypesAcceptorModel acceptor = new PrimitiveTypesAcceptorModel();
+        mapper.map(donor, acceptor);
+        Assertions.assertEquals(donor.primitiveMethod(), acceptor.primitiveMethod());
+        Assertions.assertNull(acceptor.donorMatchingPrimitiveMethod());
+    }
+
+    @Test
+    void generateNullSkippingMapperTest() throws NoSuchMethodException {
+        MappingPlan plan = createPartialUpdatePlan();
+        MapperGenerator.generate(plan, PropertyCopyPolicy.SKIP_NULL);
+        GeneratedMapper mapper = plan.getGeneratedMapper();
+        Assertions.assertNotNull(mapper);
+        PartialUpdateAcceptorModel acceptor = new PartialUpdateAcceptorModel();
+        acceptor.setName("name");
+        mapper.map(new PartialUpdateDonorModel(), acceptor);
+        Assertions.assertEquals("name", acceptor.getName());
+        Assertions.assertEquals(4, acceptor.getSetterCalls());
+    }
+
+    @Test
+    void generateReferenceTypesMapperTest() throws NoSuchMethodException {
+        MappingStep step = new MappingStep(MethodPrefixesDonorModel.class.getMethod("methodsWithoutPrefixes"), null);
+        step.storeResolvedSetter(String.class, new MappedMethod(
+                MethodPrefixesAcceptorModel.class.getMethod("methodsWithoutPrefixes", String.class)));
+        MappingPlan plan = new MappingPlan(MethodPrefixesDonorModel.class,
+                new TypeMeta<>(MethodPrefixesAcceptorModel.class), Collections.emptyList(), new MappingStep[]{ step });
+        MapperGenerator.generate(plan, PropertyCopyPolicy.SKIP_NULL);
+        GeneratedMapper mapper = plan.getGeneratedMapper();
+        Assertions.assertNotNull(mapper);
+        Assertions.assertEquals(0, plan.getRemainingSteps().length);
+        MethodPrefixesDonorModel donor = new MethodPrefixesDonorModel();
+        MethodPrefixesAcceptorModel acceptor = new MethodPrefixesAcceptorModel();
+        mapper.map(donor, acceptor);
+        Assertions.assertEquals(donor.methodsWithoutPrefixes(), acceptor.getMethodsWithoutPrefixes());
+    }
+
+    @Test
+    void generateUnchangedSkippingMapperComparesDoublesByBitsTest() throws NoSuchMethodException {
+        MappingPlan plan = createPartialUpdatePlan();
+        MapperGenerator.generate(plan, PropertyCopyPolicy.SKIP_UNCHANGED);
+        GeneratedMapper mapper = plan.getGeneratedMapper();
+        Assertions.assertNotNull(mapper);
+        PartialUpdateDonorModel donor = new PartialUpdateDonorModel();
+        donor.setPrice(Double.NaN);
+        PartialUpdateAcceptorModel acceptor = new PartialUpdateAcceptorModel();
+        acceptor.setPrice(Double.NaN);
+        int setterCalls = acceptor.getSetterCalls();
+        mapper.map(donor, acceptor);
+        Assertions.assertEquals(setterCalls, acceptor.getSetterCalls());
+        donor.setPrice(-0.0);
+        acceptor.setPrice(0.0);
+        setterCalls = acceptor.getSetterCalls();
+        mapper.map(donor, acceptor);
+        Assertions.assertEquals(setterCalls + 1, acceptor.getSetterCalls());
+        Assertions.assertEquals(-0.0, acceptor.getPrice());
+    }
+
+    @Test
+    void generateUnchangedSkippingMapperTest() throws NoSuchMethodException {
+        MappingPlan plan = createPartialUpdatePlan();
+        MapperGenerator.generate(plan, PropertyCopyPolicy.SKIP_UNCHANGED);
+        GeneratedMapper mapper = plan.getGeneratedMapper();
+        Assertions.assertNotNull(mapper);
+        PartialUpdateDonorModel donor = new PartialUpdateDonorModel();
+        donor.setCount(1);
+        donor.setName("name");
+        donor.setPrice(2.5);
+        donor.setTotal(3L);
+        PartialUpdateAcceptorModel acceptor = new PartialUpdateAcceptorModel();
+        acceptor.setCount(1);
+        acceptor.setName(new String("name"));
+        acceptor.setPrice(2.5);
+        mapper.map(donor, acceptor);
+        Assertions.assertEquals(3L, acceptor.getTotal());
+        Assertions.assertEquals(4, acceptor.getSetterCalls());
+        donor.setPrice(4.0);
+        mapper.map(donor, acceptor);
+        Assertions.assertEquals(4.0, acceptor.getPrice());
+        Assertions.assertEquals(5, acceptor.getSetterCalls());
+    }
+
+    @Test
+    void generateWithConverterTest() throws NoSuchMethodException {
+        MappingStep step = new MappingStep(PrimitiveTypesDonorModel.class.getMethod("nonMatchingPrimitiveMethod"),
+                null);
+        step.storeResolvedSetter(Integer.class, new MappedMethod(
+                PrimitiveTypesAcceptorModel.class.getMethod("nonMatchingPrimitiveMethod", short.class),
+                Mockito.mock(ClassTypeConverter.class)));
+        MappingPlan plan = new MappingPlan(PrimitiveTypesDonorModel.class,
+                new TypeMeta<>(PrimitiveTypesAcceptorModel.class), Collections.emptyList(), new MappingStep[]{ step });
+        MapperGenerator.generate(plan, PropertyCopyPolicy.SKIP_NULL);
+        Assertions.assertNull(plan.getGeneratedMapper());
+    }
+
+    private MappingPlan createPartialUpdatePlan() throws NoSuchMethodException {
+        MappingStep countStep = createPartialUpdateStep("Count", int.class, Integer.class);
+        MappingStep nameStep = createPartialUpdateStep("Name", String.class, String.class);
+        MappingStep priceStep = createPartialUpdateStep("Price", double.class, Double.class);
+        MappingStep totalStep = createPartialUpdateStep("Total", long.class, Long.class);
+        return new MappingPlan(PartialUpdateDonorModel.class, new TypeMeta<>(PartialUpdateAcceptorModel.class),
+                Collections.emptyList(), new MappingStep[]{ countStep, nameStep, priceStep, totalStep });
+    }
+
+    private MappingStep createPartialUpdateStep(String property, Class<?> type, Class<?> valueClass)
+            throws NoSuchMethodException {
+        MappingStep step = new MappingStep(PartialUpdateDonorModel.class.getMethod("get" + property), null);
+        step.storeResolvedSetter(valueClass,
+                new MappedMethod(PartialUpdateAcceptorModel.class.getMethod("set" + property, type)));
+        return step;
+    }
+
+    static class NonPublicModel {
+
+        private String value;
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.converter.parameterized.custom;
+
+import com.github.vladislavsevruk.converter.context.PropertyCopyPolicy;
+import com.github.vladislavsevruk.converter.test.acceptor.PartialUpdateAcceptorModel;
+import com.github.vladislavsevruk.converter.test.donor.PartialUpdateDonorModel;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+class MappingPlanTest {
+
+    @Test
+    void registerInvocationAfterPolicyChangeTest() {
+        MappingPlan plan = createPlan();
+        Assertions.assertFalse(plan.registerInvocation(2, PropertyCopyPolicy.SKIP_NULL));
+        Assertions.assertTrue(plan.registerInvocation(2, PropertyCopyPolicy.SKIP_NULL));
+        Assertions.assertFalse(plan.registerInvocation(2, PropertyCopyPolicy.ALWAYS));
+        Assertions.assertTrue(plan.registerInvocation(2, PropertyCopyPolicy.ALWAYS));
+        Assertions.assertFalse(plan.registerInvocation(2, PropertyCopyPolicy.ALWAYS));
+        Assertions.assertFalse(plan.registerInvocation(2, PropertyCopyPolicy.SKIP_NULL));
+        Assertions.assertTrue(plan.registerInvocation(2, PropertyCopyPolicy.SKIP_NULL));
+    }
+
+    @Test
+    void registerInvocationTest() {
+        MappingPlan plan = createPlan();
+        Assertions.assertFalse(plan.registerInvocation(2, PropertyCopyPolicy.SKIP_NULL));
+        Assertions.assertTrue(plan.registerInvocation(2, PropertyCopyPolicy.SKIP_NULL));
+        Assertions.assertFalse(plan.registerInvocation(2, PropertyCopyPolicy.SKIP_NULL));
+        Assertions.assertFalse(plan.registerInvocation(2, PropertyCopyPolicy.SKIP_NULL));
+    }
+
+    private MappingPlan createPlan() {
+        return new MappingPlan(PartialUpdateDonorModel.class, new TypeMeta<>(PartialUpdateAcceptorModel.class),
+                Collections.emptyList(), new MappingStep[0]);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.converter.parameterized.enumeration;
+
+import com.github.vladislavsevruk.converter.test.AliasedTestEnum;
+import com.github.vladislavsevruk.converter.test.TestEnum;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.CharBuffer;
+
+class EnumLookupTableTest {
+
+    @Test
+    void findByAliasTest() {
+        EnumLookupTable<AliasedTestEnum> table = new EnumLookupTable<>(AliasedTestEnum.class);
+        Assertions.assertEquals(AliasedTestEnum.ACTIVE, table.find("active", false));
+        Assertions.assertEquals(AliasedTestEnum.ACTIVE, table.find("1", false));
+    }
+
+    @Test
+    void findByNameTest() {
+        EnumLookupTable<TestEnum> table = new EnumLookupTable<>(TestEnum.class);
+        Assertions.assertEquals(TestEnum.ONE, table.find("ONE", false));
+        Assertions.assertEquals(TestEnum.TWO, table.find(new StringBuilder("TWO"), false));
+        Assertions.assertEquals(TestEnum.TWO, table.find(CharBuffer.wrap("TWO"), true));
+    }
+
+    @Test
+    void findIgnoringCaseTest() {
+        EnumLookupTable<AliasedTestEnum> table = new EnumLookupTable<>(AliasedTestEnum.class);
+        Assertions.assertNull(table.find("mixed", false));
+        Assertions.assertEquals(AliasedTestEnum.Mixed, table.find("mixed", true));
+        Assertions.assertEquals(AliasedTestEnum.Mixed, table.find("MIXED", true));
+        Assertions.assertEquals(AliasedTestEnum.ACTIVE, table.find("Active", true));
+        Assertions.assertNull(table.find("mixe", true));
+    }
+
+    @Test
+    void findMissingTest() {
+        EnumLookupTable<TestEnum> table = new EnumLookupTable<>(TestEnum.class);
+        Assertions.assertNull(table.find("THREE", false));
+        Assertions.assertNull(table.find("", false));
+        Assertions.assertNull(table.find("one", false));
+    }
+
+    @Test
+    void nameHasPriorityOverAliasTest() {
+        EnumLookupTable<AliasedTestEnum> table = new EnumLookupTable<>(AliasedTestEnum.class);
+        Assertions.assertEquals(AliasedTestEnum.ACTIVE, table.find("ACTIVE", false));
+        Assertions.assertEquals(AliasedTestEnum.INACTIVE, table.find("INACTIVE", true));
+    }
+}
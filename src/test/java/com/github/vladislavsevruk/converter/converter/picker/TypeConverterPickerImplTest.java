@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.converter.picker;
+
+import com.github.vladislavsevruk.converter.context.ConversionContext;
+import com.github.vladislavsevruk.converter.converter.simple.ClassTypeConverter;
+import com.github.vladislavsevruk.converter.converter.simple.number.NumberToLongConverter;
+import com.github.vladislavsevruk.converter.converter.storage.TypeConverterStorage;
+import com.github.vladislavsevruk.converter.converter.storage.TypeConverterStorageImpl;
+import com.github.vladislavsevruk.converter.instrumentation.InMemoryConversionInstrumentation;
+import com.github.vladislavsevruk.converter.instrumentation.NoOpConversionInstrumentation;
+import com.github.vladislavsevruk.converter.mapper.CustomGetterSetterMappingStorage;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+
+@ExtendWith(MockitoExtension.class)
+class TypeConverterPickerImplTest {
+
+    @Mock
+    private ClassTypeConverter<Long> classTypeConverter;
+    @Mock
+    private ConversionContext conversionContext;
+    @Mock
+    private CustomGetterSetterMappingStorage customGetterSetterMappingStorage;
+    private TypeConverterStorage typeConverterStorage;
+
+    @BeforeEach
+    void setUpStorage() {
+        typeConverterStorage = new TypeConverterStorageImpl(conversionContext);
+        Mockito.when(conversionContext.getTypeConverterStorage()).thenReturn(typeConverterStorage);
+        Mockito.when(conversionContext.getCustomGetterSetterMappingStorage())
+                .thenReturn(customGetterSetterMappingStorage);
+        Mockito.lenient().when(conversionContext.getConversionInstrumentation())
+                .thenReturn(NoOpConversionInstrumentation.INSTANCE);
+    }
+
+    @Test
+    void pickCachedConverterTest() {
+        TypeConverterPicker picker = new TypeConverterPickerImpl(conversionContext);
+        TypeMeta<Long> toMeta = new TypeMeta<>(Long.class);
+        ClassTypeConverter<Long> converter = picker.pickConverter(Integer.class, toMeta);
+        Assertions.assertEquals(NumberToLongConverter.class, converter.getClass());
+        Assertions.assertSame(converter, picker.pickConverter(Integer.class, new TypeMeta<>(Long.class)));
+    }
+
+    @Test
+    void pickConverterAfterStorageModificationTest() {
+        TypeConverterPicker picker = new TypeConverterPickerImpl(conversionContext);
+        TypeMeta<Long> toMeta = new TypeMeta<>(Long.class);
+        Assertions.assertEquals(NumberToLongConverter.class, picker.pickConverter(Integer.class, toMeta).getClass());
+        Mockito.when(classTypeConverter.canConvert(Integer.class, Long.class)).thenReturn(true);
+        typeConverterStorage.add(classTypeConverter);
+        Assertions.assertSame(classTypeConverter, picker.pickConverter(Integer.class, toMeta));
+    }
+
+    @Test
+    void pickConverterWithCacheMetricsTest() {
+        InMemoryConversionInstrumentation instrumentation = new InMemoryConversionInstrumentation();
+        Mockito.when(conversionContext.getConversionInstrumentation()).thenReturn(instrumentation);
+        TypeConverterPicker picker = new TypeConverterPickerImpl(conversionContext);
+        picker.pickConverter(Integer.class, new TypeMeta<>(Long.class));
+        picker.pickConverter(Integer.class, new TypeMeta<>(Long.class));
+        picker.pickConverter(Boolean.class, new TypeMeta<>(Long.class));
+        picker.pickConverter(Boolean.class, new TypeMeta<>(Long.class));
+        picker.pickConverter(Boolean.class, new TypeMeta<>(Long.class));
+        Assertions.assertEquals(3, instrumentation.getConverterCacheHits());
+        Assertions.assertEquals(2, instrumentation.getConverterCacheMisses());
+    }
+
+    @Test
+    void pickConverterWithCacheOverflowTest() {
+        TypeConverterPicker picker = new TypeConverterPickerImpl(conversionContext, 1);
+        ClassTypeConverter<Long> longConverter = picker.pickConverter(Integer.class, new TypeMeta<>(Long.class));
+        Assertions.assertNotNull(picker.pickConverter(Integer.class, new TypeMeta<>(String.class)));
+        Assertions.assertSame(longConverter, picker.pickConverter(Integer.class, new TypeMeta<>(Long.class)));
+    }
+
+    @Test
+    void pickMissingConverterAfterStorageModificationTest() {
+        TypeConverterPicker picker = new TypeConverterPickerImpl(conversionContext);
+        TypeMeta<Long> toMeta = new TypeMeta<>(Long.class);
+        Assertions.assertNull(picker.pickConverter(Boolean.class, toMeta));
+        Mockito.when(classTypeConverter.canConvert(Mockito.any(), Mockito.any())).thenReturn(true);
+        typeConverterStorage.add(classTypeConverter);
+        Assertions.assertSame(classTypeConverter, picker.pickConverter(Boolean.class, toMeta));
+    }
+
+    @Test
+    void pickMissingConverterTest() {
+        TypeConverterPicker picker = new TypeConverterPickerImpl(conversionContext);
+        Assertions.assertNull(picker.pickConverter(Boolean.class, new TypeMeta<>(Date.class)));
+        Assertions.assertNull(picker.pickConverter(Boolean.class, new TypeMeta<>(Date.class)));
+    }
+}
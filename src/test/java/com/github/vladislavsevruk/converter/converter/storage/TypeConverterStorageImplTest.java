@@ -508,6 +508,34 @@ class TypeConverterStorageImplTest {
         Assertions.assertEquals(numberOfConvertersBefore, numberOfConvertersAfter);
     }
 
+    @Test
+    void getAllAfterModificationTest() {
+        TypeConverterStorage typeConverterStorage = new TypeConverterStorageImpl(conversionContext);
+        List<TypeConverter> convertersBefore = typeConverterStorage.getAll();
+        int numberOfConvertersBefore = convertersBefore.size();
+        typeConverterStorage.add(classTypeConverter);
+        Assertions.assertEquals(numberOfConvertersBefore, convertersBefore.size());
+        Assertions.assertEquals(numberOfConvertersBefore + 1, typeConverterStorage.getAll().size());
+    }
+
+    @Test
+    void getAllReturnsUnmodifiableListTest() {
+        TypeConverterStorage typeConverterStorage = new TypeConverterStorageImpl(conversionContext);
+        List<TypeConverter> typeConverters = typeConverterStorage.getAll();
+        Assertions.assertSame(typeConverters, typeConverterStorage.getAll());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> typeConverters.add(classTypeConverter));
+    }
+
+    @Test
+    void getModificationCountTest() {
+        TypeConverterStorage typeConverterStorage = new TypeConverterStorageImpl(conversionContext);
+        long modificationCountBefore = typeConverterStorage.getModificationCount();
+        typeConverterStorage.add((ClassTypeConverter) null);
+        Assertions.assertEquals(modificationCountBefore, typeConverterStorage.getModificationCount());
+        typeConverterStorage.add(classTypeConverter);
+        Assertions.assertEquals(modificationCountBefore + 1, typeConverterStorage.getModificationCount());
+    }
+
     @Test
     void isDefaultConverterDefaultClassConverterTest() {
         TypeConverterStorage typeConverterStorage = new TypeConverterStorageImpl(conversionContext);
@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.engine;
+
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class IdentityTableTest {
+
+    @Test
+    void clearTest() {
+        IdentityTable table = new IdentityTable();
+        Object source = new Object();
+        table.put(source, new TypeMeta<>(String.class), "target");
+        table.clear();
+        Assertions.assertEquals(0, table.size());
+        Assertions.assertNull(table.get(source, new TypeMeta<>(String.class)));
+    }
+
+    @Test
+    void equalSourcesAreDistinguishedTest() {
+        IdentityTable table = new IdentityTable();
+        String source = "source";
+        table.put(source, new TypeMeta<>(Long.class), 1L);
+        Assertions.assertNull(table.get(new String(source), new TypeMeta<>(Long.class)));
+        Assertions.assertEquals(1L, table.get(source, new TypeMeta<>(Long.class)));
+    }
+
+    @Test
+    void putSeveralTargetTypesTest() {
+        IdentityTable table = new IdentityTable();
+        Object source = new Object();
+        table.put(source, new TypeMeta<>(List.class, new TypeMeta<?>[]{ new TypeMeta<>(Long.class) }), "longs");
+        table.put(source, new TypeMeta<>(List.class, new TypeMeta<?>[]{ new TypeMeta<>(String.class) }), "strings");
+        Assertions.assertEquals(2, table.size());
+        Assertions.assertEquals("longs",
+                table.get(source, new TypeMeta<>(List.class, new TypeMeta<?>[]{ new TypeMeta<>(Long.class) })));
+        Assertions.assertEquals("strings",
+                table.get(source, new TypeMeta<>(List.class, new TypeMeta<?>[]{ new TypeMeta<>(String.class) })));
+    }
+
+    @Test
+    void replaceTargetTest() {
+        IdentityTable table = new IdentityTable();
+        Object source = new Object();
+        table.put(source, new TypeMeta<>(String.class), "first");
+        table.put(source, new TypeMeta<>(String.class), "second");
+        Assertions.assertEquals(1, table.size());
+        Assertions.assertEquals("second", table.get(source, new TypeMeta<>(String.class)));
+    }
+
+    @Test
+    void resizeTest() {
+        IdentityTable table = new IdentityTable();
+        Object[] sources = new Object[10000];
+        for (int i = 0; i < sources.length; ++i) {
+            sources[i] = new Object();
+            table.put(sources[i], new TypeMeta<>(Integer.class), i);
+        }
+        Assertions.assertEquals(sources.length, table.size());
+        for (int i = 0; i < sources.length; ++i) {
+            Assertions.assertEquals(i, table.get(sources[i], new TypeMeta<>(Integer.class)));
+        }
+        table.clear();
+        Assertions.assertNull(table.get(sources[0], new TypeMeta<>(Integer.class)));
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.instrumentation;
+
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+class InMemoryConversionInstrumentationTest {
+
+    @Test
+    void recordConversionFailureTest() {
+        InMemoryConversionInstrumentation instrumentation = new InMemoryConversionInstrumentation();
+        instrumentation.recordConversion(String.class, new TypeMeta<>(Long.class), 100, false);
+        instrumentation.recordConversionFailure(String.class, new TypeMeta<>(Long.class), 300);
+        TypePairMetricsSnapshot metrics = instrumentation.getTypePairMetrics(String.class, new TypeMeta<>(Long.class));
+        Assertions.assertEquals(2, metrics.getInvocations());
+        Assertions.assertEquals(1, metrics.getFailures());
+        Assertions.assertEquals(0, metrics.getNullResults());
+        Assertions.assertEquals(200, metrics.getMeanLatencyNanos());
+        Assertions.assertEquals(300, metrics.getMaxLatencyNanos());
+    }
+
+    @Test
+    void recordConversionTest() {
+        InMemoryConversionInstrumentation instrumentation = new InMemoryConversionInstrumentation();
+        instrumentation.recordConversion(String.class, new TypeMeta<>(Long.class), 10, false);
+        instrumentation.recordConversion(String.class, new TypeMeta<>(Long.class), 10, true);
+        instrumentation.recordConversion(String.class, new TypeMeta<>(Integer.class), 10, false);
+        TypePairMetricsSnapshot metrics = instrumentation.getTypePairMetrics(String.class, new TypeMeta<>(Long.class));
+        Assertions.assertEquals(2, metrics.getInvocations());
+        Assertions.assertEquals(0, metrics.getFailures());
+        Assertions.assertEquals(1, metrics.getNullResults());
+        Assertions.assertEquals(10, metrics.getMedianLatencyNanos());
+        Assertions.assertEquals(10, metrics.getPercentile99LatencyNanos());
+        Assertions.assertEquals(String.class.getName(), metrics.getSourceType());
+        Assertions.assertEquals(2, instrumentation.getTypePairMetrics().size());
+        Assertions.assertNull(instrumentation.getTypePairMetrics(Long.class, new TypeMeta<>(String.class)));
+    }
+
+    @Test
+    void recordConverterResolutionTest() {
+        InMemoryConversionInstrumentation instrumentation = new InMemoryConversionInstrumentation();
+        instrumentation.recordConverterResolution(true);
+        instrumentation.recordConverterResolution(true);
+        instrumentation.recordConverterResolution(false);
+        Assertions.assertEquals(2, instrumentation.getConverterCacheHits());
+        Assertions.assertEquals(1, instrumentation.getConverterCacheMisses());
+    }
+
+    @Test
+    void registerMBeanTest() throws JMException {
+        InMemoryConversionInstrumentation instrumentation = new InMemoryConversionInstrumentation();
+        instrumentation.recordConversion(String.class, new TypeMeta<>(Long.class), 10, false);
+        instrumentation.recordConverterResolution(false);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = instrumentation
+                .registerMBean(InMemoryConversionInstrumentation.DEFAULT_OBJECT_NAME + ",name=registerMBeanTest");
+        try {
+            Assertions.assertEquals(1L, server.getAttribute(name, "ConverterCacheMisses"));
+            CompositeData[] metrics = (CompositeData[]) server.getAttribute(name, "TypePairMetrics");
+            Assertions.assertEquals(1, metrics.length);
+            Assertions.assertEquals(String.class.getName(), metrics[0].get("sourceType"));
+            Assertions.assertEquals(1L, metrics[0].get("invocations"));
+            server.invoke(name, "reset", null, null);
+            Assertions.assertEquals(0L, server.getAttribute(name, "ConverterCacheMisses"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+
+    @Test
+    void resetTest() {
+        InMemoryConversionInstrumentation instrumentation = new InMemoryConversionInstrumentation();
+        instrumentation.recordConversion(String.class, new TypeMeta<>(Long.class), 10, false);
+        instrumentation.recordConverterResolution(true);
+        instrumentation.reset();
+        List<TypePairMetricsSnapshot> metrics = instrumentation.getTypePairMetrics();
+        Assertions.assertTrue(metrics.isEmpty());
+        Assertions.assertEquals(0, instrumentation.getConverterCacheHits());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.instrumentation;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void bucketBoundsTest() {
+        for (int i = 1; i < LatencyHistogram.BUCKET_COUNT; ++i) {
+            long lowerBound = LatencyHistogram.getBucketUpperBound(i - 1) + 1;
+            Assertions.assertEquals(i, LatencyHistogram.getBucketIndex(lowerBound));
+            Assertions.assertEquals(i, LatencyHistogram.getBucketIndex(LatencyHistogram.getBucketUpperBound(i)));
+        }
+        Assertions.assertEquals(Long.MAX_VALUE,
+                LatencyHistogram.getBucketUpperBound(LatencyHistogram.BUCKET_COUNT - 1));
+    }
+
+    @Test
+    void bucketIndexTest() {
+        Assertions.assertEquals(0, LatencyHistogram.getBucketIndex(0));
+        Assertions.assertEquals(15, LatencyHistogram.getBucketIndex(15));
+        Assertions.assertEquals(16, LatencyHistogram.getBucketIndex(16));
+        Assertions.assertEquals(31, LatencyHistogram.getBucketIndex(31));
+        Assertions.assertEquals(32, LatencyHistogram.getBucketIndex(32));
+        Assertions.assertEquals(32, LatencyHistogram.getBucketIndex(33));
+        Assertions.assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.getBucketIndex(Long.MAX_VALUE));
+    }
+
+    @Test
+    void emptyHistogramTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assertions.assertEquals(0, histogram.getCount());
+        Assertions.assertEquals(0, histogram.getMax());
+        Assertions.assertEquals(0, histogram.getMean());
+        Assertions.assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    void percentileTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; ++i) {
+            histogram.record(i * 1000L);
+        }
+        Assertions.assertEquals(100, histogram.getCount());
+        Assertions.assertEquals(100_000, histogram.getMax());
+        Assertions.assertEquals(50_500, histogram.getMean());
+        assertWithinRelativeError(50_000, histogram.getValueAtPercentile(50));
+        assertWithinRelativeError(99_000, histogram.getValueAtPercentile(99));
+        Assertions.assertEquals(100_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void recordNegativeValueTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        Assertions.assertEquals(1, histogram.getCount());
+        Assertions.assertEquals(0, histogram.getMax());
+        Assertions.assertEquals(0, histogram.getValueAtPercentile(100));
+    }
+
+    private void assertWithinRelativeError(long expected, long actual) {
+        Assertions.assertTrue(actual >= expected, () -> actual + " is less than " + expected);
+        Assertions.assertTrue(actual <= expected + expected / 16, () -> actual + " is too far from " + expected);
+    }
+}
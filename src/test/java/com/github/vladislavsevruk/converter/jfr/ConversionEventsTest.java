@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.jfr;
+
+import com.github.vladislavsevruk.converter.ModelConverter;
+import com.github.vladislavsevruk.converter.test.acceptor.FromNumberAcceptorModel;
+import com.github.vladislavsevruk.converter.test.donor.FromNumberDonorModel;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+class ConversionEventsTest {
+
+    @Test
+    void conversionEventsTest() throws IOException {
+        Assumptions.assumeTrue(JfrSupport.isAvailable());
+        List<RecordedEvent> events = recordEvents(() -> new ModelConverter()
+                .convert(new FromNumberDonorModel(), FromNumberAcceptorModel.class));
+        RecordedEvent conversionEvent = events.stream()
+                .filter(event -> "com.github.vladislavsevruk.converter.Conversion".equals(event.getEventType().getName()))
+                .findAny().orElse(null);
+        Assertions.assertNotNull(conversionEvent);
+        Assertions.assertEquals(FromNumberDonorModel.class.getName(),
+                conversionEvent.getClass("sourceType").getName());
+        Assertions.assertEquals(-1, conversionEvent.getInt("elementCount"));
+        Assertions.assertFalse(conversionEvent.getBoolean("failed"));
+        Assertions.assertTrue(events.stream().anyMatch(event -> "com.github.vladislavsevruk.converter.InstanceCreation"
+                .equals(event.getEventType().getName()) && FromNumberAcceptorModel.class.getName()
+                .equals(event.getClass("instanceType").getName())));
+        Assertions.assertTrue(events.stream().anyMatch(
+                event -> "com.github.vladislavsevruk.converter.ConverterResolution"
+                        .equals(event.getEventType().getName())));
+    }
+
+    @Test
+    void elementCountTest() throws IOException {
+        Assumptions.assumeTrue(JfrSupport.isAvailable());
+        List<RecordedEvent> events = recordEvents(
+                () -> new ModelConverter().convert(new Integer[]{ 1, 2, 3 }, Long[].class));
+        List<Integer> elementCounts = events.stream()
+                .filter(event -> "com.github.vladislavsevruk.converter.Conversion".equals(event.getEventType().getName()))
+                .map(event -> event.getInt("elementCount")).collect(Collectors.toList());
+        Assertions.assertTrue(elementCounts.contains(3));
+    }
+
+    private List<RecordedEvent> recordEvents(Runnable conversion) throws IOException {
+        Path dump = Files.createTempFile("conversion-events", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                for (String eventName : Arrays.asList("com.github.vladislavsevruk.converter.Conversion",
+                        "com.github.vladislavsevruk.converter.ConverterResolution",
+                        "com.github.vladislavsevruk.converter.InstanceCreation")) {
+                    recording.enable(eventName).withoutThreshold();
+                }
+                recording.start();
+                conversion.run();
+                recording.stop();
+                recording.dump(dump);
+            }
+            return RecordingFile.readAllEvents(dump);
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+    }
+}
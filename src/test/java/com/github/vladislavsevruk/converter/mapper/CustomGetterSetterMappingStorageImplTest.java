@@ -91,6 +91,17 @@ class CustomGetterSetterMappingStorageImplTest {
                 () -> storage.addGetterSetterMapping(donorMethod, acceptorMethod));
     }
 
+    @Test
+    void getModificationCountTest() throws Throwable {
+        Method donorMethod = CustomMappingDonorModel.class.getMethod("donorMatchingType");
+        Method acceptorMethod = CustomMappingAcceptorModel.class.getMethod("acceptorMatchingType", String.class);
+        CustomGetterSetterMappingStorage storage = new CustomGetterSetterMappingStorageImpl(
+                ConversionContextManager.getContext());
+        long modificationCountBefore = storage.getModificationCount();
+        storage.addGetterSetterMapping(donorMethod, acceptorMethod);
+        Assertions.assertEquals(modificationCountBefore + 1, storage.getModificationCount());
+    }
+
     @Test
     void subclassesMappingsArePreferableTest() throws Throwable {
         Method donorMethod = CustomMappingDonorModel.class.getMethod("donorMatchingType");
@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.mapper.accessor;
+
+import com.github.vladislavsevruk.converter.test.acceptor.MethodPrefixesAcceptorModel;
+import com.github.vladislavsevruk.converter.test.acceptor.PrimitiveTypesAcceptorModel;
+import com.github.vladislavsevruk.converter.test.donor.MethodPrefixesDonorModel;
+import com.github.vladislavsevruk.converter.test.donor.PrimitiveTypesDonorModel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+class MethodAccessorFactoryTest {
+
+    @Test
+    void getterAccessorForNonPublicClassTest() throws ReflectiveOperationException {
+        Method method = NonPublicModel.class.getMethod("getValue");
+        Assertions.assertEquals("value", MethodAccessorFactory.getterAccessor(method).getValue(new NonPublicModel()));
+    }
+
+    @Test
+    void getterAccessorIsCachedTest() throws NoSuchMethodException {
+        Method method = MethodPrefixesDonorModel.class.getMethod("methodsWithoutPrefixes");
+        Assertions.assertSame(MethodAccessorFactory.getterAccessor(method),
+                MethodAccessorFactory.getterAccessor(method));
+    }
+
+    @Test
+    void getterAccessorTest() throws ReflectiveOperationException {
+        MethodPrefixesDonorModel donor = new MethodPrefixesDonorModel();
+        Method method = MethodPrefixesDonorModel.class.getMethod("methodsWithoutPrefixes");
+        Assertions.assertEquals(donor.methodsWithoutPrefixes(),
+                MethodAccessorFactory.getterAccessor(method).getValue(donor));
+    }
+
+    @Test
+    void getterAccessorWrapsExceptionTest() throws NoSuchMethodException {
+        Method method = NonPublicModel.class.getMethod("throwException");
+        GetterAccessor accessor = MethodAccessorFactory.getterAccessor(method);
+        InvocationTargetException exception = Assertions
+                .assertThrows(InvocationTargetException.class, () -> accessor.getValue(new NonPublicModel()));
+        Assertions.assertEquals(UnsupportedOperationException.class, exception.getCause().getClass());
+    }
+
+    @Test
+    void primitiveCopyAccessorForNonPrimitiveTypesTest() throws NoSuchMethodException {
+        Method getter = PrimitiveTypesDonorModel.class.getMethod("donorMatchingPrimitiveMethod");
+        Method setter = PrimitiveTypesAcceptorModel.class.getMethod("donorMatchingPrimitiveMethod", Integer.class);
+        Assertions.assertNull(MethodAccessorFactory.primitiveCopyAccessor(getter, setter));
+    }
+
+    @Test
+    void primitiveCopyAccessorForNonPublicClassTest() throws NoSuchMethodException {
+        Method getter = PrimitiveTypesDonorModel.class.getMethod("primitiveMethod");
+        Method setter = NonPublicModel.class.getMethod("setNumber", int.class);
+        Assertions.assertNull(MethodAccessorFactory.primitiveCopyAccessor(getter, setter));
+    }
+
+    @Test
+    void primitiveCopyAccessorTest() throws ReflectiveOperationException {
+        PrimitiveTypesDonorModel donor = new PrimitiveTypesDonorModel();
+        PrimitiveTypesAcceptorModel acceptor = new PrimitiveTypesAcceptorModel();
+        Method getter = PrimitiveTypesDonorModel.class.getMethod("nonMatchingPrimitiveMethod");
+        Method setter = PrimitiveTypesAcceptorModel.class.getMethod("nonMatchingPrimitiveMethod", short.class);
+        MethodAccessorFactory.primitiveCopyAccessor(getter, setter).copyValue(donor, acceptor);
+        Assertions.assertEquals((short) donor.nonMatchingPrimitiveMethod(), acceptor.nonMatchingPrimitiveMethod());
+    }
+
+    @Test
+    void setterAccessorForNonPublicClassTest() throws ReflectiveOperationException {
+        NonPublicModel model = new NonPublicModel();
+        Method method = NonPublicModel.class.getMethod("setValue", String.class);
+        MethodAccessorFactory.setterAccessor(method).setValue(model, "newValue");
+        Assertions.assertEquals("newValue", model.getValue());
+    }
+
+    @Test
+    void setterAccessorTest() throws ReflectiveOperationException {
+        MethodPrefixesAcceptorModel acceptor = new MethodPrefixesAcceptorModel();
+        Method method = MethodPrefixesAcceptorModel.class.getMethod("setMethodsWithPrefixes", String.class);
+        MethodAccessorFactory.setterAccessor(method).setValue(acceptor, "methodsWithPrefixes");
+        Assertions.assertEquals("methodsWithPrefixes", acceptor.getMethodsWithPrefixes());
+    }
+
+    @Test
+    void setterAccessorWithPrimitiveParameterTest() throws ReflectiveOperationException {
+        NonPublicModel model = new NonPublicModel();
+        Method method = NonPublicModel.class.getMethod("setNumber", int.class);
+        MethodAccessorFactory.setterAccessor(method).setValue(model, 5);
+        Assertions.assertEquals(5, model.number);
+    }
+
+    static class NonPublicModel {
+
+        private int number;
+        private String value = "value";
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setNumber(int number) {
+            this.number = number;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+
+        public String throwException() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.test.donor;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class FromPrimitiveArrayDonorModel {
+
+    public char[] charArrayToIntArray() {
+        return new char[]{ 'a', 'b' };
+    }
+
+    public double[] doubleArrayToIntArray() {
+        return new double[]{ 1.9, -2.5 };
+    }
+
+    public int[] intArrayToIntArray() {
+        return new int[]{ 1, 2 };
+    }
+
+    public int[] intArrayToIntegerArray() {
+        return new int[]{ 3, 4 };
+    }
+
+    public int[] intArrayToIntegerList() {
+        return new int[]{ 5, 6 };
+    }
+
+    public int[] intArrayToLongArray() {
+        return new int[]{ 7, 8 };
+    }
+
+    public int[] intArrayToStringArray() {
+        return new int[]{ 9, 10 };
+    }
+
+    public Integer[] integerArrayToIntArray() {
+        return new Integer[]{ 11, null, 12 };
+    }
+
+    public List<Integer> integerListToLongArray() {
+        return Arrays.asList(13, 14);
+    }
+
+    public long[] longArrayToStringList() {
+        return new long[]{ 15L, 16L };
+    }
+
+    public String[] stringArrayToIntArray() {
+        return new String[]{ "17", "18" };
+    }
+}
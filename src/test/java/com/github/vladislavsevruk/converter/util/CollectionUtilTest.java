@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+class CollectionUtilTest {
+
+    @Test
+    void getHashCapacityForLargeSizeTest() {
+        Assertions.assertEquals(Integer.MAX_VALUE, CollectionUtil.getHashCapacity(1 << 30));
+    }
+
+    @Test
+    void getHashCapacityForSmallSizeTest() {
+        Assertions.assertEquals(1, CollectionUtil.getHashCapacity(0));
+        Assertions.assertEquals(3, CollectionUtil.getHashCapacity(2));
+    }
+
+    @Test
+    void getHashCapacityTest() {
+        Assertions.assertEquals(134, CollectionUtil.getHashCapacity(100));
+    }
+
+    @Test
+    void toCollectionForCollectionTest() {
+        List<Integer> list = Arrays.asList(1, 2);
+        Assertions.assertSame(list, CollectionUtil.toCollection(list));
+    }
+
+    @Test
+    void toCollectionForIterableTest() {
+        Iterable<Integer> iterable = () -> Arrays.asList(1, 2).iterator();
+        Collection<Integer> collection = CollectionUtil.toCollection(iterable);
+        Assertions.assertEquals(Arrays.asList(1, 2), collection);
+        Assertions.assertEquals(Collections.emptyList(),
+                CollectionUtil.toCollection((Iterable<Integer>) Collections::emptyIterator));
+    }
+}
@@ -60,7 +60,7 @@ class InstanceCreationUtilTest {
 
     @Test
     void createInstanceOfClassWithSeveralPublicConstructorsIncludesWithoutArgsTest() {
-        ArrayList list = InstanceCreationUtil.createItem(ArrayList.class);
+        ArrayList<?> list = InstanceCreationUtil.createItem(ArrayList.class);
         Assertions.assertNotNull(list);
     }
 
@@ -73,4 +73,22 @@ class InstanceCreationUtilTest {
     void createInstanceOfInterfaceTest() {
         Assertions.assertThrows(InstanceCreationException.class, () -> InstanceCreationUtil.createItem(List.class));
     }
+
+    @Test
+    void createSeveralInstancesOfClassWithPublicConstructorWithoutArgsTest() {
+        ArrayList<?> firstList = InstanceCreationUtil.createItem(ArrayList.class);
+        ArrayList<?> secondList = InstanceCreationUtil.createItem(ArrayList.class);
+        Assertions.assertNotNull(firstList);
+        Assertions.assertNotNull(secondList);
+        Assertions.assertNotSame(firstList, secondList);
+    }
+
+    @Test
+    void repeatedCreationOfClassWithoutPublicConstructorWithoutArgsTest() {
+        InstanceCreationException firstException = Assertions
+                .assertThrows(InstanceCreationException.class, () -> InstanceCreationUtil.createItem(Long.class));
+        InstanceCreationException secondException = Assertions
+                .assertThrows(InstanceCreationException.class, () -> InstanceCreationUtil.createItem(Long.class));
+        Assertions.assertEquals(firstException.getMessage(), secondException.getMessage());
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.converter.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+class NumberParseUtilTest {
+
+    private static final List<String> DECIMAL_VALUES = Arrays
+            .asList("0", "-0", "+1", "1.", ".5", "0.1", "-12.345", "1e10", "1E-5", "2.5e+3f", "7d", "  3.25 ", "NaN",
+                    "-Infinity", "0x1.8p1", "123456789012345678901234567890", "0.30000000000000004", "1e400",
+                    "4.9e-324", "16777217", "3.4028235e38", "", " ", "-", ".", "e5", "1e", "1.2.3", "1,5", "abc",
+                    "1f2", "--1", "1e5x");
+    private static final List<String> INTEGRAL_VALUES = Arrays
+            .asList("0", "-0", "+7", "127", "128", "-128", "-129", "32767", "32768", "-32769", "2147483647",
+                    "2147483648", "-2147483648", "-2147483649", "9223372036854775807", "9223372036854775808",
+                    "-9223372036854775808", "-09223372036854775808", "-9223372036854775809", "00012", "\u0661\u0662",
+                    "", " 1", "1 ", "-", "+", "1.0", "1e2", "abc", "12a");
+
+    @Test
+    void parseByteTest() {
+        assertIntegral(NumberParseUtil::parseByte, Byte::valueOf);
+    }
+
+    @Test
+    void parseDoubleRandomValuesTest() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10000; ++i) {
+            String value = random.nextInt(1000000) + "." + random.nextInt(1000) + "e" + (random.nextInt(40) - 20);
+            Assertions.assertEquals(Double.valueOf(value), NumberParseUtil.parseDouble(value), value);
+            Assertions.assertEquals(Float.valueOf(value), NumberParseUtil.parseFloat(value), value);
+            String doubleValue = Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(20)));
+            Assertions.assertEquals(Double.valueOf(doubleValue), NumberParseUtil.parseDouble(doubleValue), doubleValue);
+        }
+    }
+
+    @Test
+    void parseDoubleTest() {
+        assertDecimal(NumberParseUtil::parseDouble, Double::valueOf);
+    }
+
+    @Test
+    void parseFloatTest() {
+        assertDecimal(NumberParseUtil::parseFloat, Float::valueOf);
+    }
+
+    @Test
+    void parseFromNonStringCharSequenceTest() {
+        Assertions.assertEquals(Integer.valueOf(-15), NumberParseUtil.parseInteger(new StringBuilder("-15")));
+        Assertions.assertEquals(Double.valueOf(2.5), NumberParseUtil.parseDouble(CharBuffer.wrap("2.5")));
+    }
+
+    @Test
+    void parseIntegerTest() {
+        assertIntegral(NumberParseUtil::parseInteger, Integer::valueOf);
+    }
+
+    @Test
+    void parseLongTest() {
+        assertIntegral(NumberParseUtil::parseLong, Long::valueOf);
+    }
+
+    @Test
+    void parseShortTest() {
+        assertIntegral(NumberParseUtil::parseShort, Short::valueOf);
+    }
+
+    private void assertDecimal(Function<CharSequence, Number> parser, Function<String, Number> expectedParser) {
+        for (String value : DECIMAL_VALUES) {
+            Assertions.assertEquals(parseExpected(expectedParser, value), parser.apply(value), value);
+        }
+    }
+
+    private void assertIntegral(Function<CharSequence, Number> parser, Function<String, Number> expectedParser) {
+        for (String value : INTEGRAL_VALUES) {
+            Assertions.assertEquals(parseExpected(expectedParser, value), parser.apply(value), value);
+        }
+    }
+
+    private Number parseExpected(Function<String, Number> expectedParser, String value) {
+        try {
+            return expectedParser.apply(value);
+        } catch (NumberFormatException nuFoEx) {
+            return null;
+        }
+    }
+}